@@ -1,66 +1,114 @@
 package jeju.bear.config;
 
-import org.springframework.cache.CacheManager;
+import jeju.bear.config.cache.CacheInvalidationPublisher;
+import jeju.bear.config.cache.CompactCacheSerializer;
+import jeju.bear.config.cache.TwoLevelCacheManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    private static final Duration DEFAULT_TTL = Duration.ofHours(1); // 캐시 유효기간 1시간
+
+    // 캐시별 TTL
+    private static final Map<String, Duration> CACHE_TTLS = Map.of(
+            "places", Duration.ofHours(24),       // 24시간 유효
+            "rooms", Duration.ofHours(12),        // 12시간 유효
+            "place-details", Duration.ofHours(6)  // 6시간 유효 (상세 정보는 자주 변경될 수 있음)
+    );
+
+    @Value("${cache.local.maximum-size:1000}")
+    private long localMaximumSize;
+
+    @Value("${cache.local.ttl-seconds:300}")
+    private long localTtlSeconds;
+
+    @Value("${cache.invalidation-channel:cache:invalidate}")
+    private String invalidationChannel;
+
+    // 값 직렬화 방식: compact(바이너리 + LZ4) | json
+    @Value("${cache.serializer:compact}")
+    private String serializerType;
+
+    @Value("${cache.compression-threshold-bytes:1024}")
+    private int compressionThreshold;
+
+    @Bean
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+        RedisSerializer<Object> cacheValueSerializer = cacheValueSerializer();
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(redisCacheConfiguration(DEFAULT_TTL, cacheValueSerializer).disableCachingNullValues());
+        CACHE_TTLS.forEach((name, ttl) ->
+                builder.withCacheConfiguration(name, redisCacheConfiguration(ttl, cacheValueSerializer)));
+        return builder.build();
+    }
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(RedisTemplate<String, String> redisTemplate) {
+        return new CacheInvalidationPublisher(redisTemplate, invalidationChannel, UUID.randomUUID().toString());
+    }
+
+    // L1(Caffeine) + L2(Redis) 복합 캐시 매니저. @Cacheable은 이 매니저를 사용한다.
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofHours(1)) // 캐시 유효기간 1시간
+    @Primary
+    public TwoLevelCacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                             CacheInvalidationPublisher cacheInvalidationPublisher) {
+        Duration localTtl = Duration.ofSeconds(localTtlSeconds);
+        return new TwoLevelCacheManager(
+                redisCacheManager,
+                cacheInvalidationPublisher,
+                name -> min(localTtl, CACHE_TTLS.getOrDefault(name, DEFAULT_TTL)),
+                localMaximumSize);
+    }
+
+    // 다른 노드의 캐시 변경을 수신해 L1을 무효화
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(invalidationChannel));
+        return container;
+    }
+
+    private RedisSerializer<Object> cacheValueSerializer() {
+        if ("json".equalsIgnoreCase(serializerType)) {
+            return new GenericJackson2JsonRedisSerializer();
+        }
+        return new CompactCacheSerializer(compressionThreshold);
+    }
+
+    private RedisCacheConfiguration redisCacheConfiguration(Duration ttl, RedisSerializer<Object> valueSerializer) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ttl)
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
                 )
                 .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())
-                )
-                .disableCachingNullValues();
-
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(cacheConfiguration)
-                .withCacheConfiguration("places", // places 캐시에 대한 특별 설정
-                        RedisCacheConfiguration.defaultCacheConfig()
-                                .entryTtl(Duration.ofHours(24)) // 24시간 유효
-                                .serializeKeysWith(
-                                        RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
-                                )
-                                .serializeValuesWith(
-                                        RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())
-                                )
-                )
-                .withCacheConfiguration("rooms", // rooms 캐시에 대한 특별 설정
-                        RedisCacheConfiguration.defaultCacheConfig()
-                                .entryTtl(Duration.ofHours(12)) // 12시간 유효
-                                .serializeKeysWith(
-                                        RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
-                                )
-                                .serializeValuesWith(
-                                        RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())
-                                )
-                )
-                .withCacheConfiguration("place-details", // place-details 캐시에 대한 특별 설정
-                        RedisCacheConfiguration.defaultCacheConfig()
-                                .entryTtl(Duration.ofHours(6)) // 6시간 유효 (상세 정보는 자주 변경될 수 있음)
-                                .serializeKeysWith(
-                                        RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
-                                )
-                                .serializeValuesWith(
-                                        RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())
-                                )
-                )
-                .build();
+                        RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer)
+                );
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package jeju.bear.config.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * L1 캐시 무효화 메시지를 Redis pub/sub 채널로 발행한다.
+ * 메시지 형식: {@code E|nodeId|cacheName|key} (단건 삭제), {@code C|nodeId|cacheName} (전체 삭제)
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    static final String TYPE_EVICT = "E";
+    static final String TYPE_CLEAR = "C";
+    static final String DELIMITER = "|";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String channel;
+    private final String nodeId;
+
+    public CacheInvalidationPublisher(RedisTemplate<String, String> redisTemplate, String channel, String nodeId) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.nodeId = nodeId;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(String.join(DELIMITER, TYPE_EVICT, nodeId, cacheName, key));
+    }
+
+    public void publishClear(String cacheName) {
+        publish(String.join(DELIMITER, TYPE_CLEAR, nodeId, cacheName));
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (Exception e) {
+            // 무효화 실패는 L1 TTL로 복구되므로 요청 자체는 실패시키지 않음
+            log.warn("캐시 무효화 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+}
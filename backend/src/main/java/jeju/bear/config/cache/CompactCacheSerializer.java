@@ -0,0 +1,266 @@
+package jeju.bear.config.cache;
+
+import jeju.bear.place.dto.PlaceDto;
+import jeju.bear.place.dto.RoomDto;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 캐시 값 전용 바이너리 직렬화기.
+ * List&lt;PlaceDto&gt;, List&lt;RoomDto&gt;는 필드 순서 고정 바이너리로 인코딩하고, 그 외 타입은 JSON으로 저장한다.
+ *
+ * <pre>
+ * [version:1][type:1][flags:1][(원본 길이:4)][payload]
+ * </pre>
+ * flags의 첫 비트가 켜져 있으면 payload는 LZ4 블록 압축되어 있다.
+ * 버전 바이트가 없는 기존 JSON 값도 읽을 수 있으므로 무중단 전환이 가능하다.
+ */
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+    static final byte FORMAT_VERSION = 1;
+
+    private static final byte TYPE_JSON = 0;
+    private static final byte TYPE_PLACE_LIST = 1;
+    private static final byte TYPE_ROOM_LIST = 2;
+
+    private static final byte FLAG_LZ4 = 0x01;
+    private static final int HEADER_SIZE = 3;
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+    private final int compressionThreshold;
+
+    public CompactCacheSerializer(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            byte type;
+            byte[] payload;
+            if (isListOf(value, PlaceDto.class)) {
+                type = TYPE_PLACE_LIST;
+                payload = writePlaces((List<?>) value);
+            } else if (isListOf(value, RoomDto.class)) {
+                type = TYPE_ROOM_LIST;
+                payload = writeRooms((List<?>) value);
+            } else {
+                type = TYPE_JSON;
+                payload = jsonSerializer.serialize(value);
+            }
+            return frame(type, payload);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != FORMAT_VERSION) {
+            // 이전 포맷(GenericJackson2JsonRedisSerializer)으로 저장된 값
+            return jsonSerializer.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_SIZE) {
+            throw new SerializationException("잘못된 캐시 값 헤더");
+        }
+
+        byte type = bytes[1];
+        byte flags = bytes[2];
+        byte[] payload;
+        if ((flags & FLAG_LZ4) != 0) {
+            int originalLength = ByteBuffer.wrap(bytes, HEADER_SIZE, 4).getInt();
+            payload = new byte[originalLength];
+            decompressor.decompress(bytes, HEADER_SIZE + 4, payload, 0, originalLength);
+        } else {
+            payload = new byte[bytes.length - HEADER_SIZE];
+            System.arraycopy(bytes, HEADER_SIZE, payload, 0, payload.length);
+        }
+
+        try {
+            return switch (type) {
+                case TYPE_PLACE_LIST -> readPlaces(payload);
+                case TYPE_ROOM_LIST -> readRooms(payload);
+                case TYPE_JSON -> jsonSerializer.deserialize(payload);
+                default -> throw new SerializationException("알 수 없는 캐시 값 타입: " + type);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 역직렬화 실패", e);
+        }
+    }
+
+    private byte[] frame(byte type, byte[] payload) {
+        if (payload.length >= compressionThreshold) {
+            byte[] compressed = new byte[compressor.maxCompressedLength(payload.length)];
+            int compressedLength = compressor.compress(payload, 0, payload.length, compressed, 0);
+            if (compressedLength < payload.length) {
+                return ByteBuffer.allocate(HEADER_SIZE + 4 + compressedLength)
+                        .put(FORMAT_VERSION).put(type).put(FLAG_LZ4)
+                        .putInt(payload.length)
+                        .put(compressed, 0, compressedLength)
+                        .array();
+            }
+        }
+        return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .put(FORMAT_VERSION).put(type).put((byte) 0)
+                .put(payload)
+                .array();
+    }
+
+    private boolean isListOf(Object value, Class<?> elementType) {
+        if (!(value instanceof List<?> list) || list.isEmpty()) {
+            return false;
+        }
+        for (Object element : list) {
+            if (element == null || element.getClass() != elementType) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ===== PlaceDto =====
+
+    private byte[] writePlaces(List<?> places) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(places.size() * 128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(places.size());
+        for (Object element : places) {
+            PlaceDto place = (PlaceDto) element;
+            writeNullableLong(out, place.getId());
+            writeString(out, place.getName());
+            writeString(out, place.getGrade());
+            writeNullableDouble(out, place.getLatitude());
+            writeNullableDouble(out, place.getLongitude());
+            writeString(out, place.getImageUrl());
+            writeString(out, place.getAddress());
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<PlaceDto> readPlaces(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        int size = in.readInt();
+        List<PlaceDto> places = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            PlaceDto place = new PlaceDto();
+            place.setId(readNullableLong(in));
+            place.setName(readString(in));
+            place.setGrade(readString(in));
+            place.setLatitude(readNullableDouble(in));
+            place.setLongitude(readNullableDouble(in));
+            place.setImageUrl(readString(in));
+            place.setAddress(readString(in));
+            places.add(place);
+        }
+        return places;
+    }
+
+    // ===== RoomDto =====
+
+    private byte[] writeRooms(List<?> rooms) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(rooms.size() * 256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(rooms.size());
+        for (Object element : rooms) {
+            RoomDto room = (RoomDto) element;
+            writeString(out, room.getRoomId());
+            writeString(out, room.getRoomName());
+            writeNullableLong(out, room.getPrice());
+            List<String> images = room.getImages();
+            out.writeInt(images != null ? images.size() : -1);
+            if (images != null) {
+                for (String image : images) {
+                    writeString(out, image);
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<RoomDto> readRooms(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        int size = in.readInt();
+        List<RoomDto> rooms = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String roomId = readString(in);
+            String roomName = readString(in);
+            Long price = readNullableLong(in);
+            int imageCount = in.readInt();
+            List<String> images = null;
+            if (imageCount >= 0) {
+                images = new ArrayList<>(imageCount);
+                for (int j = 0; j < imageCount; j++) {
+                    images.add(readString(in));
+                }
+            }
+            rooms.add(new RoomDto(roomId, roomName, price, images));
+        }
+        return rooms;
+    }
+
+    // ===== primitives =====
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] encoded = new byte[length];
+        in.readFully(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+
+    private void writeNullableLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private Long readNullableLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private void writeNullableDouble(DataOutputStream out, Double value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeDouble(value);
+        }
+    }
+
+    private Double readNullableDouble(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readDouble() : null;
+    }
+}
@@ -0,0 +1,125 @@
+package jeju.bear.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 로컬(Caffeine) L1 + Redis L2 캐시.
+ * 조회는 L1 → L2 순서로 하고, 쓰기/삭제는 L2에 반영한 뒤 다른 노드의 L1을 무효화한다.
+ */
+public class TwoLevelCache implements org.springframework.cache.Cache {
+
+    private final String name;
+    private final Cache<String, ValueWrapper> local;
+    private final org.springframework.cache.Cache remote;
+    private final CacheInvalidationPublisher publisher;
+
+    public TwoLevelCache(String name,
+                         Cache<String, ValueWrapper> local,
+                         org.springframework.cache.Cache remote,
+                         CacheInvalidationPublisher publisher) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        ValueWrapper wrapper = local.getIfPresent(localKey);
+        if (wrapper != null) {
+            return wrapper;
+        }
+
+        wrapper = remote.get(key);
+        if (wrapper != null) {
+            local.put(localKey, wrapper);
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        // Redis 캐시의 동기화된 로더를 그대로 사용 (같은 노드 내 중복 로딩 방지)
+        T value = remote.get(key, valueLoader);
+        local.put(toLocalKey(key), new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(toLocalKey(key), new SimpleValueWrapper(value));
+        publisher.publishEvict(name, toLocalKey(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        local.put(toLocalKey(key), existing != null ? existing : new SimpleValueWrapper(value));
+        if (existing == null) {
+            publisher.publishEvict(name, toLocalKey(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(toLocalKey(key));
+        publisher.publishEvict(name, toLocalKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        publisher.publishClear(name);
+    }
+
+    // 다른 노드에서 받은 무효화 메시지 처리 (L1만 비움)
+    void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
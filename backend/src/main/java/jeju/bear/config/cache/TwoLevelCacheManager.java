@@ -0,0 +1,81 @@
+package jeju.bear.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Redis 캐시 매니저 앞에 캐시별 Caffeine L1을 붙인 복합 캐시 매니저.
+ * 다른 노드에서 발행한 무효화 메시지를 받아 L1을 비운다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationPublisher publisher;
+    private final Function<String, Duration> localTtlResolver;
+    private final long localMaximumSize;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                CacheInvalidationPublisher publisher,
+                                Function<String, Duration> localTtlResolver,
+                                long localMaximumSize) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.publisher = publisher;
+        this.localTtlResolver = localTtlResolver;
+        this.localMaximumSize = localMaximumSize;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new TwoLevelCache(
+                n,
+                Caffeine.newBuilder()
+                        .maximumSize(localMaximumSize)
+                        .expireAfterWrite(localTtlResolver.apply(n))
+                        .build(),
+                remote,
+                publisher));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + CacheInvalidationPublisher.DELIMITER, 4);
+        if (parts.length < 3 || publisher.getNodeId().equals(parts[1])) {
+            return; // 잘못된 메시지이거나 자기 자신이 발행한 메시지
+        }
+
+        TwoLevelCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return; // 이 노드에서 아직 사용하지 않은 캐시
+        }
+
+        if (CacheInvalidationPublisher.TYPE_CLEAR.equals(parts[0])) {
+            cache.clearLocal();
+        } else if (CacheInvalidationPublisher.TYPE_EVICT.equals(parts[0]) && parts.length == 4) {
+            cache.evictLocal(parts[3]);
+        }
+        log.debug("L1 캐시 무효화 수신: {}", body);
+    }
+}
@@ -33,4 +33,10 @@ public class ApiResponse<T> {
         String status = errorCode.getHttpStatus().value() + " " + errorCode.getHttpStatus().getReasonPhrase();
         return new ApiResponse<>(status, message, null);
     }
+
+    // 실패 응답에 현재 상태 등을 함께 담는 경우
+    public static <T> ApiResponse<T> onFailure(ErrorCode errorCode, String message, T data) {
+        String status = errorCode.getHttpStatus().value() + " " + errorCode.getHttpStatus().getReasonPhrase();
+        return new ApiResponse<>(status, message, data);
+    }
 }
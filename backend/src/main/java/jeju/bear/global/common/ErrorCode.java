@@ -23,6 +23,7 @@ public enum ErrorCode implements BaseResponseCode {
     DESTINATION_NOT_FOUND(HttpStatus.NOT_FOUND, "목적지를 찾을 수 없습니다."),
     INVALID_DESTINATION_ORDER(HttpStatus.BAD_REQUEST, "잘못된 목적지 순서입니다."),
     DESTINATION_TIME_CONFLICT(HttpStatus.CONFLICT, "해당 시간에 이미 다른 목적지가 존재합니다."),
+    PLAN_EDIT_CONFLICT(HttpStatus.CONFLICT, "다른 사용자가 먼저 여행 계획을 수정했습니다. 최신 일정을 확인해 주세요."),
     TRIP_DAY_NOT_FOUND(HttpStatus.NOT_FOUND, "여행 일자를 찾을 수 없습니다."),
     INVALID_TRIP_DAY(HttpStatus.BAD_REQUEST, "잘못된 여행 일자입니다."),
     INVALID_DESTINATION(HttpStatus.BAD_REQUEST, "잘못된 목적지입니다."),
@@ -0,0 +1,50 @@
+package jeju.bear.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Value("${yeogi.fetch.pool-size:8}")
+    private int yeogiFetchPoolSize;
+
+    @Value("${yeogi.fetch.queue-capacity:200}")
+    private int yeogiFetchQueueCapacity;
+
+    @Value("${plan.optimization.pool-size:2}")
+    private int planOptimizationPoolSize;
+
+    @Value("${plan.optimization.queue-capacity:20}")
+    private int planOptimizationQueueCapacity;
+
+    // 여기어때 객실/가격 병렬 조회용 스레드 풀
+    @Bean
+    public ThreadPoolTaskExecutor yeogiFetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(yeogiFetchPoolSize);
+        executor.setMaxPoolSize(yeogiFetchPoolSize);
+        executor.setQueueCapacity(yeogiFetchQueueCapacity);
+        executor.setThreadNamePrefix("yeogi-fetch-");
+        // 큐가 가득 차면 거절 (요청 스레드에서 실행하지 않음, 호출 쪽에서 오류로 알림)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 여러 날 일정 최적화(CPU 작업)용 스레드 풀, 가득 차면 요청을 거절
+    @Bean
+    public ThreadPoolTaskExecutor planOptimizationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(planOptimizationPoolSize);
+        executor.setMaxPoolSize(planOptimizationPoolSize);
+        executor.setQueueCapacity(planOptimizationQueueCapacity);
+        executor.setThreadNamePrefix("plan-optimize-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -52,7 +52,8 @@ public class SecurityConfig {
                                 "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**",
                                 "/oauth2/**", "/login/oauth2/**", "/error",
                                 "/api/auth/**", "/yeogi/**", "/api/trip-days/**", "/visitjeju/**",
-                                "/api/recommendations/**", "/api/favorites/public-test"
+                                "/api/recommendations/**", "/api/favorites/public-test",
+                                "/ws/**" // STOMP CONNECT 프레임에서 JWT 인증
                         ).permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/post/**").permitAll()
                         .anyRequest().authenticated()
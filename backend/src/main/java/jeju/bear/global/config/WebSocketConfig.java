@@ -0,0 +1,86 @@
+package jeju.bear.global.config;
+
+import jeju.bear.global.jwt.JwtTokenProvider;
+import jeju.bear.plan.service.collaboration.PlanAccessRevoker;
+import jeju.bear.plan.service.collaboration.PlanChangeLog;
+import jeju.bear.plan.service.collaboration.PlanChangeRelay;
+import jeju.bear.plan.service.collaboration.PlanSubscriptionInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * 여행 계획 공동 편집용 STOMP 설정.
+ * 클라이언트는 /ws 로 연결하면서 CONNECT 프레임의 Authorization 헤더로 JWT 를 보내고, /topic/plans/{planId} 를 구독한다.
+ * 노드 간 전달은 Redis pub/sub(PlanChangeRelay)이 맡으므로 브로커는 노드 로컬 simple broker 로 충분하다.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final PlanSubscriptionInterceptor planSubscriptionInterceptor;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOriginPatterns(CorsConfig.ALLOWED_ORIGIN_PATTERNS.toArray(String[]::new));
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker(PlanSubscriptionInterceptor.BROKER_PREFIX);
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new ChannelInterceptor() {
+            // CONNECT 때 한 번 인증하면 이후 프레임은 세션의 사용자로 처리됨
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+                if (accessor != null && accessor.getCommand() == StompCommand.CONNECT) {
+                    String header = accessor.getFirstNativeHeader("Authorization");
+                    if (header == null || !header.startsWith(BEARER_PREFIX)) {
+                        throw new IllegalArgumentException("Missing bearer token");
+                    }
+                    String token = header.substring(BEARER_PREFIX.length()).trim();
+                    jwtTokenProvider.validateToken(token);
+                    accessor.setUser(jwtTokenProvider.getAuthentication(token));
+                }
+                return message;
+            }
+        }, planSubscriptionInterceptor);
+    }
+
+    // 다른 노드에서 발행한 계획 변경 이벤트와 공유 해제(구독 종료) 이벤트 수신
+    @Bean
+    public RedisMessageListenerContainer planChangeListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                     PlanChangeRelay planChangeRelay,
+                                                                     PlanChangeLog planChangeLog,
+                                                                     PlanAccessRevoker planAccessRevoker) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(planChangeRelay, new ChannelTopic(planChangeLog.getChannel()));
+        container.addMessageListener(planAccessRevoker, new ChannelTopic(planAccessRevoker.getChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,39 @@
+package jeju.bear.global.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 여러 노드 중 한 곳에서만 실행할 작업용 Redis 락.
+ * 획득할 때 받은 토큰이 그대로 남아 있을 때만 해제하므로,
+ * 작업이 TTL 보다 오래 걸려 다른 노드가 새로 잡은 락을 지우지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 획득하면 해제용 토큰, 이미 잡혀 있으면 빈 값
+    public Optional<String> tryAcquire(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(locked) ? Optional.of(token) : Optional.empty();
+    }
+
+    public void release(String key, String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+    }
+}
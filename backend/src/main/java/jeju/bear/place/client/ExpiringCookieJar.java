@@ -0,0 +1,94 @@
+package jeju.bear.place.client;
+
+import okhttp3.Cookie;
+import okhttp3.CookieJar;
+import okhttp3.HttpUrl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 동시 요청에서 안전하게 사용할 수 있는 만료 기반 쿠키 저장소.
+ * 도메인별 쿠키 수와 전체 도메인 수를 제한하고, 만료된 쿠키는 조회/저장 시 제거한다.
+ * 세션 쿠키(만료 시각 없음)는 sessionTtl 후 만료된 것으로 본다.
+ */
+public class ExpiringCookieJar implements CookieJar {
+
+    private final Map<String, Map<String, StoredCookie>> store = new ConcurrentHashMap<>();
+    private final long sessionTtlMillis;
+    private final int maxCookiesPerDomain;
+    private final int maxDomains;
+
+    public ExpiringCookieJar(Duration sessionTtl, int maxCookiesPerDomain, int maxDomains) {
+        this.sessionTtlMillis = sessionTtl.toMillis();
+        this.maxCookiesPerDomain = maxCookiesPerDomain;
+        this.maxDomains = maxDomains;
+    }
+
+    @Override
+    public void saveFromResponse(HttpUrl url, List<Cookie> cookies) {
+        long now = System.currentTimeMillis();
+        for (Cookie cookie : cookies) {
+            if (store.size() >= maxDomains && !store.containsKey(cookie.domain())) {
+                purgeExpired(now);
+                if (store.size() >= maxDomains) {
+                    continue; // 도메인 수 한도 초과 - 새 도메인 쿠키는 저장하지 않음
+                }
+            }
+
+            Map<String, StoredCookie> domainCookies = store.computeIfAbsent(cookie.domain(), d -> new ConcurrentHashMap<>());
+            String key = cookie.name() + ";" + cookie.path();
+            if (cookie.expiresAt() <= now) {
+                domainCookies.remove(key); // 서버가 만료시킨 쿠키
+                continue;
+            }
+
+            long expiresAt = cookie.persistent() ? cookie.expiresAt() : now + sessionTtlMillis;
+            domainCookies.put(key, new StoredCookie(cookie, expiresAt));
+            if (domainCookies.size() > maxCookiesPerDomain) {
+                evictSoonestExpiring(domainCookies);
+            }
+        }
+    }
+
+    @Override
+    public List<Cookie> loadForRequest(HttpUrl url) {
+        long now = System.currentTimeMillis();
+        List<Cookie> result = new ArrayList<>();
+        for (Map<String, StoredCookie> domainCookies : store.values()) {
+            Iterator<StoredCookie> iterator = domainCookies.values().iterator();
+            while (iterator.hasNext()) {
+                StoredCookie stored = iterator.next();
+                if (stored.expiresAt() <= now) {
+                    iterator.remove();
+                } else if (stored.cookie().matches(url)) {
+                    result.add(stored.cookie());
+                }
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return store.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private void purgeExpired(long now) {
+        store.values().forEach(domainCookies -> domainCookies.values().removeIf(c -> c.expiresAt() <= now));
+        store.values().removeIf(Map::isEmpty);
+    }
+
+    private void evictSoonestExpiring(Map<String, StoredCookie> domainCookies) {
+        domainCookies.entrySet().stream()
+                .min(Comparator.comparingLong(e -> e.getValue().expiresAt()))
+                .ifPresent(e -> domainCookies.remove(e.getKey()));
+    }
+
+    private record StoredCookie(Cookie cookie, long expiresAt) {
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
 
@@ -20,11 +21,14 @@ public class VisitJejuApiClient {
     private String apiKey;
 
     public VisitJejuResponse getAttractions(String category, int page, int size) {
+        return fetchAttractions(category, page, size).block();
+    }
+
+    public Mono<VisitJejuResponse> fetchAttractions(String category, int page, int size) {
         return webClient.get()
                 .uri(uriBuilder -> buildUri(uriBuilder, category, page, size))
                 .retrieve()
-                .bodyToMono(VisitJejuResponse.class)
-                .block();
+                .bodyToMono(VisitJejuResponse.class);
     }
 
     private URI buildUri(UriBuilder uriBuilder, String category, int page, int size) {
@@ -48,4 +52,4 @@ public class VisitJejuApiClient {
         }
     }
 
-}
\ No newline at end of file
+}
\ No newline at end of file
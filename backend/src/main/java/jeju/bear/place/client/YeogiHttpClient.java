@@ -0,0 +1,173 @@
+package jeju.bear.place.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.brotli.dec.BrotliInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 여기어때 스크래핑 전용 HTTP 클라이언트.
+ * 커넥션 풀/디스패처 크기를 스크래핑 동시성에 맞춰 명시적으로 설정하고,
+ * 풀 사용량과 요청 지연 시간을 Micrometer 지표로 노출한다.
+ */
+@Slf4j
+@Component
+public class YeogiHttpClient {
+
+    private static final String USER_AGENT =
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private final OkHttpClient client;
+    private final ExpiringCookieJar cookieJar;
+
+    public YeogiHttpClient(
+            MeterRegistry meterRegistry,
+            @Value("${yeogi.http.max-idle-connections:16}") int maxIdleConnections,
+            @Value("${yeogi.http.keep-alive-seconds:300}") long keepAliveSeconds,
+            @Value("${yeogi.http.max-requests:64}") int maxRequests,
+            @Value("${yeogi.http.max-requests-per-host:8}") int maxRequestsPerHost,
+            @Value("${yeogi.http.cookie.session-ttl-minutes:30}") long cookieSessionTtlMinutes,
+            @Value("${yeogi.http.cookie.max-per-domain:50}") int maxCookiesPerDomain,
+            @Value("${yeogi.http.cookie.max-domains:20}") int maxCookieDomains
+    ) {
+        ConnectionPool connectionPool = new ConnectionPool(maxIdleConnections, keepAliveSeconds, TimeUnit.SECONDS);
+
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        this.cookieJar = new ExpiringCookieJar(
+                Duration.ofMinutes(cookieSessionTtlMinutes), maxCookiesPerDomain, maxCookieDomains);
+
+        this.client = new OkHttpClient.Builder()
+                .callTimeout(Duration.ofSeconds(20))
+                .connectTimeout(Duration.ofSeconds(15))
+                .readTimeout(Duration.ofSeconds(15))
+                .writeTimeout(Duration.ofSeconds(15))
+                .connectionPool(connectionPool)
+                .dispatcher(dispatcher)
+                // TLS(ALPN)로 협상되는 경우 HTTP/2 멀티플렉싱 사용
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .cookieJar(cookieJar)
+                .addNetworkInterceptor(latencyInterceptor(meterRegistry))
+                .build();
+
+        Gauge.builder("yeogi.http.pool.connections", connectionPool, ConnectionPool::connectionCount)
+                .description("여기어때 커넥션 풀 전체 커넥션 수")
+                .register(meterRegistry);
+        Gauge.builder("yeogi.http.pool.idle", connectionPool, ConnectionPool::idleConnectionCount)
+                .description("여기어때 커넥션 풀 유휴 커넥션 수")
+                .register(meterRegistry);
+        Gauge.builder("yeogi.http.dispatcher.running", dispatcher, Dispatcher::runningCallsCount)
+                .register(meterRegistry);
+        Gauge.builder("yeogi.http.dispatcher.queued", dispatcher, Dispatcher::queuedCallsCount)
+                .register(meterRegistry);
+        Gauge.builder("yeogi.http.cookies", cookieJar, ExpiringCookieJar::size)
+                .register(meterRegistry);
+    }
+
+    public String get(String url) throws IOException {
+        Request request = new Request.Builder()
+                .url(url)
+                .header("User-Agent", USER_AGENT)
+                .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,image/apng,*/*;q=0.8")
+                .header("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7")
+                .header("Accept-Encoding", "gzip, deflate, br")
+                .header("DNT", "1")
+                .header("Upgrade-Insecure-Requests", "1")
+                .header("Sec-Fetch-Dest", "document")
+                .header("Sec-Fetch-Mode", "navigate")
+                .header("Sec-Fetch-Site", "none")
+                .header("Sec-Fetch-User", "?1")
+                .header("sec-ch-ua", "\"Not_A Brand\";v=\"8\", \"Chromium\";v=\"120\", \"Google Chrome\";v=\"120\"")
+                .header("sec-ch-ua-mobile", "?0")
+                .header("sec-ch-ua-platform", "\"macOS\"")
+                .header("Cache-Control", "max-age=0")
+                .build();
+
+        try (Response response = client.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                log.error("HTTP request failed: {} for URL: {}", response.code(), url);
+                throw new IOException("HTTP " + response.code());
+            }
+
+            ResponseBody body = response.body();
+            if (body == null) {
+                throw new IOException("Empty response body");
+            }
+
+            String contentEncoding = response.header("Content-Encoding");
+            byte[] responseBytes = body.bytes();
+
+            log.debug("Response encoding: {}, protocol: {}, bytes length: {}",
+                    contentEncoding, response.protocol(), responseBytes.length);
+
+            String content;
+            if ("gzip".equalsIgnoreCase(contentEncoding)) {
+                try (GZIPInputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(responseBytes))) {
+                    content = new String(gzipStream.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            } else if ("br".equalsIgnoreCase(contentEncoding)) {
+                try (BrotliInputStream brotliStream = new BrotliInputStream(new ByteArrayInputStream(responseBytes))) {
+                    content = new String(brotliStream.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            } else {
+                content = new String(responseBytes, StandardCharsets.UTF_8);
+            }
+
+            log.debug("Final content length: {}, starts with: {}",
+                    content.length(), content.substring(0, Math.min(content.length(), 100)));
+
+            return content;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        client.dispatcher().executorService().shutdown();
+        client.connectionPool().evictAll();
+    }
+
+    private Interceptor latencyInterceptor(MeterRegistry meterRegistry) {
+        return chain -> {
+            Request request = chain.request();
+            long start = System.nanoTime();
+            String status = "IO_ERROR";
+            String protocol = "unknown";
+            try {
+                Response response = chain.proceed(request);
+                status = String.valueOf(response.code());
+                protocol = response.protocol().toString();
+                return response;
+            } finally {
+                Timer.builder("yeogi.http.requests")
+                        .description("여기어때 요청 지연 시간")
+                        .tag("host", request.url().host())
+                        .tag("status", status)
+                        .tag("protocol", protocol)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+}
@@ -1,6 +1,7 @@
 package jeju.bear.place.controller;
 
 import jeju.bear.place.dto.FavoriteDto;
+import jeju.bear.place.dto.FavoriteStateDto;
 import jeju.bear.place.entity.PlaceType;
 import jeju.bear.place.service.FavoriteService;
 import jeju.bear.user.entity.User;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.annotation.PostConstruct;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/favorites")
@@ -25,6 +27,9 @@ public class FavoriteController {
     private final FavoriteService favoriteService;
     private final SecurityUtil securityUtil;
     private final UserRepository userRepository;
+
+    private static final int MAX_STATE_BATCH = 100;
+    private static final int MAX_IMPORT_BATCH = 1000;
     
     // 컨트롤러 초기화 확인용
     @PostConstruct
@@ -153,6 +158,44 @@ public class FavoriteController {
         }
     }
 
+    // 여러 장소의 좋아요 여부와 개수 일괄 조회 (목록 화면용)
+    @PostMapping("/states")
+    public ResponseEntity<ApiResponse<Map<Long, FavoriteStateDto>>> getFavoriteStates(@RequestBody FavoriteBatchRequest request) {
+        List<Long> placeIds = request.getPlaceIds();
+        if (placeIds == null || placeIds.isEmpty() || placeIds.size() > MAX_STATE_BATCH || request.getType() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            Long userId = securityUtil.getCurrentUserId();
+            User user = userRepository.getReferenceById(userId);
+            Map<Long, FavoriteStateDto> states = favoriteService.getFavoriteStates(user, placeIds, request.getType());
+            return ResponseEntity.ok(ApiResponse.onSuccess(states));
+        } catch (Exception e) {
+            log.error("좋아요 상태 일괄 조회 중 오류 발생", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    // 좋아요 일괄 추가 (이미 좋아요한 장소는 무시), 새로 추가된 수 반환
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<Integer>> importFavorites(@RequestBody FavoriteBatchRequest request) {
+        List<Long> placeIds = request.getPlaceIds();
+        if (placeIds == null || placeIds.isEmpty() || placeIds.size() > MAX_IMPORT_BATCH || request.getType() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            Long userId = securityUtil.getCurrentUserId();
+            log.info("좋아요 일괄 추가 요청: userId={}, type={}, count={}", userId, request.getType(), placeIds.size());
+
+            User user = userRepository.getReferenceById(userId);
+            int added = favoriteService.importFavorites(user, placeIds, request.getType());
+            return ResponseEntity.ok(ApiResponse.onSuccess(added));
+        } catch (Exception e) {
+            log.error("좋아요 일괄 추가 중 오류 발생", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     // 좋아요 토글 (추가/제거)
     @PostMapping("/toggle")
     public ResponseEntity<Boolean> toggleFavorite(@RequestBody FavoriteRequest request) {
@@ -199,4 +242,28 @@ public class FavoriteController {
             this.type = type;
         }
     }
+
+    // 일괄 조회/추가 요청 DTO
+    public static class FavoriteBatchRequest {
+        private List<Long> placeIds;
+        private PlaceType type;
+
+        public FavoriteBatchRequest() {}
+
+        public List<Long> getPlaceIds() {
+            return placeIds;
+        }
+
+        public void setPlaceIds(List<Long> placeIds) {
+            this.placeIds = placeIds;
+        }
+
+        public PlaceType getType() {
+            return type;
+        }
+
+        public void setType(PlaceType type) {
+            this.type = type;
+        }
+    }
 }
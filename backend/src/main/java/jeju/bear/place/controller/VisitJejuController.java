@@ -1,16 +1,29 @@
 package jeju.bear.place.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import jeju.bear.common.exception.BusinessException;
 import jeju.bear.place.dto.AttractionDto;
+import jeju.bear.place.dto.ImportJobStatus;
+import jeju.bear.place.dto.NearbyPlaceDto;
+import jeju.bear.place.dto.PlaceBatchRequest;
+import jeju.bear.place.dto.PlaceSearchResultDto;
 import jeju.bear.place.entity.Place;
+import jeju.bear.place.service.NearbyPlaceService;
+import jeju.bear.place.service.PlaceLookupService;
+import jeju.bear.place.service.PlacePopularityService;
+import jeju.bear.place.service.PlaceSearchService;
+import jeju.bear.place.service.VisitJejuImportService;
 import jeju.bear.place.service.VisitJejuService;
+import jeju.bear.place.service.VisitJejuSyncService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,6 +31,12 @@ import java.util.List;
 public class VisitJejuController {
 
     private final VisitJejuService visitJejuService;
+    private final VisitJejuImportService visitJejuImportService;
+    private final VisitJejuSyncService visitJejuSyncService;
+    private final NearbyPlaceService nearbyPlaceService;
+    private final PlaceSearchService placeSearchService;
+    private final PlaceLookupService placeLookupService;
+    private final PlacePopularityService placePopularityService;
 
     @Operation(summary = "관광지+맛집 저장", description = "VisitJeju에서 c1(관광지), c4(맛집) 전부 저장")
     @GetMapping("/import")
@@ -30,6 +49,33 @@ public class VisitJejuController {
         return "Imported c1(관광지) and c4(맛집)";
     }
 
+    @Operation(summary = "전체 카탈로그 가져오기", description = "모든 카테고리의 전체 페이지를 병렬로 조회해 일괄 저장 (백그라운드 작업)")
+    @PostMapping("/import/all")
+    public ResponseEntity<ImportJobStatus> importFullCatalogue(
+            @RequestParam(defaultValue = "c1,c4") List<String> categories
+    ) {
+        return ResponseEntity.accepted().body(visitJejuImportService.startFullImport(categories));
+    }
+
+    @Operation(summary = "전체 카탈로그 가져오기 진행 상황")
+    @GetMapping("/import/jobs/{jobId}")
+    public ResponseEntity<ImportJobStatus> getImportStatus(@PathVariable String jobId) {
+        ImportJobStatus status = visitJejuImportService.getStatus(jobId);
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(status);
+    }
+
+    @Operation(summary = "증분 동기화", description = "내용이 바뀐 장소만 갱신 (카테고리별 변경 건수 반환)")
+    @PostMapping("/sync")
+    public Map<String, Integer> sync(
+            @RequestParam(defaultValue = "c1,c4") List<String> categories
+    ) {
+        return visitJejuSyncService.sync(categories)
+                .orElseThrow(() -> new BusinessException("이미 VisitJeju 동기화가 진행 중입니다.", HttpStatus.CONFLICT, "JOB001"));
+    }
+
     @GetMapping("/attractions")
     public List<AttractionDto> getAttractions(
             @RequestParam(defaultValue = "0") int offset,
@@ -80,6 +126,82 @@ public class VisitJejuController {
                 .toList();
     }
 
+    @Operation(summary = "반경 내 장소", description = "중심 좌표에서 radius(m) 이내 장소를 가까운 순으로 조회 (category 생략 시 전체)")
+    @GetMapping("/nearby")
+    public List<NearbyPlaceDto> getNearby(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "3000") double radius,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return nearbyPlaceService.findWithinRadius(lat, lng, radius, category, limit);
+    }
+
+    @Operation(summary = "지도 영역 내 장소", description = "남서(sw)~북동(ne) 좌표로 지정한 영역 안의 장소 조회")
+    @GetMapping("/within")
+    public List<NearbyPlaceDto> getWithinBounds(
+            @RequestParam double swLat,
+            @RequestParam double swLng,
+            @RequestParam double neLat,
+            @RequestParam double neLng,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return nearbyPlaceService.findInBounds(swLat, swLng, neLat, neLng, category, limit);
+    }
+
+    @Operation(summary = "가장 가까운 장소", description = "중심 좌표에서 가장 가까운 k개 장소 조회")
+    @GetMapping("/nearest")
+    public List<NearbyPlaceDto> getNearest(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "10") int k,
+            @RequestParam(required = false) String category
+    ) {
+        return nearbyPlaceService.findNearest(lat, lng, k, category);
+    }
+
+    @Operation(summary = "장소 검색", description = "장소명/태그/소개 전문 검색 (관련도순, 카테고리별 결과 수 포함)")
+    @GetMapping("/search")
+    public PlaceSearchResultDto search(
+            @RequestParam String q,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return placeSearchService.search(q, category, page, size);
+    }
+
+    @Operation(summary = "장소 일괄 조회", description = "장소 ID 목록(최대 " + PlaceLookupService.MAX_BATCH_SIZE + "개)을 한 번에 조회해 ID별로 반환 (없는 ID는 제외)")
+    @PostMapping("/places/batch")
+    public Map<String, Place> getPlacesBatch(@RequestBody PlaceBatchRequest request) {
+        List<String> ids = request.getIds();
+        if (ids == null || ids.isEmpty() || ids.size() > PlaceLookupService.MAX_BATCH_SIZE || ids.contains(null)) {
+            throw new BusinessException("ids는 null 없이 1~" + PlaceLookupService.MAX_BATCH_SIZE + "개까지 요청할 수 있습니다.",
+                    HttpStatus.BAD_REQUEST, "VAL001");
+        }
+        return placeLookupService.findByIds(ids.stream().distinct().toList());
+    }
+
+    @Operation(summary = "인기 장소", description = "좋아요/일정 추가/게시글 공유를 시간 감쇠로 합산한 인기순 (category 생략 시 전체)")
+    @GetMapping("/popular")
+    public List<AttractionDto> getPopular(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return placePopularityService.getPopularPlaces(category, limit).stream()
+                .map(p -> new AttractionDto(
+                        p.getContentsId(),
+                        p.getName(),
+                        p.getAddress(),
+                        p.getLatitude(),
+                        p.getLongitude(),
+                        p.getImageUrl()
+                ))
+                .toList();
+    }
+
     @GetMapping("/attractions/{contentsId}")
     public ResponseEntity<Place> getAttractionDetail(@PathVariable String contentsId) {
         try {
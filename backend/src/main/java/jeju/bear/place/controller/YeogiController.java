@@ -1,14 +1,21 @@
 package jeju.bear.place.controller;
 
+import jeju.bear.common.exception.BusinessException;
 import jeju.bear.global.common.ApiResponse;
 import jeju.bear.global.common.ErrorCode;
 import jeju.bear.place.dto.PlaceDto;
+import jeju.bear.place.dto.RoomBatchRequest;
 import jeju.bear.place.dto.RoomDto;
+import jeju.bear.place.service.AccommodationCatalogService;
+import jeju.bear.place.service.YeogiRoomBatchService;
 import jeju.bear.place.service.YeogiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -18,7 +25,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class YeogiController {
 
+    private static final long ROOM_BATCH_TIMEOUT_MS = 120_000L;
+
     private final YeogiService yeogiService;
+    private final YeogiRoomBatchService yeogiRoomBatchService;
+    private final AccommodationCatalogService accommodationCatalogService;
 
     @GetMapping("/places")
     public ResponseEntity<ApiResponse<List<PlaceDto>>> getPlaces(
@@ -36,9 +47,12 @@ public class YeogiController {
             log.info("숙소 검색 요청: keyword={}, checkIn={}, checkOut={}, personal={}, limit={}", 
                      searchKeyword, checkIn, checkOut, personal, limit);
             
-            log.info("Service 호출 시작...");
-            List<PlaceDto> places = yeogiService.fetchPlaceIds(searchKeyword, checkIn, checkOut, personal, limit);
-            log.info("Service 호출 완료. 결과: {} 개의 숙소", places.size());
+            // 로컬 카탈로그에서 먼저 검색하고, 없을 때만 실시간 스크래핑 (가격은 /rooms에서 실시간 조회)
+            List<PlaceDto> places = accommodationCatalogService.search(searchKeyword, limit);
+            if (places.isEmpty()) {
+                log.info("카탈로그 검색 결과 없음 - 실시간 조회: keyword={}", searchKeyword);
+                places = yeogiService.fetchPlaceIds(searchKeyword, checkIn, checkOut, personal, limit);
+            }
             
             log.info("숙소 검색 결과: {} 개의 숙소 찾음", places.size());
             return ResponseEntity.ok(ApiResponse.onSuccess(places));
@@ -132,4 +146,27 @@ public class YeogiController {
                     .body(ApiResponse.onFailure(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    // 여러 숙소의 객실 정보를 병렬 조회하여 SSE로 도착 순서대로 전달
+    @PostMapping(value = "/rooms/batch", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getRoomsBatch(@RequestBody RoomBatchRequest request) {
+        if (request.getPlaceIds() == null || request.getPlaceIds().isEmpty()
+                || request.getPlaceIds().size() > YeogiRoomBatchService.MAX_PLACE_IDS) {
+            throw new BusinessException("placeIds는 1~" + YeogiRoomBatchService.MAX_PLACE_IDS + "개까지 요청할 수 있습니다.",
+                    HttpStatus.BAD_REQUEST, "VAL001");
+        }
+        if (isBlank(request.getCheckIn()) || isBlank(request.getCheckOut())) {
+            throw new BusinessException("checkIn, checkOut은 필수입니다.", HttpStatus.BAD_REQUEST, "VAL001");
+        }
+        log.info("객실 일괄 검색 요청: {} 개 숙소, checkIn={}, checkOut={}, personal={}",
+                request.getPlaceIds().size(), request.getCheckIn(), request.getCheckOut(), request.getPersonal());
+
+        SseEmitter emitter = new SseEmitter(ROOM_BATCH_TIMEOUT_MS);
+        yeogiRoomBatchService.streamRooms(request, emitter);
+        return emitter;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -1,6 +1,7 @@
 package jeju.bear.place.dto;
 
 import jeju.bear.place.entity.Favorite;
+import jeju.bear.place.entity.Place;
 import jeju.bear.place.entity.PlaceType;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,4 +24,10 @@ public class FavoriteDto {
                 .placeImage(null) // 임시로 null
                 .build();
     }
+
+    // 장소 카탈로그에서 찾은 이름/이미지로 채움
+    public void applyPlace(Place place) {
+        this.placeName = place.getName();
+        this.placeImage = place.getImageUrl();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,11 @@
+package jeju.bear.place.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FavoriteStateDto {
+    private boolean favorited;  // 현재 사용자의 좋아요 여부
+    private long count;         // 장소의 좋아요 수
+}
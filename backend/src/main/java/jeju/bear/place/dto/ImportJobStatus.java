@@ -0,0 +1,23 @@
+package jeju.bear.place.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class ImportJobStatus {
+    private String jobId;
+    private List<String> categories;
+    private String status;          // RUNNING | COMPLETED | FAILED
+    private int pagesFetched;
+    private int pagesSkipped;       // 재시도 후에도 실패해 건너뛴 페이지
+    private int itemsFetched;
+    private int itemsSaved;
+    private int itemsSkipped;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -0,0 +1,31 @@
+package jeju.bear.place.dto;
+
+import jeju.bear.place.entity.Place;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class NearbyPlaceDto {
+    private String id;
+    private String name;
+    private String address;
+    private double latitude;
+    private double longitude;
+    private String imageUrl;
+    private String category;
+    private Double distanceMeters;   // 기준점이 없는 영역 검색에서는 null
+
+    public static NearbyPlaceDto from(Place place, Double distanceMeters) {
+        return NearbyPlaceDto.builder()
+                .id(place.getContentsId())
+                .name(place.getName())
+                .address(place.getAddress())
+                .latitude(place.getLatitude())
+                .longitude(place.getLongitude())
+                .imageUrl(place.getImageUrl())
+                .category(place.getCategory())
+                .distanceMeters(distanceMeters)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package jeju.bear.place.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PlaceBatchRequest {
+    @NotEmpty
+    @Size(max = 300)
+    private List<String> ids;
+}
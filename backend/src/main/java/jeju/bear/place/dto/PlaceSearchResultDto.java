@@ -0,0 +1,30 @@
+package jeju.bear.place.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class PlaceSearchResultDto {
+    private List<Item> items;
+    private Map<String, Long> categoryFacets;   // 카테고리별 검색 결과 수 (카테고리 필터와 무관)
+    private long totalCount;                    // 카테고리 필터 적용 후 전체 결과 수
+    private int page;
+    private int size;
+
+    @Getter
+    @Builder
+    public static class Item {
+        private String id;
+        private String name;
+        private String address;
+        private double latitude;
+        private double longitude;
+        private String imageUrl;
+        private String category;
+        private double score;
+    }
+}
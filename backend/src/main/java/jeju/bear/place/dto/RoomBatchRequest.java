@@ -0,0 +1,20 @@
+package jeju.bear.place.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class RoomBatchRequest {
+    private List<String> placeIds;
+
+    private String checkIn;
+
+    private String checkOut;
+
+    private int personal = 2;
+}
@@ -0,0 +1,28 @@
+package jeju.bear.place.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class RoomBatchResult {
+    private String placeId;
+    private List<RoomDto> rooms;
+    private Long minPrice;  // 객실 최저가 (가격 정보가 없으면 null)
+    private String error;   // 조회 실패 시 사유
+
+    public static RoomBatchResult success(String placeId, List<RoomDto> rooms) {
+        Long minPrice = rooms.stream()
+                .map(RoomDto::getPrice)
+                .filter(price -> price != null && price > 0)
+                .min(Long::compare)
+                .orElse(null);
+        return new RoomBatchResult(placeId, rooms, minPrice, null);
+    }
+
+    public static RoomBatchResult failure(String placeId, String error) {
+        return new RoomBatchResult(placeId, List.of(), null, error);
+    }
+}
@@ -6,6 +6,9 @@ import java.util.List;
 
 @Data
 public class VisitJejuResponse {
+    private Integer totalCount;
+    private Integer pageCount;
+    private Integer currentPage;
     private List<Item> items;
 
     @Data
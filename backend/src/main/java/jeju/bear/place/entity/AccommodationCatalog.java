@@ -0,0 +1,50 @@
+package jeju.bear.place.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 크롤러가 주기적으로 수집한 여기어때 숙소 목록.
+ * 검색은 이 테이블에서 처리하고, 가격만 실시간으로 조회한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "accommodation_catalog", indexes = {
+        @Index(name = "idx_accommodation_catalog_region", columnList = "region"),
+        @Index(name = "idx_accommodation_catalog_name", columnList = "name")
+})
+public class AccommodationCatalog {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private Long id;            // 여기어때 숙소 ID
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "grade")
+    private String grade;
+
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @Column(name = "image_url", length = 1000)
+    private String imageUrl;
+
+    @Column(name = "address", length = 500)
+    private String address;
+
+    @Column(name = "region", length = 50)
+    private String region;      // 처음 수집에 사용한 지역 키워드 (전체 지역은 AccommodationCatalogRegion)
+
+    @Column(name = "crawled_at", nullable = false)
+    private LocalDateTime crawledAt;
+}
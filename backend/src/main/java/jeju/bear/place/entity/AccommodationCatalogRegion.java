@@ -0,0 +1,29 @@
+package jeju.bear.place.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 숙소가 어떤 지역 키워드로 수집되었는지 (숙소 하나가 여러 지역에 걸쳐 나올 수 있음).
+ * 크롤러가 (숙소, 지역) 쌍마다 INSERT IGNORE 로 추가하며, 지역 검색은 이 테이블을 사용한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "accommodation_catalog_region",
+        uniqueConstraints = @UniqueConstraint(name = "uk_accommodation_catalog_region",
+                columnNames = {"region", "accommodation_id"}))
+public class AccommodationCatalogRegion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "accommodation_id", nullable = false)
+    private Long accommodationId;
+
+    @Column(name = "region", length = 50, nullable = false)
+    private String region;
+}
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "favorite")
+@Table(name = "favorite", uniqueConstraints = @UniqueConstraint(
+        name = "uk_favorite_user_place_type", columnNames = {"user_id", "place_id", "type"}))
 public class Favorite {
 
     @Id
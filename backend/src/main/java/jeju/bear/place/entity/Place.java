@@ -49,6 +49,10 @@ public class Place {
     private Double rating;           // 평균 평점
     private Integer reviewCount;     // 리뷰 수
 
+    // 동기화 관련
+    @Column(length = 64)
+    private String contentHash;      // 가져온 필드의 해시 (변경 감지용)
+
     @PrePersist
     @PreUpdate
     private void setDefaultValues() {
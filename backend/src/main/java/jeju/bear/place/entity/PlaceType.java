@@ -1,8 +1,24 @@
 package jeju.bear.place.entity;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
 public enum PlaceType {
 
-    ACCOMMODATION,
-    RESTAURANT,
-    TOURIST
+    ACCOMMODATION("c3"),
+    RESTAURANT("c4"),
+    TOURIST("c1");
+
+    // 장소 카탈로그(place.category)의 VisitJeju 카테고리 코드
+    private final String catalogCategory;
+
+    /**
+     * 좋아요의 숫자 place_id → 장소 카탈로그 contents_id.
+     * 클라이언트는 VisitJeju 콘텐츠 ID(CNTS_ + 15자리 숫자)의 숫자 부분을 place_id 로 보낸다.
+     */
+    public static String contentsIdOf(Long placeId) {
+        return placeId == null ? null : String.format("CNTS_%015d", placeId);
+    }
 }
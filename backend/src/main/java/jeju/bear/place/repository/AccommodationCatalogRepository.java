@@ -0,0 +1,24 @@
+package jeju.bear.place.repository;
+
+import jeju.bear.place.entity.AccommodationCatalog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface AccommodationCatalogRepository extends JpaRepository<AccommodationCatalog, Long> {
+
+    // 지역 키워드로 수집된 숙소 또는 숙소명 접두어 검색 (region 컬럼은 매핑 테이블 도입 전 데이터용)
+    // OR 로 묶으면 인덱스를 쓰지 못하므로 조건마다 자기 인덱스로 ID 를 찾아 UNION 으로 합침
+    @Query(value = "SELECT a.* FROM accommodation_catalog a JOIN (" +
+            "SELECT r.accommodation_id AS id FROM accommodation_catalog_region r WHERE r.region = :keyword " +
+            "UNION SELECT c.id FROM accommodation_catalog c WHERE c.region = :keyword " +
+            "UNION SELECT n.id FROM accommodation_catalog n WHERE n.name LIKE CONCAT(:keyword, '%')" +
+            ") m ON m.id = a.id ORDER BY a.name",
+            nativeQuery = true)
+    List<AccommodationCatalog> search(@Param("keyword") String keyword, Pageable pageable);
+
+    List<AccommodationCatalog> findAllByOrderByNameAsc(Pageable pageable);
+}
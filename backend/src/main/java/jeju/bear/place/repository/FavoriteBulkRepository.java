@@ -0,0 +1,56 @@
+package jeju.bear.place.repository;
+
+import jeju.bear.place.entity.PlaceType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * favorite 테이블 단일 문장 쓰기용 JDBC 저장소.
+ * (user_id, place_id, type) 유니크 인덱스를 전제로 INSERT IGNORE 해서 중복 요청을 한 번만 반영한다.
+ * type 컬럼은 PlaceType 의 ordinal 로 저장되어 있다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FavoriteBulkRepository {
+
+    public static final String UNIQUE_INDEX = "uk_favorite_user_place_type";
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO favorite (user_id, place_id, type, created_at) VALUES (?, ?, ?, NOW())";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 새로 추가되었으면 true, 이미 있었으면 false
+    public boolean insertIgnore(Long userId, Long placeId, PlaceType type) {
+        return jdbcTemplate.update(INSERT_IGNORE_SQL, userId, placeId, type.ordinal()) > 0;
+    }
+
+    public void insertIgnoreAll(Long userId, List<Long> placeIds, PlaceType type) {
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, placeIds, BATCH_SIZE, (ps, placeId) -> {
+            ps.setLong(1, userId);
+            ps.setLong(2, placeId);
+            ps.setInt(3, type.ordinal());
+        });
+    }
+
+    // 유니크 인덱스가 없으면 중복 행을 정리(가장 오래된 행만 유지)한 뒤 생성, 삭제된 행 수 반환
+    public int ensureUniqueIndex() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = 'favorite' AND index_name = ?",
+                Integer.class, UNIQUE_INDEX);
+        if (count != null && count > 0) {
+            return 0;
+        }
+        int removed = jdbcTemplate.update(
+                "DELETE f1 FROM favorite f1 JOIN favorite f2 " +
+                "ON f1.user_id = f2.user_id AND f1.place_id = f2.place_id AND f1.type = f2.type AND f1.id > f2.id");
+        jdbcTemplate.execute("ALTER TABLE favorite ADD UNIQUE INDEX " + UNIQUE_INDEX + " (user_id, place_id, type)");
+        return removed;
+    }
+}
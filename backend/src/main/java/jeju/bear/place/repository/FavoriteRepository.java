@@ -4,6 +4,7 @@ import jeju.bear.place.entity.Favorite;
 import jeju.bear.place.entity.PlaceType;
 import jeju.bear.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,6 +24,9 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     // 특정 장소의 좋아요 개수 조회
     long countByPlaceIdAndType(Long placeId, PlaceType type);
 
+    // 사용자의 특정 타입 좋아요 개수
+    long countByUserAndType(User user, PlaceType type);
+
     // 사용자가 특정 장소를 좋아요했는지 확인
     boolean existsByUserAndPlaceIdAndType(User user, Long placeId, PlaceType type);
 
@@ -30,6 +34,20 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     @Query("SELECT f FROM Favorite f WHERE f.user = :user AND f.type = :type ORDER BY f.createdAt DESC")
     List<Favorite> findByUserAndType(@Param("user") User user, @Param("type") PlaceType type);
 
-    // 장소 ID와 타입으로 좋아요 삭제
-    void deleteByUserAndPlaceIdAndType(User user, Long placeId, PlaceType type);
+    // 장소 ID와 타입으로 좋아요 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM Favorite f WHERE f.user.id = :userId AND f.placeId = :placeId AND f.type = :type")
+    int deleteByUserIdAndPlaceIdAndType(@Param("userId") Long userId, @Param("placeId") Long placeId, @Param("type") PlaceType type);
+
+    // 사용자가 좋아요한 장소 ID 목록 (Redis 적재용)
+    @Query("SELECT f.placeId FROM Favorite f WHERE f.user.id = :userId AND f.type = :type")
+    List<Long> findPlaceIdsByUserIdAndType(@Param("userId") Long userId, @Param("type") PlaceType type);
+
+    // 여러 장소의 좋아요 개수 (placeId, count)
+    @Query("SELECT f.placeId, COUNT(f) FROM Favorite f WHERE f.type = :type AND f.placeId IN :placeIds GROUP BY f.placeId")
+    List<Object[]> countByPlaceIdsAndType(@Param("placeIds") List<Long> placeIds, @Param("type") PlaceType type);
+
+    // 전체 좋아요 개수 집계 (type, placeId, count)
+    @Query("SELECT f.type, f.placeId, COUNT(f) FROM Favorite f GROUP BY f.type, f.placeId")
+    List<Object[]> countGroupByTypeAndPlaceId();
 }
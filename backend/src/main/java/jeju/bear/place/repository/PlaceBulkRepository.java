@@ -0,0 +1,65 @@
+package jeju.bear.place.repository;
+
+import jeju.bear.place.entity.Place;
+import jeju.bear.place.util.PlaceContentHasher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Place 대량 저장용 JDBC 저장소.
+ * Place는 ID를 직접 할당하므로 JPA save()는 건마다 SELECT 후 INSERT/UPDATE를 수행한다.
+ * 여기서는 INSERT ... ON DUPLICATE KEY UPDATE 한 문장을 JDBC 배치로 묶어 실행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlaceBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    // 평점/리뷰 수, 카카오 연동 필드는 기존 값을 유지
+    private static final String UPSERT_SQL =
+            "INSERT INTO place (contents_id, name, address, latitude, longitude, tag, introduction, image_url, category, content_hash, rating, review_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0) " +
+            "ON DUPLICATE KEY UPDATE name = VALUES(name), address = VALUES(address), latitude = VALUES(latitude), " +
+            "longitude = VALUES(longitude), tag = VALUES(tag), introduction = VALUES(introduction), " +
+            "image_url = VALUES(image_url), category = VALUES(category), content_hash = VALUES(content_hash)";
+
+    private static final String FIND_HASHES_SQL = "SELECT contents_id, content_hash FROM place WHERE category = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int upsertAll(List<Place> places) {
+        if (places.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, places, BATCH_SIZE, (ps, place) -> {
+            ps.setString(1, place.getContentsId());
+            ps.setString(2, place.getName());
+            ps.setString(3, place.getAddress());
+            ps.setDouble(4, place.getLatitude());
+            ps.setDouble(5, place.getLongitude());
+            ps.setString(6, place.getTag());
+            ps.setString(7, place.getIntroduction());
+            ps.setString(8, place.getImageUrl());
+            ps.setString(9, place.getCategory());
+            ps.setString(10, PlaceContentHasher.hash(place));
+        });
+        return places.size();
+    }
+
+    // 카테고리의 contentsId → 내용 해시 (변경 감지용)
+    public Map<String, String> findContentHashes(String category) {
+        Map<String, String> hashes = new HashMap<>();
+        jdbcTemplate.query(FIND_HASHES_SQL,
+                rs -> {
+                    hashes.put(rs.getString(1), rs.getString(2));
+                },
+                category);
+        return hashes;
+    }
+}
@@ -17,6 +17,11 @@ public interface PlaceRepository extends JpaRepository<Place, String> {
     @Query(value = "SELECT p FROM Place p WHERE p.category = :category ORDER BY p.rating DESC")
     List<Place> findTopPlacesByCategory(@Param("category") String category, Pageable pageable);
     
-    @Query(value = "SELECT p FROM Place p WHERE p.category = :category ORDER BY RAND()")
-    List<Place> findRandomPlacesByCategory(@Param("category") String category, Pageable pageable);
+    // 무작위 추출용 ID 목록 (PlaceRandomSampler)
+    @Query("SELECT p.contentsId FROM Place p WHERE p.category = :category")
+    List<String> findContentsIdsByCategory(@Param("category") String category);
+
+    // 좌표 인덱스용 (contentsId, latitude, longitude, category)
+    @Query("SELECT p.contentsId, p.latitude, p.longitude, p.category FROM Place p")
+    List<Object[]> findAllCoordinates();
 }
\ No newline at end of file
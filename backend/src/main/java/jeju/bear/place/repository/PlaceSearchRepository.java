@@ -0,0 +1,91 @@
+package jeju.bear.place.repository;
+
+import jeju.bear.place.dto.PlaceSearchResultDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * place 테이블의 FULLTEXT(ngram) 인덱스를 이용한 전문 검색.
+ * 장소명 일치에 가중치를 두어 name, tag, introduction 전체 점수와 합산한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlaceSearchRepository {
+
+    public static final String TEXT_INDEX = "ft_place_text";
+    public static final String NAME_INDEX = "ft_place_name";
+
+    private static final String MATCH_TEXT = "MATCH(name, tag, introduction) AGAINST (? IN NATURAL LANGUAGE MODE)";
+    private static final String MATCH_NAME = "MATCH(name) AGAINST (? IN NATURAL LANGUAGE MODE)";
+    private static final double NAME_WEIGHT = 2.0;
+
+    private static final String SEARCH_SQL =
+            "SELECT contents_id, name, address, latitude, longitude, image_url, category, " +
+            "(" + MATCH_NAME + " * " + NAME_WEIGHT + " + " + MATCH_TEXT + ") AS score " +
+            "FROM place WHERE " + MATCH_TEXT + " %s " +
+            "ORDER BY score DESC, contents_id LIMIT ? OFFSET ?";
+
+    private static final String FACET_SQL =
+            "SELECT category, COUNT(*) FROM place WHERE " + MATCH_TEXT + " GROUP BY category ORDER BY COUNT(*) DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<PlaceSearchResultDto.Item> search(String query, String category, int offset, int limit) {
+        List<Object> args = new ArrayList<>(List.of(query, query, query));
+        String categoryFilter = "";
+        if (category != null) {
+            categoryFilter = "AND category = ?";
+            args.add(category);
+        }
+        args.add(limit);
+        args.add(offset);
+
+        return jdbcTemplate.query(String.format(SEARCH_SQL, categoryFilter), (rs, rowNum) ->
+                PlaceSearchResultDto.Item.builder()
+                        .id(rs.getString("contents_id"))
+                        .name(rs.getString("name"))
+                        .address(rs.getString("address"))
+                        .latitude(rs.getDouble("latitude"))
+                        .longitude(rs.getDouble("longitude"))
+                        .imageUrl(rs.getString("image_url"))
+                        .category(rs.getString("category"))
+                        .score(rs.getDouble("score"))
+                        .build(),
+                args.toArray());
+    }
+
+    public Map<String, Long> countByCategory(String query) {
+        Map<String, Long> facets = new LinkedHashMap<>();
+        jdbcTemplate.query(FACET_SQL,
+                rs -> {
+                    facets.put(rs.getString(1), rs.getLong(2));
+                },
+                query);
+        return facets;
+    }
+
+    public boolean hasIndex(String indexName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = 'place' AND index_name = ?",
+                Integer.class, indexName);
+        return count != null && count > 0;
+    }
+
+    // JPA 스키마 생성으로는 FULLTEXT 인덱스를 만들 수 없어 직접 생성
+    public void createIndexes() {
+        if (!hasIndex(TEXT_INDEX)) {
+            jdbcTemplate.execute("ALTER TABLE place ADD FULLTEXT INDEX " + TEXT_INDEX +
+                    " (name, tag, introduction) WITH PARSER ngram");
+        }
+        if (!hasIndex(NAME_INDEX)) {
+            jdbcTemplate.execute("ALTER TABLE place ADD FULLTEXT INDEX " + NAME_INDEX + " (name) WITH PARSER ngram");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package jeju.bear.place.repository;
+
+import jeju.bear.place.entity.PlaceType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장소 인기도 집계용 JDBC 저장소.
+ * 각 신호를 DB에서 장소별로 합산하되, 오래된 신호일수록 exp(-경과시간 / 반감 상수)로 가중치를 줄인다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PopularityAggregationRepository {
+
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    // 좋아요: 좋아요한 시점 기준
+    // favorite.place_id 는 VisitJeju 콘텐츠 ID의 숫자 부분이므로 CNTS_ + 15자리로 되돌리고,
+    // 타입에 맞는 카테고리의 장소만 매칭한다 (PlaceType.contentsIdOf 와 같은 규칙)
+    private static final String FAVORITE_SQL =
+            "SELECT p.contents_id, SUM(EXP(-GREATEST(TIMESTAMPDIFF(HOUR, f.created_at, NOW()), 0) / ?)) " +
+            "FROM favorite f JOIN place p ON p.contents_id = CONCAT('CNTS_', LPAD(f.place_id, 15, '0')) " +
+            "AND p.category = " + typeToCategory("f.type") + " " +
+            "GROUP BY f.type, f.place_id, p.contents_id";
+
+    // 일정 추가: 여행 날짜 기준 (지난 일정과 먼 미래 일정 모두 감쇠)
+    private static final String DESTINATION_SQL =
+            "SELECT d.place_id, SUM(EXP(-ABS(DATEDIFF(NOW(), td.date)) * 24 / ?)) " +
+            "FROM destinations d JOIN trip_days td ON td.trip_day_id = d.trip_day_id " +
+            "GROUP BY d.place_id";
+
+    // 게시글에 공유된 일정의 장소: 게시글 작성 시점 기준
+    private static final String POST_SQL =
+            "SELECT d.place_id, SUM(EXP(-GREATEST(TIMESTAMPDIFF(HOUR, p.created_at, NOW()), 0) / ?)) " +
+            "FROM post p " +
+            "JOIN trip_days td ON td.trip_plan_id = p.trip_plan_id " +
+            "JOIN destinations d ON d.trip_day_id = td.trip_day_id " +
+            "WHERE p.deleted_at IS NULL " +
+            "GROUP BY d.place_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<String, Double> favoriteScores(double decayHours) {
+        return scores(FAVORITE_SQL, decayHours);
+    }
+
+    public Map<String, Double> destinationScores(double decayHours) {
+        return scores(DESTINATION_SQL, decayHours);
+    }
+
+    public Map<String, Double> postScores(double decayHours) {
+        return scores(POST_SQL, decayHours);
+    }
+
+    // 장소 ID → 카테고리 (카탈로그에 있는 장소만)
+    public Map<String, String> findCategories(List<String> placeIds) {
+        Map<String, String> categories = new HashMap<>();
+        for (int from = 0; from < placeIds.size(); from += IN_CHUNK_SIZE) {
+            List<String> chunk = placeIds.subList(from, Math.min(from + IN_CHUNK_SIZE, placeIds.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT contents_id, category FROM place WHERE contents_id IN (" + placeholders + ")",
+                    rs -> {
+                        categories.put(rs.getString(1), rs.getString(2));
+                    },
+                    chunk.toArray());
+        }
+        return categories;
+    }
+
+    // type 컬럼은 PlaceType 의 ordinal
+    private static String typeToCategory(String column) {
+        StringBuilder sql = new StringBuilder("CASE ").append(column);
+        for (PlaceType type : PlaceType.values()) {
+            sql.append(" WHEN ").append(type.ordinal()).append(" THEN '").append(type.getCatalogCategory()).append("'");
+        }
+        return sql.append(" END").toString();
+    }
+
+    private Map<String, Double> scores(String sql, double decayHours) {
+        Map<String, Double> scores = new HashMap<>();
+        jdbcTemplate.query(sql,
+                rs -> {
+                    scores.merge(rs.getString(1), rs.getDouble(2), Double::sum);
+                },
+                decayHours);
+        return scores;
+    }
+}
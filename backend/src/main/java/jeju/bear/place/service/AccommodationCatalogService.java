@@ -0,0 +1,114 @@
+package jeju.bear.place.service;
+
+import jeju.bear.place.dto.PlaceDto;
+import jeju.bear.place.entity.AccommodationCatalog;
+import jeju.bear.place.repository.AccommodationCatalogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccommodationCatalogService {
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO accommodation_catalog (id, name, grade, latitude, longitude, image_url, address, region, crawled_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE name = VALUES(name), grade = VALUES(grade), latitude = VALUES(latitude), " +
+            "longitude = VALUES(longitude), image_url = VALUES(image_url), address = VALUES(address), " +
+            "crawled_at = VALUES(crawled_at)";
+
+    // 숙소는 여러 지역 키워드로 수집될 수 있으므로 지역은 (숙소, 지역) 쌍으로 따로 저장
+    private static final String REGION_SQL =
+            "INSERT IGNORE INTO accommodation_catalog_region (accommodation_id, region) VALUES (?, ?)";
+
+    // 마지막 수집 시각이 기준보다 이른 숙소 (지역 매핑을 먼저 지움)
+    private static final String DELETE_STALE_REGIONS_SQL =
+            "DELETE r FROM accommodation_catalog_region r " +
+            "JOIN accommodation_catalog a ON a.id = r.accommodation_id WHERE a.crawled_at < ?";
+    private static final String DELETE_STALE_SQL =
+            "DELETE FROM accommodation_catalog WHERE crawled_at < ?";
+
+    private final AccommodationCatalogRepository catalogRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(readOnly = true)
+    public List<PlaceDto> search(String keyword, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<AccommodationCatalog> found = keyword == null || keyword.isBlank()
+                ? catalogRepository.findAllByOrderByNameAsc(page)
+                : catalogRepository.search(keyword.trim(), page);
+        return found.stream().map(this::toDto).toList();
+    }
+
+    // 크롤링 결과를 배치 단위로 upsert
+    @Transactional
+    public int upsert(List<PlaceDto> places, String region) {
+        List<PlaceDto> valid = places.stream()
+                .filter(p -> p.getId() != null && p.getName() != null)
+                .toList();
+        Timestamp crawledAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, valid, BATCH_SIZE, (ps, place) -> {
+            ps.setLong(1, place.getId());
+            ps.setString(2, place.getName());
+            ps.setString(3, place.getGrade());
+            setNullableDouble(ps, 4, place.getLatitude());
+            setNullableDouble(ps, 5, place.getLongitude());
+            ps.setString(6, place.getImageUrl());
+            ps.setString(7, place.getAddress());
+            ps.setString(8, region);
+            ps.setTimestamp(9, crawledAt);
+        });
+        jdbcTemplate.batchUpdate(REGION_SQL, valid, BATCH_SIZE, (ps, place) -> {
+            ps.setLong(1, place.getId());
+            ps.setString(2, region);
+        });
+
+        log.info("숙소 카탈로그 upsert 완료: region={}, {} 건", region, valid.size());
+        return valid.size();
+    }
+
+    // 전체 수집에서 다시 나오지 않은 숙소 삭제 (모든 지역 수집이 성공했을 때만 호출)
+    @Transactional
+    public int deleteNotCrawledSince(LocalDateTime crawlStartedAt) {
+        Timestamp threshold = Timestamp.valueOf(crawlStartedAt);
+        jdbcTemplate.update(DELETE_STALE_REGIONS_SQL, threshold);
+        int removed = jdbcTemplate.update(DELETE_STALE_SQL, threshold);
+        log.info("숙소 카탈로그에서 더 이상 수집되지 않는 숙소 {} 건 삭제", removed);
+        return removed;
+    }
+
+    private void setNullableDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.DOUBLE);
+        } else {
+            ps.setDouble(index, value);
+        }
+    }
+
+    private PlaceDto toDto(AccommodationCatalog a) {
+        return PlaceDto.builder()
+                .id(a.getId())
+                .name(a.getName())
+                .grade(a.getGrade())
+                .latitude(a.getLatitude())
+                .longitude(a.getLongitude())
+                .imageUrl(a.getImageUrl())
+                .address(a.getAddress())
+                .build();
+    }
+}
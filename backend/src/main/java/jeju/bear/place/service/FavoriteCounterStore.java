@@ -0,0 +1,234 @@
+package jeju.bear.place.service;
+
+import jeju.bear.place.entity.PlaceType;
+import jeju.bear.place.repository.FavoriteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 좋아요 수와 사용자별 좋아요 여부를 Redis에 비정규화해 둔다.
+ * - favorite:count:{type}            장소 ID → 좋아요 수 (HINCRBY, 주기적으로 DB 기준 재계산)
+ * - favorite:user:{userId}:{type}     사용자가 좋아요한 장소 ID 집합 (처음 조회 시 DB에서 적재)
+ * - favorite:user:{userId}:{type}:gen 사용자 집합 변경 세대 (좋아요 추가/삭제마다 증가)
+ * 변경은 트랜잭션 커밋 이후에 반영한다.
+ * 집합 적재는 임시 키에 만든 뒤, DB를 읽기 전에 본 세대가 그대로일 때만 RENAME 한다.
+ * 그 사이 추가/삭제가 있었으면 오래된 DB 결과로 덮어쓰지 않고 버린다 (다음 조회 때 다시 적재).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FavoriteCounterStore {
+
+    private static final String COUNT_KEY_PREFIX = "favorite:count:";
+    private static final String COUNT_READY_KEY = "favorite:count:ready";
+    private static final String USER_KEY_PREFIX = "favorite:user:";
+    // 사용자 집합이 DB에서 적재되었음을 표시하는 멤버
+    private static final String LOADED_MARKER = "_";
+    private static final Duration USER_SET_TTL = Duration.ofDays(1);
+    // KEYS[1]=임시 키, KEYS[2]=사용자 집합, KEYS[3]=세대 키, ARGV[1]=적재 전에 읽은 세대, ARGV[2]=TTL(초)
+    private static final RedisScript<Long> SWAP_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[3]) or '') == ARGV[1] then " +
+            "redis.call('RENAME', KEYS[1], KEYS[2]) redis.call('EXPIRE', KEYS[2], ARGV[2]) return 1 " +
+            "else redis.call('DEL', KEYS[1]) return 0 end",
+            Long.class);
+
+    private final FavoriteRepository favoriteRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void onAdded(Long userId, Long placeId, PlaceType type) {
+        afterCommit(() -> {
+            redisTemplate.opsForHash().increment(countKey(type), placeId.toString(), 1);
+            bumpGeneration(userId, type);
+            redisTemplate.opsForSet().add(userKey(userId, type), placeId.toString());
+        });
+    }
+
+    public void onRemoved(Long userId, Long placeId, PlaceType type) {
+        afterCommit(() -> {
+            redisTemplate.opsForHash().increment(countKey(type), placeId.toString(), -1);
+            bumpGeneration(userId, type);
+            redisTemplate.opsForSet().remove(userKey(userId, type), placeId.toString());
+        });
+    }
+
+    // 일괄 변경 후 해당 장소 수를 DB 기준으로 다시 쓰고 사용자 집합은 다음 조회 때 다시 적재
+    public void refresh(Long userId, List<Long> placeIds, PlaceType type) {
+        afterCommit(() -> {
+            Map<String, String> counts = new HashMap<>();
+            placeIds.forEach(id -> counts.put(id.toString(), "0"));
+            for (Object[] row : favoriteRepository.countByPlaceIdsAndType(placeIds, type)) {
+                counts.put(row[0].toString(), row[1].toString());
+            }
+            if (!counts.isEmpty()) {
+                redisTemplate.opsForHash().putAll(countKey(type), counts);
+            }
+            bumpGeneration(userId, type);
+            redisTemplate.delete(userKey(userId, type));
+        });
+    }
+
+    public long getCount(Long placeId, PlaceType type) {
+        return getCounts(List.of(placeId), type).getOrDefault(placeId, 0L);
+    }
+
+    public Map<Long, Long> getCounts(List<Long> placeIds, PlaceType type) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (placeIds.isEmpty()) {
+            return counts;
+        }
+        // 재계산 전(또는 Redis 초기화 후)에는 DB에서 직접 집계
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(COUNT_READY_KEY))) {
+            for (Object[] row : favoriteRepository.countByPlaceIdsAndType(placeIds, type)) {
+                counts.put((Long) row[0], (Long) row[1]);
+            }
+            placeIds.forEach(id -> counts.putIfAbsent(id, 0L));
+            return counts;
+        }
+
+        List<Object> fields = new ArrayList<>(placeIds.size());
+        placeIds.forEach(id -> fields.add(id.toString()));
+        List<Object> values = redisTemplate.opsForHash().multiGet(countKey(type), fields);
+        for (int i = 0; i < placeIds.size(); i++) {
+            Object value = values.get(i);
+            counts.put(placeIds.get(i), value != null ? Math.max(0L, Long.parseLong(value.toString())) : 0L);
+        }
+        return counts;
+    }
+
+    public boolean isFavorite(Long userId, Long placeId, PlaceType type) {
+        return getFavorited(userId, List.of(placeId), type).contains(placeId);
+    }
+
+    // placeIds 중 사용자가 좋아요한 장소
+    public Set<Long> getFavorited(Long userId, List<Long> placeIds, PlaceType type) {
+        String key = userKey(userId, type);
+        Object[] members = new Object[placeIds.size() + 1];
+        members[0] = LOADED_MARKER;
+        for (int i = 0; i < placeIds.size(); i++) {
+            members[i + 1] = placeIds.get(i).toString();
+        }
+
+        Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(key, members);
+        Set<Long> favorited = new HashSet<>();
+        if (result == null || !Boolean.TRUE.equals(result.get(LOADED_MARKER))) {
+            // 방금 DB에서 읽은 값으로 응답 (적재를 버린 경우에도 정확함)
+            Set<String> loaded = loadUserSet(userId, type);
+            placeIds.stream().filter(id -> loaded.contains(id.toString())).forEach(favorited::add);
+            return favorited;
+        }
+
+        for (Long placeId : placeIds) {
+            if (Boolean.TRUE.equals(result.get(placeId.toString()))) {
+                favorited.add(placeId);
+            }
+        }
+        return favorited;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("좋아요 수 초기 집계 실패: {}", e.getMessage());
+        }
+    }
+
+    // 누락되거나 어긋난 증감을 바로잡기 위해 DB 기준으로 전체 재계산
+    @Scheduled(cron = "${favorite.counter.reconcile-cron:0 */30 * * * *}")
+    public void reconcile() {
+        Map<PlaceType, Map<String, String>> countsByType = new EnumMap<>(PlaceType.class);
+        for (PlaceType type : PlaceType.values()) {
+            countsByType.put(type, new HashMap<>());
+        }
+        for (Object[] row : favoriteRepository.countGroupByTypeAndPlaceId()) {
+            countsByType.get((PlaceType) row[0]).put(row[1].toString(), row[2].toString());
+        }
+
+        countsByType.forEach((type, counts) -> {
+            String key = countKey(type);
+            if (counts.isEmpty()) {
+                redisTemplate.delete(key);
+                return;
+            }
+            // 임시 키에 쓴 뒤 교체해 읽는 쪽이 빈 해시를 보지 않도록 함
+            String tempKey = key + ":rebuild";
+            redisTemplate.delete(tempKey);
+            redisTemplate.opsForHash().putAll(tempKey, counts);
+            redisTemplate.rename(tempKey, key);
+        });
+        redisTemplate.opsForValue().set(COUNT_READY_KEY, "1");
+        log.debug("좋아요 수 재계산 완료");
+    }
+
+    // DB에서 읽은 사용자 집합 (마커 포함)을 반환
+    private Set<String> loadUserSet(Long userId, PlaceType type) {
+        String key = userKey(userId, type);
+        String generationKey = generationKey(userId, type);
+        String generation = redisTemplate.opsForValue().get(generationKey);
+
+        Set<String> members = new HashSet<>();
+        members.add(LOADED_MARKER);
+        favoriteRepository.findPlaceIdsByUserIdAndType(userId, type).forEach(id -> members.add(id.toString()));
+
+        String tempKey = key + ":load:" + UUID.randomUUID();
+        redisTemplate.opsForSet().add(tempKey, members.toArray(String[]::new));
+        redisTemplate.expire(tempKey, USER_SET_TTL);
+        Long swapped = redisTemplate.execute(SWAP_IF_UNCHANGED_SCRIPT, List.of(tempKey, key, generationKey),
+                generation != null ? generation : "", String.valueOf(USER_SET_TTL.toSeconds()));
+        if (!Long.valueOf(1L).equals(swapped)) {
+            log.debug("좋아요 집합 적재 중 변경 발생, 적재 결과 버림: userId={}, type={}", userId, type);
+        }
+        return members;
+    }
+
+    private void bumpGeneration(Long userId, PlaceType type) {
+        String generationKey = generationKey(userId, type);
+        redisTemplate.opsForValue().increment(generationKey);
+        redisTemplate.expire(generationKey, USER_SET_TTL);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String countKey(PlaceType type) {
+        return COUNT_KEY_PREFIX + type.name();
+    }
+
+    private static String userKey(Long userId, PlaceType type) {
+        return USER_KEY_PREFIX + userId + ":" + type.name();
+    }
+
+    private static String generationKey(Long userId, PlaceType type) {
+        return userKey(userId, type) + ":gen";
+    }
+}
@@ -1,10 +1,12 @@
 package jeju.bear.place.service;
 
 import jeju.bear.place.dto.FavoriteDto;
+import jeju.bear.place.dto.FavoriteStateDto;
 import jeju.bear.place.entity.PlaceType;
 import jeju.bear.user.entity.User;
 
 import java.util.List;
+import java.util.Map;
 
 public interface FavoriteService {
     
@@ -26,6 +28,12 @@ public interface FavoriteService {
     // 사용자가 특정 장소를 좋아요했는지 확인
     boolean isFavorite(User user, Long placeId, PlaceType type);
     
-    // 좋아요 토글 (추가/제거)
+    // 여러 장소의 좋아요 여부와 개수 일괄 조회
+    Map<Long, FavoriteStateDto> getFavoriteStates(User user, List<Long> placeIds, PlaceType type);
+    
+    // 좋아요 토글 (추가/제거) 후 새 상태 반환
     boolean toggleFavorite(User user, Long placeId, PlaceType type);
+    
+    // 좋아요 일괄 추가 (이미 있는 항목은 무시), 새로 추가된 수 반환
+    int importFavorites(User user, List<Long> placeIds, PlaceType type);
 }
@@ -1,28 +1,148 @@
 package jeju.bear.place.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jeju.bear.global.config.KakaoMapConfig;
 import jeju.bear.place.dto.PlaceSearchResponse;
 import jeju.bear.place.entity.Place;
-import lombok.RequiredArgsConstructor;
+import jeju.bear.place.util.GeoHash;
+import jeju.bear.place.util.GeoUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
+/**
+ * 카카오 로컬 검색.
+ * 검색 중심을 반경에 비해 충분히 작은 지오해시 셀 중심으로 맞춰 같은 셀·반경의 요청이 캐시를 공유하게 한다.
+ * 카카오는 호출당 최대 15건만 주므로 여러 페이지를 받아 실제 반경으로 걸러 돌려준다.
+ * 키워드 검색은 카카오의 정확도순을 그대로 유지하고, 카테고리 검색은 거리순으로 돌려준다.
+ * 같은 키에 대한 동시 요청은 하나의 호출을 공유한다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class KakaoMapService {
 
     private final WebClient kakaoWebClient;
     private final KakaoMapConfig kakaoMapConfig;
+    private final AsyncCache<String, List<PlaceSearchResponse>> searchCache;
+    private final int maxPages;
     private static final String LOCAL_SEARCH_ADDRESS_URL = "/v2/local/search/address.json";
     private static final String LOCAL_SEARCH_KEYWORD_URL = "/v2/local/search/keyword.json";
     private static final String LOCAL_SEARCH_CATEGORY_URL = "/v2/local/search/category.json";
+    // 카카오 로컬 검색의 최대 반경 (m), 페이지 크기, 최대 페이지
+    private static final int KAKAO_MAX_RADIUS = 20000;
+    private static final int KAKAO_PAGE_SIZE = 15;
+    private static final int KAKAO_MAX_PAGE = 45;
+    // 중심 보정 셀의 중심-꼭짓점 거리를 반경의 이 비율 이하로 유지
+    private static final double SNAP_RATIO = 0.1;
+
+    public KakaoMapService(WebClient kakaoWebClient,
+                           KakaoMapConfig kakaoMapConfig,
+                           @Value("${kakao.search.cache-ttl-seconds:600}") long cacheTtlSeconds,
+                           @Value("${kakao.search.cache-maximum-size:10000}") long cacheMaximumSize,
+                           @Value("${kakao.search.max-pages:1}") int maxPages) {
+        this.kakaoWebClient = kakaoWebClient;
+        this.kakaoMapConfig = kakaoMapConfig;
+        this.searchCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .maximumSize(cacheMaximumSize)
+                .buildAsync();
+        this.maxPages = Math.max(1, Math.min(maxPages, KAKAO_MAX_PAGE));
+    }
 
     public Mono<List<PlaceSearchResponse>> searchByKeyword(String keyword, double latitude, double longitude, int radius) {
+        return search("keyword:" + keyword, latitude, longitude, radius, false,
+                (lat, lng, r, page) -> fetchByKeyword(keyword, lat, lng, r, page));
+    }
+
+    public Mono<List<PlaceSearchResponse>> searchByCategory(String categoryCode, double latitude, double longitude, int radius) {
+        return search("category:" + categoryCode, latitude, longitude, radius, true,
+                (lat, lng, r, page) -> fetchByCategory(categoryCode, lat, lng, r, page));
+    }
+
+    @FunctionalInterface
+    private interface PageFetcher {
+        Mono<SearchPage> fetch(double latitude, double longitude, int radius, int page);
+    }
+
+    private record SearchPage(int number, List<PlaceSearchResponse> places, boolean end) {
+    }
+
+    private Mono<List<PlaceSearchResponse>> search(String queryKey, double latitude, double longitude, int radius,
+                                                   boolean sortByDistance, PageFetcher fetcher) {
+        // 카카오가 받는 범위로 제한
+        int queryRadius = Math.max(1, Math.min(radius, KAKAO_MAX_RADIUS));
+        GeoHash.Cell cell = GeoHash.cellOf(latitude, longitude,
+                GeoHash.precisionWithin(queryRadius * SNAP_RATIO, latitude));
+        int snappedRadius = (int) Math.ceil(queryRadius + cell.circumradiusMeters());
+
+        Mono<List<PlaceSearchResponse>> results;
+        if (snappedRadius <= KAKAO_MAX_RADIUS) {
+            // 셀 중심에서 셀을 포함하도록 넓힌 반경으로 조회하면 셀 안의 어느 중심에 대해서도 원을 덮는다
+            results = cached(queryKey + ":" + cell.getHash() + ":" + queryRadius,
+                    () -> fetchPages(fetcher, cell.getCenterLat(), cell.getCenterLng(), snappedRadius));
+        } else {
+            // 넓힌 반경이 카카오 상한을 넘으면 원래 중심으로 조회
+            results = cached(queryKey + ":" + latitude + "," + longitude + ":" + queryRadius,
+                    () -> fetchPages(fetcher, latitude, longitude, queryRadius));
+        }
+        return results.map(places -> {
+            List<PlaceSearchResponse> inRadius = places.stream()
+                    .filter(place -> distance(place, latitude, longitude) <= queryRadius)
+                    .toList();
+            if (!sortByDistance) {
+                return inRadius;
+            }
+            return inRadius.stream()
+                    .sorted(Comparator.comparingDouble(place -> distance(place, latitude, longitude)))
+                    .toList();
+        });
+    }
+
+    // 진행 중이거나 완료된 조회 결과를 공유 (실패한 조회는 캐시에 남지 않음)
+    private Mono<List<PlaceSearchResponse>> cached(String key, Supplier<Mono<List<PlaceSearchResponse>>> loader) {
+        return Mono.defer(() -> Mono.fromFuture(
+                searchCache.get(key, (k, executor) -> {
+                    log.debug("카카오 검색 조회: {}", k);
+                    return loader.get().toFuture();
+                }),
+                true));
+    }
+
+    // 결과를 마지막 페이지 또는 maxPages 까지 차례로 받아 카카오 순서대로 합친다
+    private Mono<List<PlaceSearchResponse>> fetchPages(PageFetcher fetcher, double latitude, double longitude, int radius) {
+        return fetcher.fetch(latitude, longitude, radius, 1)
+                .expand(page -> page.end() || page.number() >= maxPages
+                        ? Mono.empty()
+                        : fetcher.fetch(latitude, longitude, radius, page.number() + 1))
+                .collectList()
+                .map(pages -> {
+                    Map<String, PlaceSearchResponse> unique = new LinkedHashMap<>();
+                    for (SearchPage page : pages) {
+                        for (PlaceSearchResponse place : page.places()) {
+                            unique.putIfAbsent(place.getKakaoPlaceId(), place);
+                        }
+                    }
+                    return List.copyOf(unique.values());
+                });
+    }
+
+    private static double distance(PlaceSearchResponse place, double latitude, double longitude) {
+        return GeoUtils.haversineMeters(latitude, longitude, place.getLatitude(), place.getLongitude());
+    }
+
+    private Mono<SearchPage> fetchByKeyword(String keyword, double latitude, double longitude, int radius, int page) {
         return kakaoWebClient
             .get()
             .uri(uriBuilder -> uriBuilder
@@ -31,13 +151,15 @@ public class KakaoMapService {
                 .queryParam("x", longitude)
                 .queryParam("y", latitude)
                 .queryParam("radius", radius)
+                .queryParam("page", page)
+                .queryParam("size", KAKAO_PAGE_SIZE)
                 .build())
             .retrieve()
             .bodyToMono(JsonNode.class)
-            .map(this::parsePlaceSearchResponse);
+            .map(body -> parseSearchPage(body, page));
     }
 
-    public Mono<List<PlaceSearchResponse>> searchByCategory(String categoryCode, double latitude, double longitude, int radius) {
+    private Mono<SearchPage> fetchByCategory(String categoryCode, double latitude, double longitude, int radius, int page) {
         return kakaoWebClient
             .get()
             .uri(uriBuilder -> uriBuilder
@@ -46,10 +168,19 @@ public class KakaoMapService {
                 .queryParam("x", longitude)
                 .queryParam("y", latitude)
                 .queryParam("radius", radius)
+                .queryParam("sort", "distance")
+                .queryParam("page", page)
+                .queryParam("size", KAKAO_PAGE_SIZE)
                 .build())
             .retrieve()
             .bodyToMono(JsonNode.class)
-            .map(this::parsePlaceSearchResponse);
+            .map(body -> parseSearchPage(body, page));
+    }
+
+    private SearchPage parseSearchPage(JsonNode responseBody, int page) {
+        // meta 가 없으면 더 받을 페이지가 없는 것으로 본다
+        boolean end = responseBody.path("meta").path("is_end").asBoolean(true);
+        return new SearchPage(page, parsePlaceSearchResponse(responseBody), end);
     }
 
     private List<PlaceSearchResponse> parsePlaceSearchResponse(JsonNode responseBody) {
@@ -0,0 +1,86 @@
+package jeju.bear.place.service;
+
+import jeju.bear.common.exception.BusinessException;
+import jeju.bear.place.dto.NearbyPlaceDto;
+import jeju.bear.place.entity.Place;
+import jeju.bear.place.repository.PlaceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카카오 API를 거치지 않고 로컬 좌표 인덱스로 주변 장소를 찾는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NearbyPlaceService {
+
+    private static final double MAX_RADIUS_METERS = 50_000;
+    private static final double MAX_BOUNDS_DEGREES = 2.0;
+    private static final int MAX_LIMIT = 200;
+
+    private final PlaceGeoIndex placeGeoIndex;
+    private final PlaceRepository placeRepository;
+
+    public List<NearbyPlaceDto> findWithinRadius(double lat, double lng, double radiusMeters, String category, int limit) {
+        checkCoordinates(lat, lng);
+        if (radiusMeters <= 0 || radiusMeters > MAX_RADIUS_METERS) {
+            throw invalid("radius는 0 초과 " + (int) MAX_RADIUS_METERS + "m 이하여야 합니다.");
+        }
+        return load(placeGeoIndex.within(lat, lng, radiusMeters, category, checkLimit(limit)), true);
+    }
+
+    public List<NearbyPlaceDto> findInBounds(double swLat, double swLng, double neLat, double neLng, String category, int limit) {
+        checkCoordinates(swLat, swLng);
+        checkCoordinates(neLat, neLng);
+        if (swLat > neLat || swLng > neLng
+                || neLat - swLat > MAX_BOUNDS_DEGREES || neLng - swLng > MAX_BOUNDS_DEGREES) {
+            throw invalid("영역은 남서 좌표가 북동 좌표보다 작아야 하며 " + MAX_BOUNDS_DEGREES + "도 이내여야 합니다.");
+        }
+        return load(placeGeoIndex.inBounds(swLat, swLng, neLat, neLng, category, checkLimit(limit)), false);
+    }
+
+    public List<NearbyPlaceDto> findNearest(double lat, double lng, int k, String category) {
+        checkCoordinates(lat, lng);
+        // 반경 검색과 같은 거리 상한 (데이터에서 먼 좌표로 전체 격자를 훑지 않도록)
+        return load(placeGeoIndex.nearest(lat, lng, checkLimit(k), category, MAX_RADIUS_METERS), true);
+    }
+
+    // 인덱스 결과 순서를 유지한 채 Place를 한 번에 조회
+    private List<NearbyPlaceDto> load(List<PlaceGeoIndex.Hit> hits, boolean withDistance) {
+        Map<String, Place> places = placeRepository.findAllById(hits.stream().map(PlaceGeoIndex.Hit::contentsId).toList())
+                .stream()
+                .collect(Collectors.toMap(Place::getContentsId, Function.identity()));
+        return hits.stream()
+                .map(hit -> {
+                    Place place = places.get(hit.contentsId());
+                    return place == null ? null : NearbyPlaceDto.from(place, withDistance ? hit.distanceMeters() : null);
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void checkCoordinates(double lat, double lng) {
+        // NaN 도 여기서 걸러짐
+        if (!(lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180)) {
+            throw invalid("위도는 -90~90, 경도는 -180~180 사이여야 합니다.");
+        }
+    }
+
+    private int checkLimit(int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw invalid("limit는 1~" + MAX_LIMIT + " 사이여야 합니다.");
+        }
+        return limit;
+    }
+
+    private BusinessException invalid(String message) {
+        return new BusinessException(message, HttpStatus.BAD_REQUEST, "VAL001");
+    }
+}
@@ -0,0 +1,226 @@
+package jeju.bear.place.service;
+
+import jeju.bear.place.repository.PlaceRepository;
+import jeju.bear.place.util.GeoUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Place 좌표에 대한 메모리 격자(grid) 인덱스.
+ * 위경도를 CELL_DEGREES 단위 셀로 나눠 두고 반경/영역/최근접 검색 시 필요한 셀만 훑는다.
+ * 테이블 전체를 주기적으로 다시 읽어 스냅샷을 통째로 교체한다. (제주 장소 수 기준 수 MB 이내)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceGeoIndex {
+
+    // 약 1.1km (위도 기준)
+    private static final double CELL_DEGREES = 0.01;
+
+    private final PlaceRepository placeRepository;
+    private volatile Snapshot snapshot;
+
+    public record Hit(String contentsId, double distanceMeters) {
+    }
+
+    // 중심점 반경 내 장소 (가까운 순)
+    public List<Hit> within(double lat, double lng, double radiusMeters, String category, int limit) {
+        Snapshot s = current();
+        double dLat = radiusMeters / GeoUtils.METERS_PER_DEGREE_LAT;
+        double dLng = radiusMeters / GeoUtils.metersPerDegreeLng(lat);
+
+        List<Hit> hits = new ArrayList<>();
+        s.forEachInBox(lat - dLat, lng - dLng, lat + dLat, lng + dLng, category, i -> {
+            double d = GeoUtils.haversineMeters(lat, lng, s.lats[i], s.lngs[i]);
+            if (d <= radiusMeters) {
+                hits.add(new Hit(s.ids[i], d));
+            }
+        });
+        hits.sort(Comparator.comparingDouble(Hit::distanceMeters));
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    // 지도 영역(남서~북동) 내 장소
+    public List<Hit> inBounds(double swLat, double swLng, double neLat, double neLng, String category, int limit) {
+        Snapshot s = current();
+        List<Hit> hits = new ArrayList<>();
+        s.forEachInBox(swLat, swLng, neLat, neLng, category, i -> {
+            if (hits.size() < limit) {
+                hits.add(new Hit(s.ids[i], 0d));
+            }
+        });
+        return hits;
+    }
+
+    /**
+     * maxDistanceMeters 이내에서 가장 가까운 k개 (셀 고리를 한 겹씩 넓혀가며 탐색).
+     * 고리 수는 거리 상한으로 제한하고, 데이터 영역에서 상한보다 먼 지점은 바로 빈 결과를 돌려준다.
+     */
+    public List<Hit> nearest(double lat, double lng, int k, String category, double maxDistanceMeters) {
+        Snapshot s = current();
+        if (k <= 0 || s.ids.length == 0 || s.distanceToData(lat, lng) > maxDistanceMeters) {
+            return List.of();
+        }
+        PriorityQueue<Hit> heap = new PriorityQueue<>(Comparator.comparingDouble(Hit::distanceMeters).reversed());
+        int centerLat = cell(lat);
+        int centerLng = cell(lng);
+        // 셀 한 칸의 최소 길이 (데이터 영역 + 거리 상한 안에서): 고리 r 바깥의 점은 최소 r * cellMeters 떨어져 있다
+        double cellMeters = s.minCellMeters(maxDistanceMeters);
+        int maxRing = Math.min(s.maxRingFrom(centerLat, centerLng), (int) Math.ceil(maxDistanceMeters / cellMeters) + 1);
+
+        for (int r = 0; r <= maxRing; r++) {
+            for (int la = centerLat - r; la <= centerLat + r; la++) {
+                for (int ln = centerLng - r; ln <= centerLng + r; ln++) {
+                    if (Math.abs(la - centerLat) != r && Math.abs(ln - centerLng) != r) {
+                        continue;   // 고리 테두리만
+                    }
+                    int[] members = s.cells.get(key(la, ln));
+                    if (members == null) {
+                        continue;
+                    }
+                    for (int i : members) {
+                        if (category != null && !category.equals(s.categories[i])) {
+                            continue;
+                        }
+                        double d = GeoUtils.haversineMeters(lat, lng, s.lats[i], s.lngs[i]);
+                        if (d > maxDistanceMeters) {
+                            continue;
+                        }
+                        if (heap.size() < k) {
+                            heap.add(new Hit(s.ids[i], d));
+                        } else if (d < heap.peek().distanceMeters()) {
+                            heap.poll();
+                            heap.add(new Hit(s.ids[i], d));
+                        }
+                    }
+                }
+            }
+            if (heap.size() == k && heap.peek().distanceMeters() <= r * cellMeters) {
+                break;
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort(Comparator.comparingDouble(Hit::distanceMeters));
+        return hits;
+    }
+
+    @Scheduled(fixedDelayString = "${place.geo-index.refresh-interval-ms:600000}")
+    public void refresh() {
+        List<Object[]> rows = placeRepository.findAllCoordinates();
+        int n = rows.size();
+        String[] ids = new String[n];
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        String[] categories = new String[n];
+        Map<Long, List<Integer>> grouped = new HashMap<>();
+
+        for (int i = 0; i < n; i++) {
+            Object[] row = rows.get(i);
+            ids[i] = (String) row[0];
+            lats[i] = ((Number) row[1]).doubleValue();
+            lngs[i] = ((Number) row[2]).doubleValue();
+            categories[i] = (String) row[3];
+            grouped.computeIfAbsent(key(cell(lats[i]), cell(lngs[i])), c -> new ArrayList<>()).add(i);
+        }
+
+        Map<Long, int[]> cells = new HashMap<>(grouped.size() * 2);
+        int minLatCell = Integer.MAX_VALUE, maxLatCell = Integer.MIN_VALUE;
+        int minLngCell = Integer.MAX_VALUE, maxLngCell = Integer.MIN_VALUE;
+        for (Map.Entry<Long, List<Integer>> entry : grouped.entrySet()) {
+            long cellKey = entry.getKey();
+            cells.put(cellKey, entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+            minLatCell = Math.min(minLatCell, (int) (cellKey >> 32));
+            maxLatCell = Math.max(maxLatCell, (int) (cellKey >> 32));
+            minLngCell = Math.min(minLngCell, (int) cellKey);
+            maxLngCell = Math.max(maxLngCell, (int) cellKey);
+        }
+        this.snapshot = new Snapshot(ids, lats, lngs, categories, cells, minLatCell, maxLatCell, minLngCell, maxLngCell);
+        log.debug("장소 좌표 인덱스 갱신: {} 건, {} 개 셀", n, cells.size());
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                s = snapshot;
+            }
+        }
+        return s;
+    }
+
+    private static int cell(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long key(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    private interface IndexConsumer {
+        void accept(int index);
+    }
+
+    private record Snapshot(String[] ids, double[] lats, double[] lngs, String[] categories, Map<Long, int[]> cells,
+                            int minLatCell, int maxLatCell, int minLngCell, int maxLngCell) {
+
+        void forEachInBox(double minLat, double minLng, double maxLat, double maxLng, String category, IndexConsumer consumer) {
+            // 데이터가 있는 셀 범위로 잘라서 넓은 영역 요청에도 빈 셀을 훑지 않도록 함
+            int fromLat = Math.max(cell(minLat), minLatCell);
+            int toLat = Math.min(cell(maxLat), maxLatCell);
+            int fromLng = Math.max(cell(minLng), minLngCell);
+            int toLng = Math.min(cell(maxLng), maxLngCell);
+            for (int la = fromLat; la <= toLat; la++) {
+                for (int ln = fromLng; ln <= toLng; ln++) {
+                    int[] members = cells.get(key(la, ln));
+                    if (members == null) {
+                        continue;
+                    }
+                    for (int i : members) {
+                        if (lats[i] < minLat || lats[i] > maxLat || lngs[i] < minLng || lngs[i] > maxLng) {
+                            continue;
+                        }
+                        if (category == null || category.equals(categories[i])) {
+                            consumer.accept(i);
+                        }
+                    }
+                }
+            }
+        }
+
+        // 데이터가 있는 셀 범위(사각형)까지의 거리, 안에 있으면 0
+        double distanceToData(double lat, double lng) {
+            double nearestLat = Math.max(minLatCell * CELL_DEGREES, Math.min(lat, (maxLatCell + 1) * CELL_DEGREES));
+            double nearestLng = Math.max(minLngCell * CELL_DEGREES, Math.min(lng, (maxLngCell + 1) * CELL_DEGREES));
+            return GeoUtils.haversineMeters(lat, lng, nearestLat, nearestLng);
+        }
+
+        // 데이터 영역을 margin 만큼 넓힌 범위에서 셀 한 칸의 최소 길이 (경도 1도는 고위도일수록 짧음)
+        double minCellMeters(double marginMeters) {
+            double marginDegrees = marginMeters / GeoUtils.METERS_PER_DEGREE_LAT;
+            double maxAbsLat = Math.max(Math.abs(minLatCell * CELL_DEGREES), Math.abs((maxLatCell + 1) * CELL_DEGREES));
+            double lat = Math.min(maxAbsLat + marginDegrees, 89.0);
+            return CELL_DEGREES * Math.min(GeoUtils.METERS_PER_DEGREE_LAT, GeoUtils.metersPerDegreeLng(lat));
+        }
+
+        // 중심 셀에서 인덱스의 가장 먼 셀까지의 고리 수
+        int maxRingFrom(int centerLat, int centerLng) {
+            int latRing = Math.max(Math.abs(centerLat - minLatCell), Math.abs(maxLatCell - centerLat));
+            int lngRing = Math.max(Math.abs(centerLng - minLngCell), Math.abs(maxLngCell - centerLng));
+            return Math.max(latRing, lngRing);
+        }
+    }
+}
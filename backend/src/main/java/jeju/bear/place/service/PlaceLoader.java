@@ -0,0 +1,75 @@
+package jeju.bear.place.service;
+
+import jeju.bear.place.entity.Place;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 요청 단위 장소 로더 (DataLoader 방식).
+ * DTO를 채우는 동안 필요한 장소 ID를 모아 두었다가 처음 값을 꺼낼 때 한 번에 조회하고,
+ * 같은 요청 안에서는 조회 결과를 재사용한다.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class PlaceLoader {
+
+    private final PlaceLookupService placeLookupService;
+    private final Set<String> pending = new LinkedHashSet<>();
+    private final Map<String, Place> loaded = new HashMap<>();
+
+    // 나중에 함께 조회할 ID 등록
+    public void prime(Collection<String> ids) {
+        for (String id : ids) {
+            if (id != null && !loaded.containsKey(id)) {
+                pending.add(id);
+            }
+        }
+    }
+
+    public Optional<Place> load(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        if (!loaded.containsKey(id)) {
+            pending.add(id);
+            dispatch();
+        }
+        return Optional.ofNullable(loaded.get(id));
+    }
+
+    // items의 장소 ID를 한 번에 조회해 각 항목에 채워 넣음 (장소가 없는 항목은 건너뜀)
+    public <T> void enrich(List<T> items, Function<T, String> idOf, BiConsumer<T, Place> apply) {
+        prime(items.stream().map(idOf).toList());
+        dispatch();
+        for (T item : items) {
+            Place place = loaded.get(idOf.apply(item));
+            if (place != null) {
+                apply.accept(item, place);
+            }
+        }
+    }
+
+    private void dispatch() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<String, Place> found = placeLookupService.findByIds(pending);
+        // 존재하지 않는 ID도 기록해 다시 조회하지 않도록 함
+        for (String id : pending) {
+            loaded.put(id, found.get(id));
+        }
+        pending.clear();
+    }
+}
@@ -0,0 +1,62 @@
+package jeju.bear.place.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jeju.bear.place.entity.Place;
+import jeju.bear.place.repository.PlaceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 장소 ID 여러 개를 한 번에 조회한다.
+ * 자주 조회되는 장소는 메모리 캐시에서 꺼내고, 없는 것만 모아 findAllById 한 번으로 가져온다.
+ */
+@Service
+public class PlaceLookupService {
+
+    public static final int MAX_BATCH_SIZE = 300;
+
+    private final PlaceRepository placeRepository;
+    private final Cache<String, Place> hotCache;
+
+    public PlaceLookupService(PlaceRepository placeRepository,
+                              @Value("${place.lookup.cache-ttl-seconds:600}") long cacheTtlSeconds,
+                              @Value("${place.lookup.cache-maximum-size:5000}") long cacheMaximumSize) {
+        this.placeRepository = placeRepository;
+        this.hotCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .maximumSize(cacheMaximumSize)
+                .build();
+    }
+
+    // 요청 순서를 유지한 ID → Place 맵 (없는 ID와 null은 제외)
+    public Map<String, Place> findByIds(Collection<String> ids) {
+        // Caffeine getAll은 null 키를 받지 않음
+        List<String> keys = ids.stream().filter(Objects::nonNull).distinct().toList();
+        Map<String, Place> found = hotCache.getAll(keys, missing ->
+                placeRepository.findAllById(List.copyOf(missing)).stream()
+                        .collect(Collectors.toMap(Place::getContentsId, Function.identity())));
+
+        Map<String, Place> ordered = new LinkedHashMap<>();
+        for (String id : keys) {
+            Place place = found.get(id);
+            if (place != null) {
+                ordered.put(id, place);
+            }
+        }
+        return ordered;
+    }
+
+    public void evictAll() {
+        hotCache.invalidateAll();
+    }
+}
@@ -0,0 +1,162 @@
+package jeju.bear.place.service;
+
+import jeju.bear.common.exception.BusinessException;
+import jeju.bear.global.lock.RedisLock;
+import jeju.bear.place.entity.Place;
+import jeju.bear.place.repository.PlaceRepository;
+import jeju.bear.place.repository.PopularityAggregationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 장소 인기 순위.
+ * 좋아요, 일정 추가, 게시글 공유 신호를 시간 감쇠 가중치로 합산해 Redis ZSET에 미리 저장하고,
+ * 인기 장소 조회는 ZREVRANGE 로 바로 읽는다.
+ * - popular:places:all          전체
+ * - popular:places:{category}   장소 카탈로그(place) 카테고리별
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlacePopularityService {
+
+    private static final String KEY_PREFIX = "popular:places:";
+    private static final String ALL = "all";
+    private static final String LOCK_KEY = "lock:place-popularity";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+    private static final Duration RANKING_TTL = Duration.ofDays(1);
+    public static final int MAX_LIMIT = 100;
+    // 순위 저장 뒤 삭제된 장소를 건너뛰고도 limit 을 채우도록 더 읽어 옴
+    private static final int OVER_FETCH_FACTOR = 2;
+
+    private final PopularityAggregationRepository aggregationRepository;
+    private final PlaceRepository placeRepository;
+    private final PlaceLookupService placeLookupService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLock redisLock;
+
+    @Value("${place.popularity.decay-hours:336}")
+    private double decayHours;
+
+    @Value("${place.popularity.weight.favorite:3}")
+    private double favoriteWeight;
+
+    @Value("${place.popularity.weight.destination:1}")
+    private double destinationWeight;
+
+    @Value("${place.popularity.weight.post:2}")
+    private double postWeight;
+
+    public List<Place> getPopularPlaces(String category, int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new BusinessException("limit는 1~" + MAX_LIMIT + " 사이여야 합니다.", HttpStatus.BAD_REQUEST, "VAL001");
+        }
+        Set<String> ids = redisTemplate.opsForZSet().reverseRange(key(category), 0, (long) limit * OVER_FETCH_FACTOR - 1);
+        if (ids == null || ids.isEmpty()) {
+            // 아직 집계 전이면 평점순으로 대체
+            return category != null
+                    ? placeRepository.findTopPlacesByCategory(category, PageRequest.of(0, limit))
+                    : List.of();
+        }
+        List<Place> places = placeLookupService.findByIds(ids).values().stream().limit(limit).toList();
+        if (places.size() < limit && category != null) {
+            // 순위가 모자라면 평점순으로 채움
+            Set<String> seen = places.stream().map(Place::getContentsId).collect(Collectors.toSet());
+            List<Place> filled = new ArrayList<>(places);
+            for (Place place : placeRepository.findTopPlacesByCategory(category, PageRequest.of(0, limit * OVER_FETCH_FACTOR))) {
+                if (filled.size() >= limit) {
+                    break;
+                }
+                if (seen.add(place.getContentsId())) {
+                    filled.add(place);
+                }
+            }
+            return filled;
+        }
+        return places;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void aggregateIfMissing() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(key(null)))) {
+            return;
+        }
+        try {
+            aggregate();
+        } catch (Exception e) {
+            log.warn("장소 인기도 초기 집계 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${place.popularity.cron:0 0 * * * *}")
+    public void aggregate() {
+        Optional<String> token = redisLock.tryAcquire(LOCK_KEY, LOCK_TTL);
+        if (token.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, Double> scores = new HashMap<>();
+            addWeighted(scores, aggregationRepository.favoriteScores(decayHours), favoriteWeight);
+            addWeighted(scores, aggregationRepository.destinationScores(decayHours), destinationWeight);
+            addWeighted(scores, aggregationRepository.postScores(decayHours), postWeight);
+
+            // 카탈로그에 없는 ID(숙소, 카카오 장소 등)는 조회할 수 없으므로 순위에서 제외
+            Map<String, String> categories = aggregationRepository.findCategories(new ArrayList<>(scores.keySet()));
+            Map<String, Set<ZSetOperations.TypedTuple<String>>> byKey = new HashMap<>();
+            scores.forEach((placeId, score) -> {
+                if (!categories.containsKey(placeId)) {
+                    return;
+                }
+                ZSetOperations.TypedTuple<String> tuple = new DefaultTypedTuple<>(placeId, score);
+                byKey.computeIfAbsent(key(null), k -> new HashSet<>()).add(tuple);
+                String category = categories.get(placeId);
+                if (category != null) {
+                    byKey.computeIfAbsent(key(category), k -> new HashSet<>()).add(tuple);
+                }
+            });
+
+            byKey.forEach(this::replace);
+            log.info("장소 인기도 집계 완료: {} 개 장소, {} 개 순위", categories.size(), byKey.size());
+        } finally {
+            redisLock.release(LOCK_KEY, token.get());
+        }
+    }
+
+    // 임시 키에 채운 뒤 교체해 조회 중인 순위가 비지 않도록 함
+    // 더 이상 집계되지 않는 카테고리 순위는 TTL로 정리
+    private void replace(String key, Set<ZSetOperations.TypedTuple<String>> tuples) {
+        String tempKey = key + ":rebuild";
+        redisTemplate.delete(tempKey);
+        redisTemplate.opsForZSet().add(tempKey, tuples);
+        redisTemplate.rename(tempKey, key);
+        redisTemplate.expire(key, RANKING_TTL);
+    }
+
+    private static void addWeighted(Map<String, Double> target, Map<String, Double> source, double weight) {
+        source.forEach((placeId, score) -> target.merge(placeId, score * weight, Double::sum));
+    }
+
+    private static String key(String category) {
+        return KEY_PREFIX + (category != null ? category : ALL);
+    }
+}
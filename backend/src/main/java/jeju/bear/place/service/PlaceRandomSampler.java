@@ -0,0 +1,64 @@
+package jeju.bear.place.service;
+
+import jeju.bear.place.repository.PlaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 카테고리별 contentsId 배열을 메모리에 들고 있다가 무작위로 N개를 뽑는다.
+ * ORDER BY RAND()처럼 카테고리 전체를 정렬하지 않고, 희소 Fisher-Yates 셔플로 O(N)에 서로 다른 N개를 고른다.
+ * 가져오기/동기화 후 refresh 하고, 다른 노드의 변경은 주기적 갱신으로 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceRandomSampler {
+
+    private final PlaceRepository placeRepository;
+    private final Map<String, String[]> idsByCategory = new ConcurrentHashMap<>();
+
+    public List<String> sample(String category, int count) {
+        String[] ids = idsByCategory.computeIfAbsent(category, this::load);
+        int n = ids.length;
+        int k = Math.min(count, n);
+        List<String> result = new ArrayList<>(k);
+        if (k <= 0) {
+            return result;
+        }
+
+        // 배열을 건드리지 않고 교환 내역만 기록하는 부분 셔플
+        Map<Integer, Integer> swapped = new HashMap<>(k * 2);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < k; i++) {
+            int j = random.nextInt(i, n);
+            int picked = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(i, i));
+            result.add(ids[picked]);
+        }
+        return result;
+    }
+
+    public void refresh(String category) {
+        idsByCategory.put(category, load(category));
+    }
+
+    @Scheduled(fixedDelayString = "${place.sampler.refresh-interval-ms:600000}")
+    public void refreshAll() {
+        idsByCategory.keySet().forEach(this::refresh);
+    }
+
+    private String[] load(String category) {
+        String[] ids = placeRepository.findContentsIdsByCategory(category).toArray(String[]::new);
+        log.debug("무작위 추출용 ID 목록 갱신: category={}, {} 건", category, ids.length);
+        return ids;
+    }
+}
@@ -0,0 +1,77 @@
+package jeju.bear.place.service;
+
+import jeju.bear.common.exception.BusinessException;
+import jeju.bear.place.dto.PlaceSearchResultDto;
+import jeju.bear.place.repository.PlaceSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 Place 카탈로그 전문 검색.
+ * MySQL FULLTEXT ngram 인덱스를 사용하므로 가져오기/동기화로 저장된 내용이 별도 작업 없이 바로 검색된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaceSearchService {
+
+    // ngram_token_size 기본값
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PlaceSearchRepository placeSearchRepository;
+
+    @Value("${place.search.create-index:true}")
+    private boolean createIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        if (!createIndex) {
+            return;
+        }
+        try {
+            placeSearchRepository.createIndexes();
+        } catch (Exception e) {
+            log.warn("장소 전문 검색 인덱스 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    public PlaceSearchResultDto search(String query, String category, int page, int size) {
+        String q = query == null ? "" : query.trim();
+        if (q.length() < MIN_QUERY_LENGTH) {
+            throw invalid("검색어는 " + MIN_QUERY_LENGTH + "자 이상이어야 합니다.");
+        }
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw invalid("page는 0 이상, size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        Map<String, Long> facets = placeSearchRepository.countByCategory(q);
+        long total = category != null
+                ? facets.getOrDefault(category, 0L)
+                : facets.values().stream().mapToLong(Long::longValue).sum();
+
+        List<PlaceSearchResultDto.Item> items = (long) page * size < total
+                ? placeSearchRepository.search(q, category, page * size, size)
+                : List.of();
+
+        return PlaceSearchResultDto.builder()
+                .items(items)
+                .categoryFacets(facets)
+                .totalCount(total)
+                .page(page)
+                .size(size)
+                .build();
+    }
+
+    private BusinessException invalid(String message) {
+        return new BusinessException(message, HttpStatus.BAD_REQUEST, "VAL001");
+    }
+}
@@ -0,0 +1,206 @@
+package jeju.bear.place.service;
+
+import jeju.bear.common.exception.BusinessException;
+import jeju.bear.global.lock.RedisLock;
+import jeju.bear.place.client.VisitJejuApiClient;
+import jeju.bear.place.dto.ImportJobStatus;
+import jeju.bear.place.dto.VisitJejuResponse;
+import jeju.bear.place.entity.Place;
+import jeju.bear.place.repository.PlaceBulkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * VisitJeju 전체 카탈로그 가져오기 작업.
+ * 카테고리/페이지를 제한된 동시성으로 병렬 조회하고, 변환된 Place를 JDBC 배치 upsert로 저장한다.
+ * 페이지 조회는 몇 번 재시도한 뒤에도 실패하면 건너뛰고 나머지를 계속 가져온다.
+ * 가져오기는 분산 락으로 한 번에 하나만 실행하며, 작업 진행 상황은 jobId로 조회할 수 있다.
+ */
+@Slf4j
+@Service
+public class VisitJejuImportService {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int PAGE_RETRIES = 3;
+    private static final Duration PAGE_RETRY_BACKOFF = Duration.ofSeconds(1);
+    private static final String LOCK_KEY = "lock:visitjeju-import";
+    private static final Duration LOCK_TTL = Duration.ofHours(2);
+
+    private final VisitJejuApiClient apiClient;
+    private final PlaceBulkRepository placeBulkRepository;
+    private final PlaceRandomSampler placeRandomSampler;
+    private final PlaceGeoIndex placeGeoIndex;
+    private final PlaceLookupService placeLookupService;
+    private final RedisLock redisLock;
+    private final int pageConcurrency;
+    private final int categoryConcurrency;
+    private final int batchSize;
+    private final Duration jobRetention;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public VisitJejuImportService(VisitJejuApiClient apiClient,
+                                  PlaceBulkRepository placeBulkRepository,
+                                  PlaceRandomSampler placeRandomSampler,
+                                  PlaceGeoIndex placeGeoIndex,
+                                  PlaceLookupService placeLookupService,
+                                  RedisLock redisLock,
+                                  @Value("${visitjeju.import.page-concurrency:4}") int pageConcurrency,
+                                  @Value("${visitjeju.import.category-concurrency:2}") int categoryConcurrency,
+                                  @Value("${visitjeju.import.batch-size:500}") int batchSize,
+                                  @Value("${visitjeju.import.job-retention-hours:24}") long jobRetentionHours) {
+        this.apiClient = apiClient;
+        this.placeBulkRepository = placeBulkRepository;
+        this.placeRandomSampler = placeRandomSampler;
+        this.placeGeoIndex = placeGeoIndex;
+        this.placeLookupService = placeLookupService;
+        this.redisLock = redisLock;
+        this.pageConcurrency = pageConcurrency;
+        this.categoryConcurrency = categoryConcurrency;
+        this.batchSize = batchSize;
+        this.jobRetention = Duration.ofHours(jobRetentionHours);
+    }
+
+    // 다른 가져오기가 진행 중이면 (이 노드든 다른 노드든) 409
+    public ImportJobStatus startFullImport(List<String> categories) {
+        purgeExpiredJobs();
+        Optional<String> token = redisLock.tryAcquire(LOCK_KEY, LOCK_TTL);
+        if (token.isEmpty()) {
+            throw new BusinessException("이미 VisitJeju 전체 가져오기가 진행 중입니다.", HttpStatus.CONFLICT, "JOB001");
+        }
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), List.copyOf(categories));
+        jobs.put(job.id, job);
+        log.info("VisitJeju 전체 가져오기 시작: jobId={}, categories={}", job.id, categories);
+
+        Flux.fromIterable(job.categories)
+                .flatMap(category -> fetchCategory(category, job), categoryConcurrency)
+                .buffer(batchSize)
+                // JDBC는 블로킹이므로 별도 스케줄러에서 순차 저장
+                .publishOn(Schedulers.boundedElastic())
+                .concatMap(batch -> Mono.fromCallable(() -> placeBulkRepository.upsertAll(batch)))
+                .doOnNext(job.itemsSaved::addAndGet)
+                .doFinally(signal -> redisLock.release(LOCK_KEY, token.get()))
+                .subscribe(
+                        saved -> log.debug("VisitJeju 배치 저장: jobId={}, {} 건", job.id, saved),
+                        error -> {
+                            job.fail(error);
+                            log.error("VisitJeju 전체 가져오기 실패: jobId={}", job.id, error);
+                        },
+                        () -> {
+                            job.categories.forEach(placeRandomSampler::refresh);
+                            placeGeoIndex.refresh();
+                            placeLookupService.evictAll();
+                            job.complete();
+                            log.info("VisitJeju 전체 가져오기 완료: jobId={}, {} 건 저장, 건너뛴 페이지 {} 개",
+                                    job.id, job.itemsSaved.get(), job.pagesSkipped.get());
+                        });
+
+        return job.toStatus();
+    }
+
+    public ImportJobStatus getStatus(String jobId) {
+        purgeExpiredJobs();
+        ImportJob job = jobs.get(jobId);
+        return job != null ? job.toStatus() : null;
+    }
+
+    // 끝난 지 보관 기간이 지난 작업은 상태 조회 대상에서 제거
+    private void purgeExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    private Flux<Place> fetchCategory(String category, ImportJob job) {
+        return fetchPage(category, 1, job)
+                .flatMapMany(first -> {
+                    int pageCount = first.getPageCount() != null ? first.getPageCount() : 1;
+                    Flux<VisitJejuResponse> rest = Flux.range(2, Math.max(0, pageCount - 1))
+                            .flatMap(page -> fetchPage(category, page, job), pageConcurrency);
+                    return Flux.concat(Mono.just(first), rest);
+                })
+                .doOnNext(response -> job.pagesFetched.incrementAndGet())
+                .flatMapIterable(response -> response.getItems() != null ? response.getItems() : List.of())
+                .doOnNext(item -> job.itemsFetched.incrementAndGet())
+                .<Place>handle((item, sink) -> {
+                    Place place = VisitJejuService.convert(item, category);
+                    if (place != null) {
+                        sink.next(place);
+                    } else {
+                        job.itemsSkipped.incrementAndGet();
+                    }
+                });
+    }
+
+    // 일시적인 오류는 재시도하고, 그래도 실패한 페이지는 건너뜀 (첫 페이지면 카테고리 전체를 건너뜀)
+    private Mono<VisitJejuResponse> fetchPage(String category, int page, ImportJob job) {
+        return apiClient.fetchAttractions(category, page, PAGE_SIZE)
+                .retryWhen(Retry.backoff(PAGE_RETRIES, PAGE_RETRY_BACKOFF))
+                .onErrorResume(e -> {
+                    job.pagesSkipped.incrementAndGet();
+                    log.warn("VisitJeju 페이지 조회 실패, 건너뜀: jobId={}, category={}, page={}, {}",
+                            job.id, category, page, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private static class ImportJob {
+        private final String id;
+        private final List<String> categories;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicInteger pagesFetched = new AtomicInteger();
+        private final AtomicInteger pagesSkipped = new AtomicInteger();
+        private final AtomicInteger itemsFetched = new AtomicInteger();
+        private final AtomicInteger itemsSaved = new AtomicInteger();
+        private final AtomicInteger itemsSkipped = new AtomicInteger();
+        private volatile String status = "RUNNING";
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private ImportJob(String id, List<String> categories) {
+            this.id = id;
+            this.categories = categories;
+        }
+
+        private void complete() {
+            this.finishedAt = LocalDateTime.now();
+            this.status = "COMPLETED";
+        }
+
+        private void fail(Throwable t) {
+            this.finishedAt = LocalDateTime.now();
+            this.error = Objects.toString(t.getMessage(), t.getClass().getSimpleName());
+            this.status = "FAILED";
+        }
+
+        private ImportJobStatus toStatus() {
+            return ImportJobStatus.builder()
+                    .jobId(id)
+                    .categories(categories)
+                    .status(status)
+                    .pagesFetched(pagesFetched.get())
+                    .pagesSkipped(pagesSkipped.get())
+                    .itemsFetched(itemsFetched.get())
+                    .itemsSaved(itemsSaved.get())
+                    .itemsSkipped(itemsSkipped.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
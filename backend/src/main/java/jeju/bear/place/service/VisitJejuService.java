@@ -1,6 +1,7 @@
 package jeju.bear.place.service;
 
 import jeju.bear.place.entity.Place;
+import jeju.bear.place.repository.PlaceBulkRepository;
 import jeju.bear.place.repository.PlaceRepository;
 import jeju.bear.place.client.VisitJejuApiClient;
 import jeju.bear.place.dto.VisitJejuResponse;
@@ -10,7 +11,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Service
@@ -19,19 +23,27 @@ public class VisitJejuService {
 
     private final VisitJejuApiClient apiClient;
     private final PlaceRepository placeRepository;
+    private final PlaceBulkRepository placeBulkRepository;
+    private final PlaceRandomSampler placeRandomSampler;
+    private final PlaceGeoIndex placeGeoIndex;
+    private final PlaceLookupService placeLookupService;
 
     public List<Place> importAttractions(String category, int page, int size) {
         VisitJejuResponse response = apiClient.getAttractions(category, page, size);
-        List<Place> saved = response.getItems().stream()
+        List<Place> places = response.getItems().stream()
                 .map(item -> convert(item, category))
                 .filter(Objects::nonNull)
-                .map(placeRepository::save)
                 .toList();
-        return saved;
+        placeBulkRepository.upsertAll(places);
+        placeRandomSampler.refresh(category);
+        placeGeoIndex.refresh();
+        placeLookupService.evictAll();
+        return places;
     }
 
-    private Place convert(VisitJejuResponse.Item item, String category) {
+    static Place convert(VisitJejuResponse.Item item, String category) {
         try {
+            if (item.getContentsid() == null || item.getTitle() == null) return null;
             if (item.getLatitude() == null || item.getLongitude() == null) return null;
 
             double lat = new BigDecimal(item.getLatitude()).doubleValue();
@@ -43,7 +55,7 @@ public class VisitJejuService {
             return new Place(
                     item.getContentsid(),
                     item.getTitle(),
-                    item.getAddr1() != null ? item.getAddr1() : item.getAddress(),
+                    item.getAddr1() != null ? item.getAddr1() : (item.getAddress() != null ? item.getAddress() : ""),
                     lat,
                     lng,
                     item.getAlltag(),
@@ -62,8 +74,15 @@ public class VisitJejuService {
     }
     
     public List<Place> getRandomPlacesByCategory(String category, int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-        return placeRepository.findRandomPlacesByCategory(category, pageable);
+        List<String> ids = placeRandomSampler.sample(category, limit);
+        // findAllById는 순서를 보장하지 않으므로 추출 순서대로 다시 정렬
+        Map<String, Integer> order = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            order.put(ids.get(i), i);
+        }
+        return placeRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(p -> order.get(p.getContentsId())))
+                .toList();
     }
 
     public Place getPlaceByContentsId(String contentsId) {
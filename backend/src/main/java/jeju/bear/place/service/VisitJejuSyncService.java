@@ -0,0 +1,149 @@
+package jeju.bear.place.service;
+
+import jeju.bear.global.lock.RedisLock;
+import jeju.bear.place.client.VisitJejuApiClient;
+import jeju.bear.place.dto.VisitJejuResponse;
+import jeju.bear.place.entity.Place;
+import jeju.bear.place.repository.PlaceBulkRepository;
+import jeju.bear.place.util.PlaceContentHasher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * VisitJeju 증분 동기화.
+ * 저장된 내용 해시와 비교해 바뀐 장소만 upsert 하고, 카테고리별 진행 페이지(커서)를 Redis에 기록한다.
+ * 중간에 중단되면 다음 실행에서 마지막으로 끝낸 페이지 다음부터 이어서 진행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VisitJejuSyncService {
+
+    private static final String CURSOR_KEY_PREFIX = "visitjeju:sync:cursor:";
+    private static final String LOCK_KEY = "lock:visitjeju-sync";
+    private static final Duration LOCK_TTL = Duration.ofHours(2);
+    private static final int PAGE_SIZE = 100;
+
+    private final VisitJejuApiClient apiClient;
+    private final PlaceBulkRepository placeBulkRepository;
+    private final PlaceRandomSampler placeRandomSampler;
+    private final PlaceGeoIndex placeGeoIndex;
+    private final PlaceLookupService placeLookupService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLock redisLock;
+
+    @Value("${visitjeju.sync.enabled:true}")
+    private boolean enabled;
+
+    @Value("${visitjeju.sync.categories:c1,c4}")
+    private List<String> categories;
+
+    @Scheduled(cron = "${visitjeju.sync.cron:0 30 3 * * *}")
+    public void scheduledSync() {
+        if (!enabled) {
+            return;
+        }
+        if (sync(categories).isEmpty()) {
+            log.info("다른 노드에서 VisitJeju 동기화 중 - 건너뜀");
+        }
+    }
+
+    /**
+     * 스케줄 실행과 수동 실행이 같은 분산 락을 사용한다.
+     * 이미 다른 동기화가 진행 중이면 빈 값을, 아니면 카테고리별 변경 건수를 반환한다.
+     * 한 카테고리가 실패해도 나머지 카테고리는 계속 진행한다 (실패한 카테고리는 결과에서 빠짐).
+     */
+    public Optional<Map<String, Integer>> sync(List<String> targetCategories) {
+        Optional<String> token = redisLock.tryAcquire(LOCK_KEY, LOCK_TTL);
+        if (token.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            Map<String, Integer> changed = new LinkedHashMap<>();
+            for (String category : targetCategories) {
+                try {
+                    changed.put(category, syncCategory(category));
+                } catch (Exception e) {
+                    log.error("VisitJeju 동기화 실패: category={}", category, e);
+                }
+            }
+            return Optional.of(changed);
+        } finally {
+            redisLock.release(LOCK_KEY, token.get());
+        }
+    }
+
+    // 카테고리 하나를 동기화하고 변경된 장소 수를 반환 (호출 측에서 락을 잡고 있어야 함)
+    private int syncCategory(String category) {
+        String cursorKey = CURSOR_KEY_PREFIX + category;
+        Map<String, String> storedHashes = placeBulkRepository.findContentHashes(category);
+        int page = readNextPage(cursorKey);
+        int changed = 0;
+        int unchanged = 0;
+
+        log.info("VisitJeju 동기화 시작: category={}, page={}, 저장된 장소 {} 건", category, page, storedHashes.size());
+
+        while (true) {
+            VisitJejuResponse response = apiClient.getAttractions(category, page, PAGE_SIZE);
+            if (response == null || response.getItems() == null || response.getItems().isEmpty()) {
+                break;
+            }
+
+            List<Place> changedPlaces = new ArrayList<>();
+            for (VisitJejuResponse.Item item : response.getItems()) {
+                Place place = VisitJejuService.convert(item, category);
+                if (place == null) {
+                    continue;
+                }
+                if (PlaceContentHasher.hash(place).equals(storedHashes.get(place.getContentsId()))) {
+                    unchanged++;
+                } else {
+                    changedPlaces.add(place);
+                }
+            }
+            changed += placeBulkRepository.upsertAll(changedPlaces);
+
+            // 페이지 단위로 커서 기록 (중단 시 이어서 진행)
+            redisTemplate.opsForHash().put(cursorKey, "nextPage", String.valueOf(page + 1));
+
+            Integer pageCount = response.getPageCount();
+            if (pageCount != null && page >= pageCount) {
+                break;
+            }
+            page++;
+        }
+
+        if (changed > 0) {
+            placeRandomSampler.refresh(category);
+            placeGeoIndex.refresh();
+            placeLookupService.evictAll();
+        }
+
+        // 한 바퀴를 모두 돌았으므로 다음 실행은 처음부터
+        redisTemplate.opsForHash().put(cursorKey, "nextPage", "1");
+        redisTemplate.opsForHash().put(cursorKey, "lastSyncedAt", LocalDateTime.now().toString());
+        log.info("VisitJeju 동기화 완료: category={}, 변경 {} 건, 변경 없음 {} 건", category, changed, unchanged);
+        return changed;
+    }
+
+    private int readNextPage(String cursorKey) {
+        Object value = redisTemplate.opsForHash().get(cursorKey, "nextPage");
+        try {
+            return value != null ? Math.max(1, Integer.parseInt(value.toString())) : 1;
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+}
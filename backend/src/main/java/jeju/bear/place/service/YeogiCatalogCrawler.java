@@ -0,0 +1,85 @@
+package jeju.bear.place.service;
+
+import jeju.bear.global.lock.RedisLock;
+import jeju.bear.place.dto.PlaceDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 제주 지역 숙소를 주기적으로 수집해 accommodation_catalog 테이블에 저장한다.
+ * 모든 지역 수집이 성공하면 이번 수집에서 나오지 않은 숙소는 카탈로그에서 지운다.
+ * 여러 노드에서 동시에 실행되지 않도록 Redis 락을 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class YeogiCatalogCrawler {
+
+    private static final String LOCK_KEY = "lock:yeogi-catalog-crawler";
+    private static final Duration LOCK_TTL = Duration.ofHours(3);
+
+    private final YeogiService yeogiService;
+    private final AccommodationCatalogService catalogService;
+    private final RedisLock redisLock;
+
+    @Value("${yeogi.crawler.enabled:true}")
+    private boolean enabled;
+
+    @Value("${yeogi.crawler.regions:제주,제주시,서귀포,애월,한림,조천,구좌,성산,표선,남원,안덕,대정,한경,중문,우도}")
+    private List<String> regions;
+
+    @Value("${yeogi.crawler.limit-per-region:300}")
+    private int limitPerRegion;
+
+    @Scheduled(cron = "${yeogi.crawler.cron:0 0 4 * * *}")
+    public void crawl() {
+        if (!enabled) {
+            return;
+        }
+        String token = redisLock.tryAcquire(LOCK_KEY, LOCK_TTL).orElse(null);
+        if (token == null) {
+            log.info("다른 노드에서 숙소 카탈로그 수집 중 - 건너뜀");
+            return;
+        }
+
+        try {
+            // 가격이 아닌 숙소 목록만 필요하므로 임의의 가까운 날짜로 검색
+            String checkIn = LocalDate.now().plusDays(1).toString();
+            String checkOut = LocalDate.now().plusDays(2).toString();
+            // DB 시각 반올림 차이로 이번 수집 행이 기준보다 이르게 저장되지 않도록 여유를 둠
+            LocalDateTime startedAt = LocalDateTime.now().minusMinutes(1);
+            int total = 0;
+            boolean complete = true;
+
+            for (String region : regions) {
+                try {
+                    List<PlaceDto> places = yeogiService.fetchPlaceIds(region, checkIn, checkOut, 2, limitPerRegion);
+                    total += catalogService.upsert(places, region);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    complete = false;
+                    break;
+                } catch (Exception e) {
+                    complete = false;
+                    log.warn("숙소 카탈로그 수집 실패: region={}, {}", region, e.getMessage());
+                }
+            }
+            log.info("숙소 카탈로그 수집 완료: {} 개 지역, {} 건", regions.size(), total);
+
+            // 일부 지역이 실패했거나 아무것도 받지 못했으면 기존 숙소를 지우지 않음
+            if (complete && total > 0) {
+                catalogService.deleteNotCrawledSince(startedAt);
+            }
+        } finally {
+            redisLock.release(LOCK_KEY, token);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package jeju.bear.place.service;
+
+import jeju.bear.place.dto.RoomBatchRequest;
+import jeju.bear.place.dto.RoomBatchResult;
+import jeju.bear.place.dto.RoomDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 여러 숙소의 객실/가격을 병렬로 조회해 도착하는 순서대로 SSE로 흘려보낸다.
+ * 조회는 yeogiFetchExecutor에서 실행되며, 호스트별 동시 요청 수를 넘는 조회는 스레드를 막지 않고 대기열에 두었다가
+ * 앞선 조회가 끝나면 이어서 제출한다. 풀이 가득 차 거절된 조회는 error 이벤트로 알린다.
+ */
+@Slf4j
+@Service
+public class YeogiRoomBatchService {
+
+    public static final int MAX_PLACE_IDS = 50;
+
+    private final YeogiService yeogiService;
+    private final ThreadPoolTaskExecutor executor;
+    // 조회 대상 호스트가 www.yeogi.com 하나뿐이라 제한기도 하나
+    private final HostLimiter limiter;
+
+    public YeogiRoomBatchService(YeogiService yeogiService,
+                                 @Qualifier("yeogiFetchExecutor") ThreadPoolTaskExecutor executor,
+                                 @Value("${yeogi.fetch.max-concurrent-per-host:4}") int maxConcurrentPerHost) {
+        this.yeogiService = yeogiService;
+        this.executor = executor;
+        this.limiter = new HostLimiter(maxConcurrentPerHost);
+    }
+
+    public void streamRooms(RoomBatchRequest request, SseEmitter emitter) {
+        // 중복 ID는 한 번만 조회 (요청 순서 유지)
+        List<String> placeIds = List.copyOf(new LinkedHashSet<>(request.getPlaceIds()));
+        log.info("객실 일괄 조회 시작: {} 개 숙소, checkIn={}, checkOut={}", placeIds.size(), request.getCheckIn(), request.getCheckOut());
+
+        CompletableFuture<?>[] futures = placeIds.stream()
+                .map(placeId -> limiter.submit(() -> fetch(placeId, request))
+                        .handle((result, ex) -> {
+                            if (ex != null) {
+                                log.warn("객실 조회 거절: placeId={}, {}", placeId, ex.getMessage());
+                                send(emitter, "error", RoomBatchResult.failure(placeId, "요청이 많아 처리하지 못했습니다."));
+                            } else {
+                                send(emitter, "rooms", result);
+                            }
+                            return null;
+                        }))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(futures).whenComplete((ignored, ex) -> {
+            send(emitter, "done", placeIds.size());
+            emitter.complete();
+            log.info("객실 일괄 조회 완료: {} 개 숙소", placeIds.size());
+        });
+    }
+
+    private RoomBatchResult fetch(String placeId, RoomBatchRequest request) {
+        try {
+            // 프록시를 통해 호출하므로 rooms 캐시가 그대로 적용됨
+            List<RoomDto> rooms = yeogiService.fetchRoomsWithPrices(
+                    placeId, request.getCheckIn(), request.getCheckOut(), request.getPersonal());
+            return RoomBatchResult.success(placeId, rooms);
+        } catch (Exception e) {
+            log.warn("객실 조회 실패: placeId={}, {}", placeId, e.getMessage());
+            return RoomBatchResult.failure(placeId, e.getMessage());
+        }
+    }
+
+    private void send(SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊은 경우 - 남은 결과는 캐시에만 저장됨
+            log.debug("SSE 전송 실패 ({}): {}", eventName, e.getMessage());
+        }
+    }
+
+    // 호스트별 동시 실행 수 제한 (대기 중인 조회는 스레드를 점유하지 않음)
+    private final class HostLimiter {
+        private final Semaphore permits;
+        private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+
+        private HostLimiter(int maxConcurrent) {
+            this.permits = new Semaphore(maxConcurrent);
+        }
+
+        <T> CompletableFuture<T> submit(Supplier<T> task) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            waiting.add(() -> {
+                try {
+                    executor.execute(() -> {
+                        try {
+                            future.complete(task.get());
+                        } catch (Throwable t) {
+                            future.completeExceptionally(t);
+                        } finally {
+                            permits.release();
+                            drain();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    permits.release();
+                    future.completeExceptionally(e);
+                }
+            });
+            drain();
+            return future;
+        }
+
+        private void drain() {
+            while (!waiting.isEmpty() && permits.tryAcquire()) {
+                Runnable next = waiting.poll();
+                if (next == null) {
+                    permits.release();
+                    continue;
+                }
+                next.run();
+            }
+        }
+    }
+}
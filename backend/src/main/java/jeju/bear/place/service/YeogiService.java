@@ -1,53 +1,30 @@
 package jeju.bear.place.service;
 
 import com.google.gson.*;
+import jeju.bear.place.client.YeogiHttpClient;
 import jeju.bear.place.dto.PlaceDto;
 import jeju.bear.place.dto.RoomDto;
-import okhttp3.*;
-import org.brotli.dec.BrotliInputStream;
+import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.zip.GZIPInputStream;
 
 @Service
+@RequiredArgsConstructor
 public class YeogiService {
     private static final Logger log = LoggerFactory.getLogger(YeogiService.class);
 
-    private static final OkHttpClient client = new OkHttpClient.Builder()
-            .callTimeout(java.time.Duration.ofSeconds(20))
-            .connectTimeout(java.time.Duration.ofSeconds(15))
-            .readTimeout(java.time.Duration.ofSeconds(15))
-            .writeTimeout(java.time.Duration.ofSeconds(15))
-            .cookieJar(new CookieJar() {
-                private final Map<String, List<Cookie>> cookieStore = new HashMap<>();
-                
-                @Override
-                public void saveFromResponse(HttpUrl url, List<Cookie> cookies) {
-                    cookieStore.put(url.host(), cookies);
-                }
-                
-                @Override
-                public List<Cookie> loadForRequest(HttpUrl url) {
-                    List<Cookie> cookies = cookieStore.get(url.host());
-                    return cookies != null ? cookies : new ArrayList<>();
-                }
-            })
-            .build();
+    private final YeogiHttpClient httpClient;
 
     private static final Gson gson = new Gson();
-    private static final String USER_AGENT =
-            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
     private static final int MAX_PLACES = 100;
 
     @Cacheable(value = "places", key = "#keyword + '_' + #checkIn + '_' + #checkOut + '_' + #personal + '_' + #limit")
@@ -60,7 +37,7 @@ public class YeogiService {
         // 1. 메인 페이지 먼저 방문 (쿠키 설정)
         log.info("Visiting main page first...");
         try {
-            String mainPage = safeGet("https://www.yeogi.com");
+            String mainPage = httpClient.get("https://www.yeogi.com");
             log.info("Main page visited successfully, length: {}", mainPage.length());
             
             // 약간의 지연
@@ -75,7 +52,7 @@ public class YeogiService {
 
             log.info("Fetching page {} with query: {}", page, qs);
 
-            String html = safeGet("https://www.yeogi.com/domestic-accommodations?" + qs);
+            String html = httpClient.get("https://www.yeogi.com/domestic-accommodations?" + qs);
             
             // HTML 응답 확인
             if (html.length() < 1000 || !html.contains("<!DOCTYPE html>") && !html.contains("<html")) {
@@ -96,7 +73,7 @@ public class YeogiService {
             Thread.sleep(1000);
 
             String jsonUrl = String.format("https://www.yeogi.com/_next/data/%s/domestic-accommodations.json?%s", buildId, qs);
-            String json = safeGet(jsonUrl);
+            String json = httpClient.get(jsonUrl);
 
             JsonObject root = gson.fromJson(json, JsonObject.class);
             if (root == null || !root.has("pageProps")) {
@@ -206,7 +183,7 @@ public class YeogiService {
         // 1. 메인 페이지 먼저 방문 (쿠키 설정)
         log.info("Visiting main page first...");
         try {
-            String mainPage = safeGet("https://www.yeogi.com");
+            String mainPage = httpClient.get("https://www.yeogi.com");
             log.info("Main page visited successfully, length: {}", mainPage.length());
             
             // 약간의 지연
@@ -216,7 +193,7 @@ public class YeogiService {
         }
 
         String qs = String.format("checkIn=%s&checkOut=%s&personal=%d", checkIn, checkOut, personal);
-        String html = safeGet(String.format("https://www.yeogi.com/domestic-accommodations/%s?%s", placeId, qs));
+        String html = httpClient.get(String.format("https://www.yeogi.com/domestic-accommodations/%s?%s", placeId, qs));
         
         // HTML 응답 확인
         if (html.length() < 1000 || !html.contains("<!DOCTYPE html>") && !html.contains("<html")) {
@@ -237,7 +214,7 @@ public class YeogiService {
         Thread.sleep(1000);
 
         String jsonUrl = String.format("https://www.yeogi.com/_next/data/%s/domestic-accommodations/%s.json?%s", buildId, placeId, qs);
-        String json = safeGet(jsonUrl);
+        String json = httpClient.get(jsonUrl);
 
         // JSON 응답 디버깅을 위한 로깅 추가
         log.info("JSON URL: {}", jsonUrl);
@@ -382,14 +359,14 @@ public class YeogiService {
 
         log.info("Fetching rooms for placeId: {}, checkIn: {}, checkOut: {}, personal: {}", placeId, checkIn, checkOut, personal);
 
-        String html = safeGet(String.format("https://www.yeogi.com/domestic-accommodations/%s?%s", placeId, qs));
+        String html = httpClient.get(String.format("https://www.yeogi.com/domestic-accommodations/%s?%s", placeId, qs));
         String buildId = extractBuildId(html);
         if (buildId == null) throw new RuntimeException("buildId를 찾을 수 없습니다.");
 
         log.info("Found buildId: {} for room fetching", buildId);
 
         String jsonUrl = String.format("https://www.yeogi.com/_next/data/%s/domestic-accommodations/%s.json?%s", buildId, placeId, qs);
-        String json = safeGet(jsonUrl);
+        String json = httpClient.get(jsonUrl);
 
         JsonObject root = gson.fromJson(json, JsonObject.class);
         if (root == null || !root.has("pageProps")) {
@@ -465,67 +442,6 @@ public class YeogiService {
         return rooms;
     }
 
-    private String safeGet(String url) throws IOException {
-        Request request = new Request.Builder()
-                .url(url)
-                .header("User-Agent", USER_AGENT)
-                .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,image/apng,*/*;q=0.8")
-                .header("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7")
-                .header("Accept-Encoding", "gzip, deflate, br")
-                .header("Connection", "keep-alive")
-                .header("DNT", "1")
-                .header("Upgrade-Insecure-Requests", "1")
-                .header("Sec-Fetch-Dest", "document")
-                .header("Sec-Fetch-Mode", "navigate")
-                .header("Sec-Fetch-Site", "none")
-                .header("Sec-Fetch-User", "?1")
-                .header("sec-ch-ua", "\"Not_A Brand\";v=\"8\", \"Chromium\";v=\"120\", \"Google Chrome\";v=\"120\"")
-                .header("sec-ch-ua-mobile", "?0")
-                .header("sec-ch-ua-platform", "\"macOS\"")
-                .header("Cache-Control", "max-age=0")
-                .build();
-        
-        try (Response response = client.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                log.error("HTTP request failed: {} for URL: {}", response.code(), url);
-                throw new IOException("HTTP " + response.code());
-            }
-            
-            ResponseBody body = response.body();
-            if (body == null) {
-                throw new IOException("Empty response body");
-            }
-            
-            String contentEncoding = response.header("Content-Encoding");
-            byte[] responseBytes = body.bytes();
-            
-            log.debug("Response encoding: {}, bytes length: {}", contentEncoding, responseBytes.length);
-            
-            String content;
-            if ("gzip".equalsIgnoreCase(contentEncoding)) {
-                // Manual GZIP decompression
-                try (GZIPInputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(responseBytes))) {
-                    content = new String(gzipStream.readAllBytes(), StandardCharsets.UTF_8);
-                    log.debug("GZIP decompressed content length: {}", content.length());
-                }
-            } else if ("br".equalsIgnoreCase(contentEncoding)) {
-                // Brotli decompression
-                try (BrotliInputStream brotliStream = new BrotliInputStream(new ByteArrayInputStream(responseBytes))) {
-                    content = new String(brotliStream.readAllBytes(), StandardCharsets.UTF_8);
-                    log.debug("Brotli decompressed content length: {}", content.length());
-                }
-            } else {
-                // No compression or unknown
-                content = new String(responseBytes, StandardCharsets.UTF_8);
-            }
-            
-            log.debug("Final content length: {}, starts with: {}", 
-                     content.length(), content.substring(0, Math.min(content.length(), 100)));
-            
-            return content;
-        }
-    }
-
     private String extractBuildId(String html) {
         // Python에서 성공한 패턴을 첫 번째로 시도
         Pattern pattern1 = Pattern.compile("\\\\\"buildId\\\\\":\\\\\"([^\\\\\"]+)\\\\\"");
@@ -1,17 +1,26 @@
 package jeju.bear.place.service.impl;
 
 import jeju.bear.place.dto.FavoriteDto;
+import jeju.bear.place.dto.FavoriteStateDto;
 import jeju.bear.place.entity.Favorite;
 import jeju.bear.place.entity.PlaceType;
+import jeju.bear.place.repository.FavoriteBulkRepository;
 import jeju.bear.place.repository.FavoriteRepository;
+import jeju.bear.place.service.FavoriteCounterStore;
 import jeju.bear.place.service.FavoriteService;
+import jeju.bear.place.service.PlaceLoader;
 import jeju.bear.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,105 +30,130 @@ import java.util.stream.Collectors;
 public class FavoriteServiceImpl implements FavoriteService {
 
     private final FavoriteRepository favoriteRepository;
+    private final FavoriteBulkRepository favoriteBulkRepository;
+    private final FavoriteCounterStore favoriteCounterStore;
+    private final PlaceLoader placeLoader;
 
+    // 이미 좋아요한 경우에도 오류 없이 기존 좋아요를 반환 (중복 요청에 안전)
     @Override
     @Transactional
     public FavoriteDto addFavorite(User user, Long placeId, PlaceType type) {
-        log.info("좋아요 추가 요청: userId={}, placeId={}, type={}", user.getId(), placeId, type);
-        
-        // 이미 좋아요한 경우 확인
-        if (favoriteRepository.existsByUserAndPlaceIdAndType(user, placeId, type)) {
-            log.warn("이미 좋아요한 장소입니다: userId={}, placeId={}, type={}", user.getId(), placeId, type);
-            throw new IllegalArgumentException("이미 좋아요한 장소입니다.");
+        if (favoriteBulkRepository.insertIgnore(user.getId(), placeId, type)) {
+            favoriteCounterStore.onAdded(user.getId(), placeId, type);
         }
 
-        // 좋아요 생성
-        Favorite favorite = Favorite.builder()
-                .user(user)
-                .placeId(placeId)
-                .type(type)
-                .build();
+        Favorite favorite = favoriteRepository.findByUserAndPlaceIdAndType(user, placeId, type)
+                .orElseThrow(() -> new IllegalStateException("좋아요 저장에 실패했습니다."));
+        log.debug("좋아요 추가 완료: favoriteId={}", favorite.getId());
 
-        Favorite savedFavorite = favoriteRepository.save(favorite);
-        log.info("좋아요 추가 완료: favoriteId={}", savedFavorite.getId());
-
-        return FavoriteDto.from(savedFavorite);
+        return withPlaces(List.of(FavoriteDto.from(favorite))).get(0);
     }
 
+    // 좋아요하지 않은 장소여도 오류 없이 무시
     @Override
     @Transactional
     public void removeFavorite(User user, Long placeId, PlaceType type) {
-        log.info("좋아요 제거 요청: userId={}, placeId={}, type={}", user.getId(), placeId, type);
-        
-        // 좋아요 존재 확인
-        if (!favoriteRepository.existsByUserAndPlaceIdAndType(user, placeId, type)) {
-            log.warn("좋아요하지 않은 장소입니다: userId={}, placeId={}, type={}", user.getId(), placeId, type);
-            throw new IllegalArgumentException("좋아요하지 않은 장소입니다.");
+        if (favoriteRepository.deleteByUserIdAndPlaceIdAndType(user.getId(), placeId, type) > 0) {
+            favoriteCounterStore.onRemoved(user.getId(), placeId, type);
+            log.debug("좋아요 제거 완료: userId={}, placeId={}, type={}", user.getId(), placeId, type);
         }
+    }
 
-        favoriteRepository.deleteByUserAndPlaceIdAndType(user, placeId, type);
-        log.info("좋아요 제거 완료: userId={}, placeId={}, type={}", user.getId(), placeId, type);
+    @Override
+    @Transactional
+    public int importFavorites(User user, List<Long> placeIds, PlaceType type) {
+        List<Long> ids = placeIds.stream().distinct().toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        long before = favoriteRepository.countByUserAndType(user, type);
+        favoriteBulkRepository.insertIgnoreAll(user.getId(), ids, type);
+        int added = (int) (favoriteRepository.countByUserAndType(user, type) - before);
+
+        favoriteCounterStore.refresh(user.getId(), ids, type);
+        log.debug("좋아요 일괄 추가 완료: userId={}, 요청 {} 건, 추가 {} 건", user.getId(), ids.size(), added);
+        return added;
     }
 
     @Override
     public List<FavoriteDto> getUserFavorites(User user) {
-        log.info("사용자 좋아요 목록 조회: userId={}", user.getId());
-        
         List<Favorite> favorites = favoriteRepository.findByUserOrderByCreatedAtDesc(user);
-        log.info("조회된 좋아요 개수: {}", favorites.size());
+        log.debug("조회된 좋아요 개수: userId={}, {}", user.getId(), favorites.size());
 
-        return favorites.stream()
+        return withPlaces(favorites.stream()
                 .map(FavoriteDto::from)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Override
     public List<FavoriteDto> getUserFavoritesByType(User user, PlaceType type) {
-        log.info("사용자 특정 타입 좋아요 목록 조회: userId={}, type={}", user.getId(), type);
-        
         List<Favorite> favorites = favoriteRepository.findByUserAndType(user, type);
-        log.info("조회된 {} 타입 좋아요 개수: {}", type, favorites.size());
+        log.debug("조회된 {} 타입 좋아요 개수: userId={}, {}", type, user.getId(), favorites.size());
 
-        return favorites.stream()
+        return withPlaces(favorites.stream()
                 .map(FavoriteDto::from)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+    }
+
+    // 장소 이름/이미지를 장소 카탈로그에서 한 번에 채움 (좋아요 타입과 카테고리가 맞는 장소만)
+    private List<FavoriteDto> withPlaces(List<FavoriteDto> favorites) {
+        placeLoader.enrich(favorites, dto -> PlaceType.contentsIdOf(dto.getPlaceId()), (dto, place) -> {
+            if (dto.getType().getCatalogCategory().equals(place.getCategory())) {
+                dto.applyPlace(place);
+            }
+        });
+        return favorites;
     }
 
     @Override
     public long getFavoriteCount(Long placeId, PlaceType type) {
-        log.info("장소 좋아요 개수 조회: placeId={}, type={}", placeId, type);
-        
-        long count = favoriteRepository.countByPlaceIdAndType(placeId, type);
-        log.info("장소 좋아요 개수: {}", count);
-
-        return count;
+        return favoriteCounterStore.getCount(placeId, type);
     }
 
     @Override
     public boolean isFavorite(User user, Long placeId, PlaceType type) {
-        log.info("좋아요 상태 확인: userId={}, placeId={}, type={}", user.getId(), placeId, type);
-        
-        boolean isFavorited = favoriteRepository.existsByUserAndPlaceIdAndType(user, placeId, type);
-        log.info("좋아요 상태: {}", isFavorited);
+        return favoriteCounterStore.isFavorite(user.getId(), placeId, type);
+    }
 
-        return isFavorited;
+    @Override
+    public Map<Long, FavoriteStateDto> getFavoriteStates(User user, List<Long> placeIds, PlaceType type) {
+        List<Long> ids = placeIds.stream().distinct().toList();
+        Set<Long> favorited = favoriteCounterStore.getFavorited(user.getId(), ids, type);
+        Map<Long, Long> counts = favoriteCounterStore.getCounts(ids, type);
+
+        Map<Long, FavoriteStateDto> states = new LinkedHashMap<>();
+        for (Long placeId : ids) {
+            states.put(placeId, new FavoriteStateDto(favorited.contains(placeId), counts.getOrDefault(placeId, 0L)));
+        }
+        return states;
     }
 
+    // 삭제를 먼저 시도하고, 지운 행이 없으면 추가 (유니크 인덱스로 동시 요청에도 중복 행이 생기지 않음)
     @Override
     @Transactional
     public boolean toggleFavorite(User user, Long placeId, PlaceType type) {
-        log.info("좋아요 토글 요청: userId={}, placeId={}, type={}", user.getId(), placeId, type);
-        
-        boolean isFavorited = favoriteRepository.existsByUserAndPlaceIdAndType(user, placeId, type);
-        
-        if (isFavorited) {
-            removeFavorite(user, placeId, type);
-            log.info("좋아요 제거됨: userId={}, placeId={}, type={}", user.getId(), placeId, type);
+        if (favoriteRepository.deleteByUserIdAndPlaceIdAndType(user.getId(), placeId, type) > 0) {
+            favoriteCounterStore.onRemoved(user.getId(), placeId, type);
             return false;
-        } else {
-            addFavorite(user, placeId, type);
-            log.info("좋아요 추가됨: userId={}, placeId={}, type={}", user.getId(), placeId, type);
-            return true;
+        }
+        if (favoriteBulkRepository.insertIgnore(user.getId(), placeId, type)) {
+            favoriteCounterStore.onAdded(user.getId(), placeId, type);
+        }
+        return true;
+    }
+
+    // 유니크 인덱스 보장 (기존 중복 행 정리 포함)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void ensureUniqueIndex() {
+        try {
+            int removed = favoriteBulkRepository.ensureUniqueIndex();
+            if (removed > 0) {
+                log.info("중복 좋아요 {} 건 정리 후 유니크 인덱스 생성", removed);
+                favoriteCounterStore.reconcile();
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 유니크 인덱스 생성 실패: {}", e.getMessage());
         }
     }
 }
@@ -0,0 +1,101 @@
+package jeju.bear.place.util;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 지오해시 셀 계산.
+ * 좌표를 정밀도(precision)별 격자 인덱스로 바꾸고, 인덱스 비트를 교차해 base32 문자열 키를 만든다.
+ */
+public final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    public static final int MAX_PRECISION = 9;
+
+    private GeoHash() {
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Cell {
+        private final String hash;
+        private final double centerLat;
+        private final double centerLng;
+        private final double latDegrees;
+        private final double lngDegrees;
+
+        // 셀 중심에서 꼭짓점까지의 거리 (셀 전체를 덮는 검색 반경)
+        public double circumradiusMeters() {
+            return GeoUtils.haversineMeters(centerLat, centerLng, centerLat + latDegrees / 2, centerLng + lngDegrees / 2);
+        }
+    }
+
+    public static double latDegrees(int precision) {
+        return 180d / (1L << (precision * 5 / 2));
+    }
+
+    public static double lngDegrees(int precision) {
+        return 360d / (1L << ((precision * 5 + 1) / 2));
+    }
+
+    // 셀의 중심-꼭짓점 거리가 maxMeters 이하인 가장 낮은 정밀도 (가장 큰 셀)
+    public static int precisionWithin(double maxMeters, double lat) {
+        for (int p = 1; p < MAX_PRECISION; p++) {
+            double heightMeters = latDegrees(p) * GeoUtils.METERS_PER_DEGREE_LAT;
+            double widthMeters = lngDegrees(p) * GeoUtils.metersPerDegreeLng(lat);
+            if (Math.hypot(heightMeters, widthMeters) / 2 <= maxMeters) {
+                return p;
+            }
+        }
+        return MAX_PRECISION;
+    }
+
+    public static String encode(double lat, double lng, int precision) {
+        return cellOf(lat, lng, precision).getHash();
+    }
+
+    public static Cell cellOf(double lat, double lng, int precision) {
+        return cellAt(latIndex(lat, precision), lngIndex(lng, precision), precision);
+    }
+
+    private static long latIndex(double lat, int precision) {
+        long cells = 1L << (precision * 5 / 2);
+        long index = (long) Math.floor((clamp(lat, -90, 90) + 90) / latDegrees(precision));
+        return Math.min(index, cells - 1);
+    }
+
+    private static long lngIndex(double lng, int precision) {
+        long cells = 1L << ((precision * 5 + 1) / 2);
+        long index = (long) Math.floor((clamp(lng, -180, 180) + 180) / lngDegrees(precision));
+        return Math.min(index, cells - 1);
+    }
+
+    private static Cell cellAt(long latIdx, long lngIdx, int precision) {
+        int totalBits = precision * 5;
+        int lngBits = (totalBits + 1) / 2;
+        int latBits = totalBits / 2;
+        StringBuilder hash = new StringBuilder(precision);
+        int lngBit = lngBits - 1;
+        int latBit = latBits - 1;
+        int ch = 0;
+        // 경도 비트부터 번갈아 가며 교차
+        for (int i = 0; i < totalBits; i++) {
+            int bit = (i % 2 == 0)
+                    ? (int) ((lngIdx >> lngBit--) & 1)
+                    : (int) ((latIdx >> latBit--) & 1);
+            ch = (ch << 1) | bit;
+            if (i % 5 == 4) {
+                hash.append(BASE32[ch]);
+                ch = 0;
+            }
+        }
+        double latDeg = latDegrees(precision);
+        double lngDeg = lngDegrees(precision);
+        return new Cell(hash.toString(), -90 + (latIdx + 0.5) * latDeg, -180 + (lngIdx + 0.5) * lngDeg, latDeg, lngDeg);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,28 @@
+package jeju.bear.place.util;
+
+/**
+ * 위경도 거리 계산 유틸.
+ */
+public final class GeoUtils {
+
+    public static final double EARTH_RADIUS_METERS = 6_371_000d;
+    // 위도 1도 당 거리 (m)
+    public static final double METERS_PER_DEGREE_LAT = Math.PI * EARTH_RADIUS_METERS / 180d;
+
+    private GeoUtils() {
+    }
+
+    public static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1d, Math.sqrt(a)));
+    }
+
+    // 해당 위도에서 경도 1도 당 거리 (m)
+    public static double metersPerDegreeLng(double lat) {
+        return METERS_PER_DEGREE_LAT * Math.max(Math.cos(Math.toRadians(lat)), 1e-6);
+    }
+}
@@ -0,0 +1,39 @@
+package jeju.bear.place.util;
+
+import jeju.bear.place.entity.Place;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * VisitJeju에서 가져온 필드로 Place의 내용 해시(SHA-256)를 계산한다.
+ * 평점/리뷰 수/카카오 필드처럼 내부에서 관리하는 값은 포함하지 않는다.
+ */
+public final class PlaceContentHasher {
+
+    private static final char SEPARATOR = '\u001F';
+
+    private PlaceContentHasher() {
+    }
+
+    public static String hash(Place place) {
+        String content = String.join(String.valueOf(SEPARATOR),
+                Objects.toString(place.getName(), ""),
+                Objects.toString(place.getAddress(), ""),
+                Double.toString(place.getLatitude()),
+                Double.toString(place.getLongitude()),
+                Objects.toString(place.getTag(), ""),
+                Objects.toString(place.getIntroduction(), ""),
+                Objects.toString(place.getImageUrl(), ""),
+                Objects.toString(place.getCategory(), ""));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package jeju.bear.plan.controller;
+
+import jeju.bear.global.common.ApiResponse;
+import jeju.bear.global.common.ErrorCode;
+import jeju.bear.plan.dto.PlanConflictDto;
+import jeju.bear.plan.service.collaboration.PlanConflictException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// 여행 계획 편집 충돌 → 409 (전역 핸들러보다 먼저 적용)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RestControllerAdvice(basePackageClasses = TripPlanController.class)
+public class PlanConflictExceptionHandler {
+
+    @ExceptionHandler(PlanConflictException.class)
+    public ResponseEntity<ApiResponse<PlanConflictDto>> handlePlanConflict(PlanConflictException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        return ResponseEntity.status(errorCode.getHttpStatus())
+                .eTag(e.getCurrent().getEtag())
+                .body(ApiResponse.onFailure(errorCode, e.getMessage(), e.getCurrent()));
+    }
+
+    // PlanEditExecutor 를 거치지 않은 편집에서 난 충돌
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLock(OptimisticLockingFailureException e) {
+        ErrorCode errorCode = ErrorCode.PLAN_EDIT_CONFLICT;
+        return ResponseEntity.status(errorCode.getHttpStatus())
+                .body(ApiResponse.onFailure(errorCode));
+    }
+}
@@ -15,13 +15,23 @@ import jeju.bear.plan.dto.UpdateVisibilityRequest;
 import jeju.bear.plan.dto.AddDestinationRequest;
 import jeju.bear.plan.dto.UpdateDestinationRequest;
 import jeju.bear.plan.dto.MoveDestinationRequest;
+import jeju.bear.plan.dto.MultiDayOptimizationRequest;
+import jeju.bear.plan.dto.DestinationBatchRequest;
+import jeju.bear.plan.dto.VersionedResponse;
+import jeju.bear.plan.service.DestinationBatchService;
 import jeju.bear.plan.service.TripPlanService;
+import jeju.bear.plan.service.collaboration.PlanEditExecutor;
+import jeju.bear.plan.service.optimization.MultiDayOptimizationService;
+import jeju.bear.plan.service.optimization.RouteOptimizationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalTime;
 import java.util.List;
 
 @RestController
@@ -29,6 +39,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TripPlanController {
     private final TripPlanService tripPlanService;
+    private final DestinationBatchService destinationBatchService;
+    private final RouteOptimizationService routeOptimizationService;
+    private final MultiDayOptimizationService multiDayOptimizationService;
+    private final PlanEditExecutor planEditExecutor;
     private final SecurityUtil securityUtil;
 
     // 1) 여행 계획 생성
@@ -50,11 +64,8 @@ public class TripPlanController {
             @PathVariable Long planId
     ) {
         Long userId = securityUtil.getCurrentUserId();
-        TripPlanDto dto = tripPlanService.getTripPlan(planId, userId);
-        if (dto == null) {
-            throw new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND);
-        }
-        return ResponseEntity.ok(ApiResponse.onSuccess(dto));
+        VersionedResponse<TripPlanDto> view = tripPlanService.getTripPlanWithETag(planId, userId);
+        return versioned(view);
     }
 
     // 3) 일자별 목적지 목록 조회
@@ -64,11 +75,9 @@ public class TripPlanController {
             @PathVariable Long planId
     ) {
         Long userId = securityUtil.getCurrentUserId();
-        if (!tripPlanService.existsById(planId)) {
-            throw new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND);
-        }
-        List<TripDayWithDestinationsDto> list = tripPlanService.getDaysWithDestinations(planId, userId);
-        return ResponseEntity.ok(ApiResponse.onSuccess(list));
+        VersionedResponse<List<TripDayWithDestinationsDto>> view =
+                tripPlanService.getDaysWithDestinationsWithETag(planId, userId);
+        return versioned(view);
     }
 
     // 4) 사용자의 모든 여행 계획 조회
@@ -135,11 +144,23 @@ public class TripPlanController {
                 tripPlanService.updateVisibility(planId, userId, request.isPublic())));
     }
 
+    // 재연결한 클라이언트는 마지막으로 받은 seq 이후 변경만 받음
+    @GetMapping("/{planId}/changes")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<?>> getChanges(
+            @PathVariable Long planId,
+            @RequestParam long since
+    ) {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.onSuccess(tripPlanService.getChangesSince(planId, userId, since)));
+    }
+
     @GetMapping("/shared-with-me")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ApiResponse<?>> getSharedWithMe() {
+    public ResponseEntity<ApiResponse<List<TripPlanDto>>> getSharedWithMe() {
         Long userId = securityUtil.getCurrentUserId();
-        return ResponseEntity.ok(ApiResponse.onSuccess(tripPlanService.getSharedPlans(userId)));
+        VersionedResponse<List<TripPlanDto>> view = tripPlanService.getSharedPlansWithETag(userId);
+        return versioned(view);
     }
 
     @PostMapping("/{planId}/days/{dayId}/destinations")
@@ -147,11 +168,13 @@ public class TripPlanController {
     public ResponseEntity<ApiResponse<?>> addDestination(
             @PathVariable Long planId,
             @PathVariable Long dayId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody AddDestinationRequest request
     ) {
         Long userId = securityUtil.getCurrentUserId();
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.onSuccess(tripPlanService.addDestination(planId, dayId, userId, request)));
+                .body(ApiResponse.onSuccess(planEditExecutor.exclusive(planId, userId, ifMatch,
+                        () -> tripPlanService.addDestination(planId, dayId, userId, request))));
     }
 
     @DeleteMapping("/{planId}/days/{dayId}/destinations/{destinationId}")
@@ -159,10 +182,14 @@ public class TripPlanController {
     public ResponseEntity<ApiResponse<?>> removeDestination(
             @PathVariable Long planId,
             @PathVariable Long dayId,
-            @PathVariable Long destinationId
+            @PathVariable Long destinationId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
         Long userId = securityUtil.getCurrentUserId();
-        tripPlanService.removeDestination(planId, dayId, destinationId, userId);
+        planEditExecutor.exclusive(planId, userId, ifMatch, () -> {
+            tripPlanService.removeDestination(planId, dayId, destinationId, userId);
+            return null;
+        });
         return ResponseEntity.ok(ApiResponse.onSuccess(null));
     }
 
@@ -172,11 +199,13 @@ public class TripPlanController {
             @PathVariable Long planId,
             @PathVariable Long dayId,
             @PathVariable Long destinationId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody UpdateDestinationRequest request
     ) {
         Long userId = securityUtil.getCurrentUserId();
-        return ResponseEntity.ok(ApiResponse.onSuccess(
-                tripPlanService.updateDestination(planId, dayId, destinationId, userId, request)));
+        // 다른 목적지 편집과 충돌하면 최신 상태 위에 다시 적용
+        return ResponseEntity.ok(ApiResponse.onSuccess(planEditExecutor.mergeable(planId, userId, ifMatch, destinationId,
+                () -> tripPlanService.updateDestination(planId, dayId, destinationId, userId, request))));
     }
 
     @PatchMapping("/{planId}/days/{dayId}/destinations/reorder")
@@ -184,10 +213,106 @@ public class TripPlanController {
     public ResponseEntity<ApiResponse<?>> moveDestination(
             @PathVariable Long planId,
             @PathVariable Long dayId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody MoveDestinationRequest request
     ) {
         Long userId = securityUtil.getCurrentUserId();
-        tripPlanService.moveDestination(planId, dayId, userId, request);
+        planEditExecutor.exclusive(planId, userId, ifMatch, () -> {
+            tripPlanService.moveDestination(planId, dayId, userId, request);
+            return null;
+        });
         return ResponseEntity.ok(ApiResponse.onSuccess(null));
     }
+
+    // 여러 날에 걸친 목적지 편집을 한 번에 적용
+    @PostMapping("/{planId}/destinations/batch")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<?>> applyDestinationBatch(
+            @PathVariable Long planId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody DestinationBatchRequest request
+    ) {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.onSuccess(planEditExecutor.exclusive(planId, userId, ifMatch,
+                () -> destinationBatchService.apply(planId, userId, request))));
+    }
+
+    @PatchMapping("/{planId}/days/{dayId}/start-time")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<?>> updateDayStartTime(
+            @PathVariable Long planId,
+            @PathVariable Long dayId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime startTime,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.onSuccess(planEditExecutor.exclusive(planId, userId, ifMatch,
+                () -> tripPlanService.updateDayStartTime(planId, dayId, userId, startTime))));
+    }
+
+    @PostMapping("/{planId}/days/{dayId}/optimize-route")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<?>> optimizeRoute(
+            @PathVariable Long planId,
+            @PathVariable Long dayId,
+            @RequestParam(defaultValue = "true") boolean keepFirst,
+            @RequestParam(defaultValue = "false") boolean keepLast,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.onSuccess(planEditExecutor.exclusive(planId, userId, ifMatch,
+                () -> routeOptimizationService.optimizeDay(planId, dayId, userId, keepFirst, keepLast))));
+    }
+
+    @PostMapping("/{planId}/optimizations")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<?>> startOptimization(
+            @PathVariable Long planId,
+            @RequestBody MultiDayOptimizationRequest request
+    ) {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.onSuccess(multiDayOptimizationService.start(planId, userId, request)));
+    }
+
+    @GetMapping("/{planId}/optimizations/{jobId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<?>> getOptimization(
+            @PathVariable Long planId,
+            @PathVariable String jobId
+    ) {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.onSuccess(multiDayOptimizationService.getStatus(planId, jobId, userId)));
+    }
+
+    @DeleteMapping("/{planId}/optimizations/{jobId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<?>> cancelOptimization(
+            @PathVariable Long planId,
+            @PathVariable String jobId
+    ) {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.onSuccess(multiDayOptimizationService.cancel(planId, jobId, userId)));
+    }
+
+    @PostMapping("/{planId}/optimizations/{jobId}/apply")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<?>> applyOptimization(
+            @PathVariable Long planId,
+            @PathVariable String jobId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        Long userId = securityUtil.getCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.onSuccess(planEditExecutor.exclusive(planId, userId, ifMatch,
+                () -> multiDayOptimizationService.apply(planId, jobId, userId))));
+    }
+
+    // If-None-Match 가 ETag 와 같으면 304. 버전을 모르면(Redis 장애) ETag 없이 응답해 304 도 내지 않음
+    private static <T> ResponseEntity<ApiResponse<T>> versioned(VersionedResponse<T> view) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (view.eTag() != null) {
+            builder.eTag(view.eTag());
+        }
+        return builder.body(ApiResponse.onSuccess(view.body()));
+    }
 }
@@ -0,0 +1,38 @@
+package jeju.bear.plan.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class DestinationBatchRequest {
+    private List<Operation> operations;    // 순서대로 적용
+
+    public enum OperationType {
+        ADD, REMOVE, MOVE, UPDATE
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Operation {
+        private OperationType type;
+        private Long destinationId;        // REMOVE, MOVE, UPDATE
+        private Long tripDayId;            // ADD, MOVE 대상 날짜
+        private Integer position;          // ADD, MOVE 대상 순서 (1부터, 없으면 맨 뒤)
+
+        // ADD (UPDATE 는 값이 있는 항목만 변경)
+        private String placeId;
+        private String placeName;
+        private String address;
+        private String category;
+        private String transportation;
+        private Integer duration;
+        private Integer price;
+        private String memo;
+    }
+}
@@ -1,12 +1,24 @@
 package jeju.bear.plan.dto;
 
+import jeju.bear.place.entity.Place;
 import jeju.bear.plan.entity.Destination;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class DestinationDto {
     private Long id;
-    private int sequence;
+    private int sequence;              // 그 날 안에서의 위치 (1부터 연속, 저장된 정렬 키가 아님)
     private String transportation;
     private long duration;
     private String placeId;
@@ -15,11 +27,23 @@ public class DestinationDto {
     private String placeName;
     private String address;
     private String memo;
+    private Integer travelSeconds;     // 이전 목적지에서 이동 시간 (초)
+    private LocalTime arrivalTime;
+    private LocalTime departureTime;
+
+    // ordered 는 정렬 키 순서
+    public static List<DestinationDto> listOf(List<Destination> ordered) {
+        List<DestinationDto> result = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            result.add(from(ordered.get(i), i + 1));
+        }
+        return result;
+    }
 
-    public static DestinationDto from(Destination d) {
+    public static DestinationDto from(Destination d, int position) {
         DestinationDto dto = new DestinationDto();
         dto.id = d.getId();
-        dto.sequence = d.getSequence();
+        dto.sequence = position;
         dto.transportation = d.getTransportation();
         dto.duration = d.getDuration();
         dto.placeId = d.getPlaceId();
@@ -28,6 +52,30 @@ public class DestinationDto {
         dto.placeName = d.getPlaceName();
         dto.address = d.getAddress();
         dto.memo = d.getMemo();
+        dto.travelSeconds = d.getTravelSeconds();
+        dto.arrivalTime = d.getArrivalTime();
+        dto.departureTime = d.getDepartureTime();
         return dto;
     }
+
+    // 장소명이나 주소 없이 저장된 목적지 (장소 카탈로그로 보충할 대상)
+    public boolean lacksPlaceInfo() {
+        return placeId != null && (isBlank(placeName) || isBlank(address));
+    }
+
+    // 비어 있는 장소명/주소만 카탈로그 값으로 채운 사본 (캐시된 스냅샷 객체는 바꾸지 않음)
+    public DestinationDto withPlace(Place place) {
+        DestinationDto copy = toBuilder().build();
+        if (isBlank(copy.placeName)) {
+            copy.placeName = place.getName();
+        }
+        if (isBlank(copy.address)) {
+            copy.address = place.getAddress();
+        }
+        return copy;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
 }
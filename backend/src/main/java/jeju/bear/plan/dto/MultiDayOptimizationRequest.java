@@ -0,0 +1,37 @@
+package jeju.bear.plan.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class MultiDayOptimizationRequest {
+    // 숙소: placeId 또는 좌표 (둘 다 없으면 후보 지점들의 중심)
+    private String lodgingPlaceId;
+    private Double lodgingLatitude;
+    private Double lodgingLongitude;
+
+    // 기본 하루 일정 시간 (숙소 출발 ~ 복귀)
+    private LocalTime dayStart;
+    private LocalTime dayEnd;
+    private List<DayWindow> days;          // 날짜별로 다르게 지정할 때
+
+    private Integer defaultStayMinutes;    // 체류 시간이 없는 목적지에 적용
+    private Long seed;
+    private Integer timeLimitSeconds;
+    private Integer maxIterations;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class DayWindow {
+        private Long tripDayId;
+        private LocalTime start;
+        private LocalTime end;
+    }
+}
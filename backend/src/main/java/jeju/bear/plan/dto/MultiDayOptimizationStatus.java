@@ -0,0 +1,44 @@
+package jeju.bear.plan.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+// Redis(OptimizationJobStore)에 JSON 으로 저장되므로 역직렬화용 생성자를 둠
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MultiDayOptimizationStatus {
+    private String jobId;
+    private Long planId;
+    private String status;          // RUNNING | COMPLETED | CANCELLED | FAILED
+    private int iterations;
+    private int maxIterations;
+    private long travelSeconds;     // 현재까지 최선해의 총 이동 시간
+    private List<DayRoute> days;
+    private List<Long> unassignedDestinationIds;   // 시간 안에 넣지 못한 목적지
+    private List<Long> unresolvedDestinationIds;   // 좌표가 없어 배분에서 제외한 목적지
+    private boolean applied;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class DayRoute {
+        private Long tripDayId;
+        private int dayNumber;
+        private List<Long> destinationIds;
+        private long travelSeconds;
+        private LocalTime returnTime;   // 숙소 복귀 예상 시각
+    }
+}
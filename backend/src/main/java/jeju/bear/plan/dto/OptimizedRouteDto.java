@@ -0,0 +1,17 @@
+package jeju.bear.plan.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class OptimizedRouteDto {
+    private Long tripDayId;
+    private long travelSecondsBefore;      // 최적화 전 예상 이동 시간 (초)
+    private long travelSecondsAfter;       // 최적화 후 예상 이동 시간 (초)
+    private boolean exact;                 // 최적해 보장 여부 (지점 수가 적을 때)
+    private List<Long> unresolvedDestinationIds;   // 좌표를 찾지 못해 맨 뒤로 보낸 목적지
+    private List<DestinationDto> destinations;
+}
@@ -0,0 +1,15 @@
+package jeju.bear.plan.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PlanChangeDelta {
+    private long latestSeq;
+    private boolean resyncRequired;      // 로그가 잘려 since 이후를 모두 줄 수 없음 → 계획 전체 다시 조회
+    private boolean hasMore;             // limit 을 넘어 남은 이벤트가 있음
+    private List<PlanChangeEvent> events;
+}
@@ -0,0 +1,58 @@
+package jeju.bear.plan.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여행 계획 변경 이벤트 (/topic/plans/{planId} 로 전달, 변경 로그에 seq 순서로 보관).
+ * 목적지 단위 이벤트는 변경 후 해당 날짜 전체(day)를 담아 뒤쪽 목적지의 시각 변화까지 반영할 수 있게 한다.
+ * PLAN_CHANGED 는 세부 내용이 없는 변경이므로 받은 쪽이 계획을 다시 조회해야 한다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PlanChangeEvent {
+
+    public enum Type {
+        DESTINATION_ADDED,
+        DESTINATION_REMOVED,
+        DESTINATION_UPDATED,
+        DESTINATION_MOVED,
+        DAY_UPDATED,
+        PLAN_CHANGED
+    }
+
+    private long seq;                       // 계획 버전 (기록될 때 채워짐)
+    private Long planId;
+    private Type type;
+    private Long userId;                    // 변경한 사용자 (알 수 없으면 null)
+    private Long destinationId;
+    private TripDayWithDestinationsDto day; // 변경 후 날짜 상태
+    private LocalDateTime occurredAt;
+
+    public static PlanChangeEvent of(Type type, Long planId, Long userId, Long destinationId,
+                                     TripDayWithDestinationsDto day) {
+        return PlanChangeEvent.builder()
+                .planId(planId)
+                .type(type)
+                .userId(userId)
+                .destinationId(destinationId)
+                .day(day)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static PlanChangeEvent planChanged(Long planId) {
+        return of(Type.PLAN_CHANGED, planId, null, null, null);
+    }
+
+    public PlanChangeEvent withSeq(long seq) {
+        return toBuilder().seq(seq).build();
+    }
+}
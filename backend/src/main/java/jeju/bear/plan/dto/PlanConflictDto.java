@@ -0,0 +1,18 @@
+package jeju.bear.plan.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 편집 충돌(409) 응답 본문.
+ * 클라이언트는 days 로 화면을 맞추고 etag 를 다음 편집의 If-Match 로 보내 다시 시도한다.
+ */
+@Getter
+@Builder
+public class PlanConflictDto {
+    private long version;
+    private String etag;
+    private List<TripDayWithDestinationsDto> days;
+}
@@ -0,0 +1,67 @@
+package jeju.bear.plan.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여행 계획 한 건의 조회용 스냅샷 (계획 정보 + 일자별 목적지).
+ * 여러 사용자가 같은 스냅샷을 공유하므로 권한 정보(소유자, 공유 대상)를 함께 담고 내용은 수정하지 않는다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PlanSnapshot {
+    // Redis 장애로 버전을 모르는 채 DB 에서 바로 읽은 스냅샷
+    public static final long UNKNOWN_VERSION = -1L;
+
+    private long version;
+    private Long ownerId;
+    private List<Long> sharedUserIds;
+    private TripPlanDto plan;
+    private List<TripDayWithDestinationsDto> days;
+
+    public boolean isOwnedBy(Long userId) {
+        return ownerId != null && ownerId.equals(userId);
+    }
+
+    public boolean isViewableBy(Long userId) {
+        return isOwnedBy(userId) || sharedUserIds.contains(userId);
+    }
+
+    public boolean hasKnownVersion() {
+        return version != UNKNOWN_VERSION;
+    }
+
+    // 같은 버전이면 같은 내용, 버전을 모르면 null (ETag 없이 응답해 304 를 내지 않음)
+    public String eTag() {
+        return hasKnownVersion() ? "\"" + plan.getTripPlanId() + "-" + version + "\"" : null;
+    }
+
+    // eTag() 형식("planId-version", W/ 접두어 허용)에서 버전을 꺼냄, 다른 계획이거나 형식이 아니면 null
+    public static Long parseETagVersion(Long planId, String eTag) {
+        String value = eTag.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        int dash = value.lastIndexOf('-');
+        if (dash < 0 || !value.substring(0, dash).equals(String.valueOf(planId))) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public PlanSnapshot withVersion(long version) {
+        return new PlanSnapshot(version, ownerId, sharedUserIds, plan, days);
+    }
+}
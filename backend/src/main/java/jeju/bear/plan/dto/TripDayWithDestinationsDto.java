@@ -1,16 +1,24 @@
 package jeju.bear.plan.dto;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class TripDayWithDestinationsDto {
     private Long tripDayId;
     private int dayNumber;
     private LocalDate date;
+    private LocalTime startTime;   // 일정 시작 시각
+    private LocalTime endTime;     // 마지막 목적지 출발 시각
     private List<DestinationDto> destinations;
 }
@@ -0,0 +1,5 @@
+package jeju.bear.plan.dto;
+
+// 조회 결과와 그 ETag (If-None-Match 가 같으면 304)
+public record VersionedResponse<T>(T body, String eTag) {
+}
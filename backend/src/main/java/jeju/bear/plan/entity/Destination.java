@@ -2,6 +2,9 @@ package jeju.bear.plan.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalTime;
 
 @Entity
 @Table(name = "destinations")
@@ -38,6 +41,22 @@ public class Destination {
     @Column(length = 1000)
     private String memo;
 
+    // ScheduleCalculator 가 계산해 저장하는 일정 시각
+    @Column
+    private Integer travelSeconds;  // 이전 목적지에서 오는 이동 시간 (초)
+
+    @Column
+    private LocalTime arrivalTime;
+
+    @Column
+    private LocalTime departureTime;
+
+    // 낙관적 잠금 (기존 행은 컬럼 기본값 0)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "trip_day_id", nullable = false)
     private TripDay tripDay;
@@ -52,6 +71,18 @@ public class Destination {
         this.price = price;
     }
 
+    // 일괄 편집용: 날짜 쪽 컬렉션을 건드리지 않고 소속과 순서만 바꿈 (저장은 DestinationBulkRepository)
+    public void relocate(TripDay tripDay, Integer sequence) {
+        this.tripDay = tripDay;
+        this.sequence = sequence;
+    }
+
+    public void updateSchedule(Integer travelSeconds, LocalTime arrivalTime, LocalTime departureTime) {
+        this.travelSeconds = travelSeconds;
+        this.arrivalTime = arrivalTime;
+        this.departureTime = departureTime;
+    }
+
     public void setTripDay(TripDay tripDay) {
         if (this.tripDay != null) {
             this.tripDay.getDestinations().remove(this);
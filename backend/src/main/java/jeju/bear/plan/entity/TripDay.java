@@ -1,8 +1,11 @@
 package jeju.bear.plan.entity;
 
 import jakarta.persistence.*;
+import jeju.bear.plan.util.OrderKeys;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -22,6 +25,15 @@ public class TripDay {
     @Column(nullable = false)
     private LocalDate date;
 
+    @Column
+    private LocalTime startTime;  // 일정 시작 시각 (없으면 기본값)
+
+    // 낙관적 잠금 (기존 행은 컬럼 기본값 0)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "trip_plan_id", nullable = false)
     private TripPlan tripPlan;
@@ -30,8 +42,12 @@ public class TripDay {
     @Builder.Default
     private List<Destination> destinations = new ArrayList<>();
 
+    // 정렬 키(sequence)는 간격을 두고 매기므로 추가/삭제/이동 때 다른 목적지 번호를 다시 매기지 않는다 (OrderKeys)
     public void addDestination(Destination destination) {
-        destination.setSequence(this.destinations.size() + 1);
+        List<Destination> ordered = sortedDestinations();
+        destination.setSequence(null);
+        ordered.add(destination);
+        OrderKeys.apply(ordered);
         destination.setTripDay(this);
         this.destinations.add(destination);
     }
@@ -39,45 +55,43 @@ public class TripDay {
     public void removeDestination(Destination destination) {
         if (destinations.remove(destination)) {
             destination.setTripDay(null);
-            reorderDestinations();
         }
     }
 
+    // 현재 순서는 그대로 두고 정렬 키만 간격을 두어 다시 매김
     public void reorderDestinations() {
-        List<Destination> ordered = destinations.stream()
-                .sorted(Comparator.comparing(Destination::getSequence))
-                .collect(Collectors.toList());
-        
+        List<Destination> ordered = sortedDestinations();
+        int[] keys = OrderKeys.spread(ordered.size());
         for (int i = 0; i < ordered.size(); i++) {
-            ordered.get(i).setSequence(i + 1);
+            ordered.get(i).setSequence(keys[i]);
         }
     }
 
+    // fromIndex, toIndex 는 1부터 시작하는 위치 (저장된 정렬 키가 아님)
     public void moveDestination(int fromIndex, int toIndex) {
         if (fromIndex < 1 || fromIndex > destinations.size() || 
             toIndex < 1 || toIndex > destinations.size()) {
             throw new IllegalArgumentException("Invalid sequence number");
         }
 
-        Destination destination = destinations.stream()
-                .filter(d -> d.getSequence().equals(fromIndex))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Destination not found"));
-
-        if (fromIndex < toIndex) {
-            destinations.stream()
-                    .filter(d -> d.getSequence() > fromIndex && d.getSequence() <= toIndex)
-                    .forEach(d -> d.setSequence(d.getSequence() - 1));
-        } else {
-            destinations.stream()
-                    .filter(d -> d.getSequence() >= toIndex && d.getSequence() < fromIndex)
-                    .forEach(d -> d.setSequence(d.getSequence() + 1));
-        }
+        // 보통 옮긴 목적지 하나의 키만 이웃 키 사이 값으로 바뀜
+        List<Destination> ordered = sortedDestinations();
+        ordered.add(toIndex - 1, ordered.remove(fromIndex - 1));
+        OrderKeys.apply(ordered);
+    }
 
-        destination.setSequence(toIndex);
+    public List<Destination> sortedDestinations() {
+        return destinations.stream()
+                .sorted(Comparator.comparing(Destination::getSequence, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(Destination::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .collect(Collectors.toList());
     }
 
     public void updateDate(LocalDate newDate) {
         this.date = newDate;
     }
+
+    public void updateStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package jeju.bear.plan.entity;
 import jakarta.persistence.*;
 import jeju.bear.board.entity.Post;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -29,6 +30,12 @@ public class TripPlan {
     @Builder.Default
     private boolean isPublic = false;
 
+    // 낙관적 잠금 (기존 행은 컬럼 기본값 0)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
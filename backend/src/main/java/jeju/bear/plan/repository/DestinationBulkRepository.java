@@ -0,0 +1,110 @@
+package jeju.bear.plan.repository;
+
+import jeju.bear.plan.entity.Destination;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Time;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * destinations 테이블 일괄 쓰기용 JDBC 저장소.
+ * 편집 결과로 바뀐 행만 JDBC 배치 한 번으로 갱신하고, 삭제는 IN 절 한 문장으로 처리한다.
+ * 갱신은 읽을 때의 version 을 조건으로 걸고 올리므로, 그 사이 다른 편집이 있었던 행이 있으면 낙관적 잠금 실패로 처리한다.
+ * 정렬 키(sequence) 간격이 좁아진 날짜를 찾고 다시 매기는 쿼리도 여기 둔다 (DestinationOrderRebalancer).
+ */
+@Repository
+@RequiredArgsConstructor
+public class DestinationBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPDATE_SQL =
+            "UPDATE destinations SET trip_day_id = ?, sequence = ?, transportation = ?, duration = ?, price = ?, " +
+            "memo = ?, travel_seconds = ?, arrival_time = ?, departure_time = ?, version = version + 1 " +
+            "WHERE id = ? AND version = ?";
+
+    private static final String CROWDED_DAYS_SQL =
+            "SELECT DISTINCT g.trip_day_id FROM (" +
+            "SELECT trip_day_id, " +
+            "sequence - LAG(sequence) OVER (PARTITION BY trip_day_id ORDER BY sequence, id) AS gap " +
+            "FROM destinations WHERE trip_day_id > ?) g " +
+            "WHERE g.gap < ? " +
+            "ORDER BY g.trip_day_id " +
+            "LIMIT ?";
+
+    private static final String LOCK_DAY_SQL =
+            "SELECT id FROM destinations WHERE trip_day_id = ? ORDER BY sequence, id FOR UPDATE";
+
+    // 다른 트랜잭션이 예전 키로 덮어쓰지 않도록 version 도 올림
+    private static final String UPDATE_SEQUENCE_SQL =
+            "UPDATE destinations SET sequence = ?, version = version + 1 WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void updateAll(List<Destination> destinations) {
+        if (destinations.isEmpty()) {
+            return;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, destinations, BATCH_SIZE, (ps, d) -> {
+            ps.setLong(1, d.getTripDay().getTripDayId());
+            ps.setInt(2, d.getSequence());
+            ps.setString(3, d.getTransportation());
+            ps.setObject(4, d.getDuration(), Types.INTEGER);
+            ps.setObject(5, d.getPrice(), Types.INTEGER);
+            ps.setString(6, d.getMemo());
+            ps.setObject(7, d.getTravelSeconds(), Types.INTEGER);
+            ps.setTime(8, d.getArrivalTime() != null ? Time.valueOf(d.getArrivalTime()) : null);
+            ps.setTime(9, d.getDepartureTime() != null ? Time.valueOf(d.getDepartureTime()) : null);
+            ps.setLong(10, d.getId());
+            ps.setLong(11, d.getVersion());
+        });
+
+        // 드라이버가 건수를 주지 않으면 (SUCCESS_NO_INFO) 확인하지 않음
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    throw new ObjectOptimisticLockingFailureException(Destination.class, destinations.get(index).getId());
+                }
+                index++;
+            }
+        }
+    }
+
+    // 이웃 키 간격이 minGap 보다 좁은 날짜 (afterDayId 다음부터 ID 순)
+    public List<Long> findCrowdedTripDayIds(long afterDayId, int minGap, int limit) {
+        return jdbcTemplate.queryForList(CROWDED_DAYS_SQL, Long.class, afterDayId, minGap, limit);
+    }
+
+    // 날짜의 목적지 행을 잠그고 현재 순서대로 id 반환 (트랜잭션 안에서 호출)
+    public List<Long> lockOrderedIds(Long tripDayId) {
+        return jdbcTemplate.queryForList(LOCK_DAY_SQL, Long.class, tripDayId);
+    }
+
+    // 목적지 id → 새 정렬 키
+    public void updateSequences(Map<Long, Integer> sequences) {
+        if (sequences.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SEQUENCE_SQL, new ArrayList<>(sequences.entrySet()), BATCH_SIZE, (ps, e) -> {
+            ps.setInt(1, e.getValue());
+            ps.setLong(2, e.getKey());
+        });
+    }
+
+    public int deleteAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update("DELETE FROM destinations WHERE id IN (" + placeholders + ")", ids.toArray());
+    }
+}
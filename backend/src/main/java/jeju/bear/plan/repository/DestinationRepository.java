@@ -1,11 +1,36 @@
 package jeju.bear.plan.repository;
 
+import jakarta.persistence.QueryHint;
 import jeju.bear.plan.entity.Destination;
+import jeju.bear.plan.entity.TripDay;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
 import java.util.List;
 
 public interface DestinationRepository extends JpaRepository<Destination, Long> {
     List<Destination> findByTripDay_TripDayIdOrderBySequence(Long tripDayId);
     void deleteByTripDay_TripDayIdAndId(Long tripDayId, Long destinationId);
     List<Destination> findByTripDay_TripDayId(Long tripDayId);
-}
\ No newline at end of file
+
+    // 다른 날짜로 이동 (컬렉션에서 빼면 orphanRemoval 로 삭제되므로 FK만 직접 갱신)
+    // 대기 중인 변경을 먼저 flush 해야 이후 dirty checking 이 예전 trip_day_id 로 덮어쓰지 않는다
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Destination d SET d.tripDay = :tripDay, d.sequence = :sequence WHERE d.id = :id")
+    int moveToDay(@Param("id") Long id, @Param("tripDay") TripDay tripDay, @Param("sequence") Integer sequence);
+
+    // 일정 시각이 아직 계산되지 않은 날짜 (afterDayId 다음부터 ID 순)
+    @Query("SELECT DISTINCT d.tripDay.tripDayId FROM Destination d " +
+            "WHERE d.arrivalTime IS NULL AND d.tripDay.tripDayId > :afterDayId ORDER BY d.tripDay.tripDayId")
+    List<Long> findTripDayIdsWithoutSchedule(@Param("afterDayId") Long afterDayId, Pageable pageable);
+
+    // 변경 감지 없이 읽기 (일괄 편집은 바뀐 행만 JDBC 로 저장)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT d FROM Destination d WHERE d.tripDay.tripPlan.tripPlanId = :planId ORDER BY d.sequence")
+    List<Destination> findAllByPlanIdReadOnly(@Param("planId") Long planId);
+}
@@ -0,0 +1,133 @@
+package jeju.bear.plan.repository;
+
+import jeju.bear.plan.dto.DestinationDto;
+import jeju.bear.plan.dto.PlanSnapshot;
+import jeju.bear.plan.dto.TripDayDto;
+import jeju.bear.plan.dto.TripDayWithDestinationsDto;
+import jeju.bear.plan.dto.TripPlanDto;
+import jeju.bear.plan.util.ScheduleCalculator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 일정 조회 전용 JDBC 저장소.
+ * 계획 한 건의 조회 스냅샷(계획 정보, 공유 대상, 날짜/목적지)을 엔티티를 거치지 않고 바로 DTO로 만든다.
+ * 권한 확인은 스냅샷의 소유자/공유 대상 정보로 호출하는 쪽에서 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TripDayReadRepository {
+
+    private static final String PLAN_SQL =
+            "SELECT p.trip_plan_id, p.plan_name, p.start_date, p.end_date, p.user_id, u.nickname " +
+            "FROM trip_plans p LEFT JOIN `user` u ON u.id = p.user_id " +
+            "WHERE p.trip_plan_id = ?";
+
+    private static final String SHARED_USERS_SQL =
+            "SELECT shared_with_user_id FROM trip_plan_shares WHERE trip_plan_id = ?";
+
+    private static final String DAYS_WITH_DESTINATIONS_SQL =
+            "SELECT d.trip_day_id, d.day_number, d.date, d.start_time, " +
+            "x.id, x.sequence, x.transportation, x.duration, x.place_id, x.type, x.price, " +
+            "x.place_name, x.address, x.memo, x.travel_seconds, x.arrival_time, x.departure_time " +
+            "FROM trip_days d " +
+            "LEFT JOIN destinations x ON x.trip_day_id = d.trip_day_id " +
+            "WHERE d.trip_plan_id = ? " +
+            "ORDER BY d.day_number, x.sequence, x.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 계획이 없으면 빈 값 (version 은 캐시에서 채움, 캐시를 거치지 않으면 UNKNOWN_VERSION)
+    public Optional<PlanSnapshot> findSnapshot(Long planId) {
+        List<PlanSnapshot.PlanSnapshotBuilder> plans = jdbcTemplate.query(PLAN_SQL,
+                (rs, rowNum) -> PlanSnapshot.builder()
+                        .version(PlanSnapshot.UNKNOWN_VERSION)
+                        .ownerId(rs.getObject("user_id", Long.class))
+                        .plan(TripPlanDto.builder()
+                                .tripPlanId(rs.getLong("trip_plan_id"))
+                                .planName(rs.getString("plan_name"))
+                                .startDate(rs.getObject("start_date", LocalDate.class))
+                                .endDate(rs.getObject("end_date", LocalDate.class))
+                                .ownerName(rs.getString("nickname"))
+                                .build()),
+                planId);
+        if (plans.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Long> sharedUserIds = jdbcTemplate.queryForList(SHARED_USERS_SQL, Long.class, planId);
+        List<TripDayWithDestinationsDto> days = findDaysWithDestinations(planId);
+
+        PlanSnapshot snapshot = plans.get(0)
+                .sharedUserIds(sharedUserIds)
+                .days(days)
+                .build();
+        snapshot.getPlan().setDays(days.stream()
+                .map(day -> TripDayDto.builder()
+                        .tripDayId(day.getTripDayId())
+                        .dayNumber(day.getDayNumber())
+                        .date(day.getDate())
+                        .build())
+                .toList());
+        return Optional.of(snapshot);
+    }
+
+    private List<TripDayWithDestinationsDto> findDaysWithDestinations(Long planId) {
+        Map<Long, TripDayWithDestinationsDto.TripDayWithDestinationsDtoBuilder> days = new LinkedHashMap<>();
+        Map<Long, List<DestinationDto>> destinations = new LinkedHashMap<>();
+        jdbcTemplate.query(DAYS_WITH_DESTINATIONS_SQL,
+                rs -> {
+                    long dayId = rs.getLong("trip_day_id");
+                    if (!days.containsKey(dayId)) {
+                        LocalTime startTime = rs.getObject("start_time", LocalTime.class);
+                        days.put(dayId, TripDayWithDestinationsDto.builder()
+                                .tripDayId(dayId)
+                                .dayNumber(rs.getInt("day_number"))
+                                .date(rs.getObject("date", LocalDate.class))
+                                .startTime(startTime != null ? startTime : ScheduleCalculator.DEFAULT_DAY_START));
+                        destinations.put(dayId, new ArrayList<>());
+                    }
+                    long destinationId = rs.getLong("id");
+                    if (rs.wasNull()) {
+                        return;
+                    }
+                    // sequence 컬럼은 간격을 둔 정렬 키이므로 응답에는 그 날 안의 위치를 내려줌
+                    List<DestinationDto> dayDestinations = destinations.get(dayId);
+                    dayDestinations.add(DestinationDto.builder()
+                            .id(destinationId)
+                            .sequence(dayDestinations.size() + 1)
+                            .transportation(rs.getString("transportation"))
+                            .duration(rs.getLong("duration"))
+                            .placeId(rs.getString("place_id"))
+                            .type(rs.getString("type"))
+                            .price(rs.getInt("price"))
+                            .placeName(rs.getString("place_name"))
+                            .address(rs.getString("address"))
+                            .memo(rs.getString("memo"))
+                            .travelSeconds(rs.getObject("travel_seconds", Integer.class))
+                            .arrivalTime(rs.getObject("arrival_time", LocalTime.class))
+                            .departureTime(rs.getObject("departure_time", LocalTime.class))
+                            .build());
+                },
+                planId);
+
+        List<TripDayWithDestinationsDto> result = new ArrayList<>(days.size());
+        days.forEach((dayId, builder) -> {
+            List<DestinationDto> list = destinations.get(dayId);
+            result.add(builder
+                    .endTime(list.isEmpty() ? null : list.get(list.size() - 1).getDepartureTime())
+                    .destinations(list)
+                    .build());
+        });
+        return result;
+    }
+}
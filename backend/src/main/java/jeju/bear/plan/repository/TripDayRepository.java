@@ -2,8 +2,15 @@ package jeju.bear.plan.repository;
 
 import jeju.bear.plan.entity.TripDay;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.List;
+import java.util.Optional;
 
 public interface TripDayRepository extends JpaRepository<TripDay, Long> {
     List<TripDay> findByTripPlan_TripPlanIdOrderByDayNumber(Long tripPlanId);
+
+    @Query("SELECT d.tripPlan.tripPlanId FROM TripDay d WHERE d.tripDayId = :tripDayId")
+    Optional<Long> findTripPlanIdByTripDayId(@Param("tripDayId") Long tripDayId);
 }
\ No newline at end of file
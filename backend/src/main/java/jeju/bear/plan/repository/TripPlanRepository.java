@@ -1,13 +1,22 @@
 package jeju.bear.plan.repository;
 
+import jakarta.persistence.LockModeType;
 import jeju.bear.plan.entity.TripPlan;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface TripPlanRepository extends JpaRepository<TripPlan, Long> {
     @Query("SELECT tp FROM TripPlan tp LEFT JOIN FETCH tp.days WHERE tp.user.id = :userId ORDER BY tp.tripPlanId DESC")
     List<TripPlan> findByUserId(@Param("userId") Long userId);
+
+    // 계획 단위 낙관적 잠금: 날짜/목적지를 바꾸는 트랜잭션은 커밋 때 계획 version 도 올려
+    // 같은 계획을 동시에 편집하면 하나만 커밋되고 나머지는 ObjectOptimisticLockingFailureException
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT tp FROM TripPlan tp WHERE tp.tripPlanId = :planId")
+    Optional<TripPlan> findForEdit(@Param("planId") Long planId);
 }
\ No newline at end of file
@@ -11,6 +11,9 @@ import java.util.Optional;
 
 public interface TripPlanShareRepository extends JpaRepository<TripPlanShare, Long> {
     List<TripPlanShare> findAllBySharedWithUser(User user);
+
+    @Query("SELECT s.tripPlan.tripPlanId FROM TripPlanShare s WHERE s.sharedWithUser.id = :userId ORDER BY s.id")
+    List<Long> findTripPlanIdsBySharedWithUserId(@Param("userId") Long userId);
     
     @Query("SELECT s FROM TripPlanShare s WHERE s.tripPlan.tripPlanId = :planId AND s.sharedWithUser.id = :userId")
     Optional<TripPlanShare> findByTripPlanAndUser(@Param("planId") Long planId, @Param("userId") Long userId);
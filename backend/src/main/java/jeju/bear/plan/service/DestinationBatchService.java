@@ -0,0 +1,11 @@
+package jeju.bear.plan.service;
+
+import jeju.bear.plan.dto.DestinationBatchRequest;
+import jeju.bear.plan.dto.TripDayWithDestinationsDto;
+
+import java.util.List;
+
+public interface DestinationBatchService {
+    // 편집 작업 여러 개를 한 트랜잭션으로 적용하고 전체 일정을 반환
+    List<TripDayWithDestinationsDto> apply(Long planId, Long userId, DestinationBatchRequest request);
+}
@@ -0,0 +1,82 @@
+package jeju.bear.plan.service;
+
+import jeju.bear.global.lock.RedisLock;
+import jeju.bear.plan.repository.DestinationBulkRepository;
+import jeju.bear.plan.util.OrderKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 목적지 정렬 키(sequence) 간격이 좁아진 날짜를 찾아 간격을 두고 다시 매긴다.
+ * 같은 자리에 끼워 넣기를 반복하면 이웃 키 사이 값이 바닥나고, 기존 데이터는 1, 2, 3 처럼 촘촘하므로 여기서 벌려 둔다.
+ * 보이는 순서는 그대로이므로 스냅샷 무효화나 변경 이벤트는 필요 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DestinationOrderRebalancer {
+
+    private static final String LOCK_KEY = "lock:destination-order-rebalance";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+    private static final int BATCH_SIZE = 200;
+
+    private final DestinationBulkRepository destinationBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisLock redisLock;
+
+    @Scheduled(cron = "${plan.order.rebalance-cron:0 20 * * * *}")
+    public void rebalance() {
+        Optional<String> token = redisLock.tryAcquire(LOCK_KEY, LOCK_TTL);
+        if (token.isEmpty()) {
+            return;
+        }
+        try {
+            int total = 0;
+            int failed = 0;
+            long afterDayId = 0;
+            List<Long> dayIds;
+            // ID 순으로 넘겨 가며 읽어, 실패한 날짜를 같은 실행에서 다시 읽지 않음
+            do {
+                dayIds = destinationBulkRepository.findCrowdedTripDayIds(afterDayId, OrderKeys.MIN_GAP, BATCH_SIZE);
+                for (Long dayId : dayIds) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> rebalance(dayId));
+                        total++;
+                    } catch (Exception e) {
+                        failed++;
+                        log.warn("목적지 정렬 키 재배치 실패, 건너뜀: dayId={}, {}", dayId, e.getMessage());
+                    }
+                }
+                if (!dayIds.isEmpty()) {
+                    afterDayId = dayIds.get(dayIds.size() - 1);
+                }
+            } while (dayIds.size() == BATCH_SIZE);
+
+            if (total > 0 || failed > 0) {
+                log.info("목적지 정렬 키 재배치 완료: {} 일, 실패 {} 일", total, failed);
+            }
+        } finally {
+            redisLock.release(LOCK_KEY, token.get());
+        }
+    }
+
+    // 행을 잠근 뒤 현재 순서 그대로 키만 다시 매김
+    private void rebalance(Long dayId) {
+        List<Long> ids = destinationBulkRepository.lockOrderedIds(dayId);
+        int[] keys = OrderKeys.spread(ids.size());
+        Map<Long, Integer> sequences = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            sequences.put(ids.get(i), keys[i]);
+        }
+        destinationBulkRepository.updateSequences(sequences);
+    }
+}
@@ -0,0 +1,60 @@
+package jeju.bear.plan.service;
+
+import jeju.bear.global.common.CustomException;
+import jeju.bear.global.common.ErrorCode;
+import jeju.bear.plan.entity.SharePermission;
+import jeju.bear.plan.entity.TripPlan;
+import jeju.bear.plan.repository.TripPlanRepository;
+import jeju.bear.plan.repository.TripPlanShareRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여행 계획 접근 권한 확인.
+ * 조회는 소유자 또는 공유받은 사용자, 편집은 소유자 또는 편집 권한(CAN_EDIT)으로 공유받은 사용자만 가능하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlanAccessChecker {
+
+    private final TripPlanRepository tripPlanRepository;
+    private final TripPlanShareRepository tripPlanShareRepository;
+
+    public TripPlan loadViewable(Long planId, Long userId) {
+        TripPlan plan = tripPlanRepository.findById(planId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
+        if (!plan.getUser().getId().equals(userId)
+                && !tripPlanShareRepository.existsByTripPlan_TripPlanIdAndSharedWithUserId(planId, userId)) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+        return plan;
+    }
+
+    // 편집 권한만 확인 (계획 version 은 건드리지 않음)
+    public TripPlan loadEditable(Long planId, Long userId) {
+        TripPlan plan = tripPlanRepository.findById(planId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
+        checkEditable(plan, userId);
+        return plan;
+    }
+
+    // 편집 권한 확인 후 커밋 때 계획 version 을 올림 (동시 편집과 충돌하면 하나만 커밋)
+    public TripPlan lockEditable(Long planId, Long userId) {
+        TripPlan plan = tripPlanRepository.findForEdit(planId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
+        checkEditable(plan, userId);
+        return plan;
+    }
+
+    private void checkEditable(TripPlan plan, Long userId) {
+        if (plan.getUser().getId().equals(userId)) {
+            return;
+        }
+        boolean canEdit = tripPlanShareRepository.findByTripPlan_TripPlanIdAndSharedWithUserId(plan.getTripPlanId(), userId)
+                .map(share -> share.getPermission() == SharePermission.CAN_EDIT)
+                .orElse(false);
+        if (!canEdit) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+    }
+}
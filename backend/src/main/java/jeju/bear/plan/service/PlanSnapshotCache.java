@@ -0,0 +1,128 @@
+package jeju.bear.plan.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jeju.bear.plan.dto.PlanChangeEvent;
+import jeju.bear.plan.dto.PlanSnapshot;
+import jeju.bear.plan.repository.TripDayReadRepository;
+import jeju.bear.plan.service.collaboration.PlanChangeLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 여행 계획 조회 스냅샷 캐시.
+ * 스냅샷은 (planId, 계획 버전) 키로 저장하며, 버전은 PlanChangeLog 가 변경을 기록할 때마다 올린다.
+ * 1) 노드 로컬 메모리 (같은 키를 동시에 요청하면 한 번만 적재)
+ * 2) Redis 문자열 plan:snapshot:{planId}:{버전} (JSON)
+ * 3) DB
+ * 계획을 바꾸는 쪽은 invalidate 를 호출하고, 커밋된 뒤에 변경이 기록되며 버전이 올라간다.
+ * 이전 버전 키는 더 이상 조회되지 않으므로 노드 간 무효화 메시지가 필요 없다.
+ */
+@Slf4j
+@Component
+public class PlanSnapshotCache {
+
+    private static final String SNAPSHOT_KEY_PREFIX = "plan:snapshot:";
+
+    private final TripDayReadRepository tripDayReadRepository;
+    private final PlanChangeLog planChangeLog;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, PlanSnapshot> local;
+    private final Duration redisTtl;
+
+    public PlanSnapshotCache(TripDayReadRepository tripDayReadRepository,
+                             PlanChangeLog planChangeLog,
+                             RedisTemplate<String, String> redisTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${plan.snapshot.local-maximum-size:2000}") long localMaximumSize,
+                             @Value("${plan.snapshot.local-ttl-seconds:600}") long localTtlSeconds,
+                             @Value("${plan.snapshot.redis-ttl-minutes:60}") long redisTtlMinutes) {
+        this.tripDayReadRepository = tripDayReadRepository;
+        this.planChangeLog = planChangeLog;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.redisTtl = Duration.ofMinutes(redisTtlMinutes);
+    }
+
+    // 계획이 없으면 빈 값
+    public Optional<PlanSnapshot> get(Long planId) {
+        Long version = planChangeLog.currentVersion(planId);
+        if (version == null) {
+            return tripDayReadRepository.findSnapshot(planId); // Redis 장애 시 캐시 없이 조회
+        }
+        return Optional.ofNullable(local.get(snapshotKey(planId, version), key -> load(planId, version, key)));
+    }
+
+    // 여러 계획을 요청 순서대로 (없는 계획은 제외), 버전은 한 번에 조회
+    public List<PlanSnapshot> getAll(List<Long> planIds) {
+        List<Long> versions = planChangeLog.currentVersions(planIds);
+
+        List<PlanSnapshot> snapshots = new ArrayList<>(planIds.size());
+        for (int i = 0; i < planIds.size(); i++) {
+            Long planId = planIds.get(i);
+            Optional<PlanSnapshot> snapshot;
+            if (versions == null) {
+                snapshot = tripDayReadRepository.findSnapshot(planId);
+            } else {
+                long version = versions.get(i);
+                snapshot = Optional.ofNullable(local.get(snapshotKey(planId, version), key -> load(planId, version, key)));
+            }
+            snapshot.ifPresent(snapshots::add);
+        }
+        return snapshots;
+    }
+
+    // 내용 없는 변경 (받은 쪽은 계획을 다시 조회)
+    public void invalidate(Long planId) {
+        planChangeLog.record(planId, PlanChangeEvent.planChanged(planId));
+    }
+
+    // 세부 변경 이벤트와 함께 (커밋 후 기록되며 버전이 올라감)
+    public void invalidate(Long planId, PlanChangeEvent event) {
+        planChangeLog.record(planId, event);
+    }
+
+    private PlanSnapshot load(Long planId, long version, String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            if (json != null) {
+                return objectMapper.readValue(json, PlanSnapshot.class);
+            }
+        } catch (Exception e) {
+            log.warn("계획 스냅샷 Redis 조회 실패: planId={}, {}", planId, e.getMessage());
+        }
+
+        PlanSnapshot snapshot = tripDayReadRepository.findSnapshot(planId)
+                .map(s -> s.withVersion(version))
+                .orElse(null);
+        if (snapshot == null) {
+            return null;
+        }
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(snapshot), redisTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("계획 스냅샷 직렬화 실패: planId={}, {}", planId, e.getMessage());
+        } catch (Exception e) {
+            log.warn("계획 스냅샷 Redis 저장 실패: planId={}, {}", planId, e.getMessage());
+        }
+        return snapshot;
+    }
+
+    private static String snapshotKey(Long planId, long version) {
+        return SNAPSHOT_KEY_PREFIX + planId + ":" + version;
+    }
+}
@@ -0,0 +1,94 @@
+package jeju.bear.plan.service;
+
+import jeju.bear.global.lock.RedisLock;
+import jeju.bear.plan.entity.Destination;
+import jeju.bear.plan.repository.DestinationRepository;
+import jeju.bear.plan.repository.TripDayRepository;
+import jeju.bear.plan.service.optimization.TravelTimeService;
+import jeju.bear.plan.util.ScheduleCalculator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일정 시각(도착/출발)이 비어 있는 날짜를 찾아 채운다.
+ * 일정 조회는 저장된 시각을 그대로 읽으므로, 기존 데이터나 계산 경로를 거치지 않고 추가된 목적지를 여기서 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TripDayScheduleBackfill {
+
+    private static final String LOCK_KEY = "lock:trip-day-schedule-backfill";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+    private static final int BATCH_SIZE = 200;
+
+    private final DestinationRepository destinationRepository;
+    private final TripDayRepository tripDayRepository;
+    private final TravelTimeService travelTimeService;
+    private final PlanSnapshotCache planSnapshotCache;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisLock redisLock;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            backfill();
+        } catch (Exception e) {
+            log.warn("일정 시각 보정 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${plan.schedule.backfill-cron:0 */10 * * * *}")
+    public void backfill() {
+        Optional<String> token = redisLock.tryAcquire(LOCK_KEY, LOCK_TTL);
+        if (token.isEmpty()) {
+            return;
+        }
+        try {
+            int total = 0;
+            int failed = 0;
+            long afterDayId = 0;
+            List<Long> dayIds;
+            // ID 순으로 넘겨 가며 읽어, 실패하거나 여전히 비어 있는 날짜를 다시 읽지 않음
+            do {
+                dayIds = destinationRepository.findTripDayIdsWithoutSchedule(afterDayId, PageRequest.of(0, BATCH_SIZE));
+                for (Long dayId : dayIds) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> recalculate(dayId));
+                        total++;
+                    } catch (Exception e) {
+                        failed++;
+                        log.warn("일정 시각 보정 실패, 건너뜀: dayId={}, {}", dayId, e.getMessage());
+                    }
+                }
+                if (!dayIds.isEmpty()) {
+                    afterDayId = dayIds.get(dayIds.size() - 1);
+                }
+            } while (dayIds.size() == BATCH_SIZE);
+
+            if (total > 0 || failed > 0) {
+                log.info("일정 시각 보정 완료: {} 일, 실패 {} 일", total, failed);
+            }
+        } finally {
+            redisLock.release(LOCK_KEY, token.get());
+        }
+    }
+
+    private void recalculate(Long dayId) {
+        tripDayRepository.findById(dayId).ifPresent(day -> {
+            List<Destination> ordered = day.sortedDestinations();
+            ScheduleCalculator.recalculateAll(ordered, ScheduleCalculator.dayStart(day), travelTimeService.legProvider(ordered));
+            planSnapshotCache.invalidate(day.getTripPlan().getTripPlanId());
+        });
+    }
+}
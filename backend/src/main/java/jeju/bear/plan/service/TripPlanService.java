@@ -4,13 +4,16 @@ import jeju.bear.board.dto.PostDto;
 import jeju.bear.plan.dto.*;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalTime;
 import java.util.List;
 
 public interface TripPlanService {
     TripPlanDto createTripPlan(CreateTripPlanRequest request, Long userId);
     TripPlanDto getTripPlan(Long tripPlanId, Long userId);
+    VersionedResponse<TripPlanDto> getTripPlanWithETag(Long tripPlanId, Long userId);
     // 이 메서드를 반드시 선언해야 구현체에서 찾아냅니다.
     List<TripDayWithDestinationsDto> getDaysWithDestinations(Long tripPlanId, Long userId);
+    VersionedResponse<List<TripDayWithDestinationsDto>> getDaysWithDestinationsWithETag(Long tripPlanId, Long userId);
     List<TripPlanDto> getTripPlansByUserId(Long userId);
     void deleteTripPlan(Long tripPlanId, Long userId);
 
@@ -25,7 +28,13 @@ public interface TripPlanService {
 
     @Transactional(readOnly = true)
     List<TripPlanDto> getSharedPlans(Long userId);
+
+    @Transactional(readOnly = true)
+    VersionedResponse<List<TripPlanDto>> getSharedPlansWithETag(Long userId);
     
+    // since(마지막으로 받은 seq 또는 스냅샷 버전) 이후 변경 이벤트
+    PlanChangeDelta getChangesSince(Long planId, Long userId, long since);
+
     boolean existsById(Long planId);
     boolean hasAccess(Long planId, Long userId);
     boolean isAlreadyShared(Long planId);
@@ -33,4 +42,5 @@ public interface TripPlanService {
     void removeDestination(Long planId, Long dayId, Long destinationId, Long userId);
     DestinationDto updateDestination(Long planId, Long dayId, Long destinationId, Long userId, UpdateDestinationRequest request);
     void moveDestination(Long planId, Long dayId, Long userId, MoveDestinationRequest request);
+    TripDayWithDestinationsDto updateDayStartTime(Long planId, Long dayId, Long userId, LocalTime startTime);
 }
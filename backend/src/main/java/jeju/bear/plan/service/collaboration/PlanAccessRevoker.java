@@ -0,0 +1,118 @@
+package jeju.bear.plan.service.collaboration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 계획 공유 해제 시 그 사용자의 계획 토픽 구독을 끊는다.
+ * 세션은 연결된 노드에만 있으므로 해제 이벤트를 pub/sub 으로 모든 노드에 보내고,
+ * 각 노드는 자기 세션의 해당 구독에 ACCESS_REVOKED 메시지를 보낸 뒤 브로커에서 구독을 제거한다.
+ */
+@Slf4j
+@Component
+public class PlanAccessRevoker implements MessageListener {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final PlanSubscriptionRegistry subscriptionRegistry;
+    private final MessageChannel clientInboundChannel;
+    private final MessageChannel clientOutboundChannel;
+    private final String channel;
+
+    public PlanAccessRevoker(RedisTemplate<String, String> redisTemplate,
+                             ObjectMapper objectMapper,
+                             PlanSubscriptionRegistry subscriptionRegistry,
+                             @Qualifier("clientInboundChannel") MessageChannel clientInboundChannel,
+                             @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+                             @Value("${plan.collaboration.revoke-channel:plan:revocations}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.subscriptionRegistry = subscriptionRegistry;
+        this.clientInboundChannel = clientInboundChannel;
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.channel = channel;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    // 트랜잭션 안이면 커밋 후, 밖이면 바로 발행
+    public void revoke(Long planId, Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(planId, userId);
+                }
+            });
+        } else {
+            publish(planId, userId);
+        }
+    }
+
+    private void publish(Long planId, Long userId) {
+        try {
+            redisTemplate.convertAndSend(channel,
+                    objectMapper.writeValueAsString(Map.of("planId", planId, "userId", userId)));
+        } catch (Exception e) {
+            log.warn("계획 구독 해제 이벤트 발행 실패: planId={}, userId={}, {}", planId, userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Map<?, ?> revoked = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), Map.class);
+            Long planId = ((Number) revoked.get("planId")).longValue();
+            Long userId = ((Number) revoked.get("userId")).longValue();
+            subscriptionRegistry.find(planId, userId).forEach(this::close);
+        } catch (Exception e) {
+            log.warn("계획 구독 해제 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void close(PlanSubscriptionRegistry.PlanSubscription subscription) {
+        String destination = PlanChangeRelay.TOPIC_PREFIX + subscription.planId();
+        try {
+            // 클라이언트가 구독을 정리하도록 그 구독에만 알림
+            SimpMessageHeaderAccessor notice = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            notice.setSessionId(subscription.sessionId());
+            notice.setSubscriptionId(subscription.subscriptionId());
+            notice.setDestination(destination);
+            notice.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            notice.setLeaveMutable(true);
+            byte[] payload = objectMapper.writeValueAsBytes(
+                    Map.of("type", "ACCESS_REVOKED", "planId", subscription.planId()));
+            clientOutboundChannel.send(MessageBuilder.createMessage(payload, notice.getMessageHeaders()));
+        } catch (Exception e) {
+            log.debug("구독 해제 알림 실패: sessionId={}, {}", subscription.sessionId(), e.getMessage());
+        }
+
+        // 클라이언트가 보낸 UNSUBSCRIBE 와 같은 경로로 브로커에서 제거
+        subscriptionRegistry.remove(subscription.sessionId(), subscription.subscriptionId());
+        SimpMessageHeaderAccessor unsubscribe = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        unsubscribe.setSessionId(subscription.sessionId());
+        unsubscribe.setSubscriptionId(subscription.subscriptionId());
+        unsubscribe.setLeaveMutable(true);
+        clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], unsubscribe.getMessageHeaders()));
+        log.info("공유 해제로 계획 구독 종료: planId={}, userId={}, sessionId={}",
+                subscription.planId(), subscription.userId(), subscription.sessionId());
+    }
+}
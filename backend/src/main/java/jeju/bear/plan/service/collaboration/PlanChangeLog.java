@@ -0,0 +1,226 @@
+package jeju.bear.plan.service.collaboration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jeju.bear.plan.dto.PlanChangeDelta;
+import jeju.bear.plan.dto.PlanChangeEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여행 계획 변경 로그.
+ * 계획마다 버전 카운터(plan:version:{planId})와 Redis Stream(plan:ops:{planId})을 두고,
+ * 변경 한 건마다 버전을 올려 그 값을 스트림 ID({버전}-0)로 기록한다. 두 작업은 스크립트 한 번으로 원자적으로 처리한다.
+ * 기록 후 pub/sub 채널로 발행하면 각 노드의 PlanChangeRelay 가 자기 노드의 STOMP 구독자에게 전달한다.
+ *
+ * 트랜잭션 안에서 기록한 이벤트는 커밋된 뒤에 한꺼번에 기록하며,
+ * 같은 계획에 세부 이벤트가 있으면 내용 없는 PLAN_CHANGED 는 버린다.
+ * 계획 버전은 조회 스냅샷 캐시 키로도 쓰이므로 스냅샷 버전과 로그 seq 는 같은 축이다.
+ */
+@Slf4j
+@Component
+public class PlanChangeLog {
+
+    private static final String VERSION_KEY_PREFIX = "plan:version:";
+    private static final String STREAM_KEY_PREFIX = "plan:ops:";
+
+    // 버전 증가 + XADD. 버전 키가 사라져 ID 가 역행하면 스트림을 비우고 다시 기록 (클라이언트는 resync)
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('INCR', KEYS[1]) " +
+            "local id = v .. '-0' " +
+            "local added = redis.pcall('XADD', KEYS[2], 'MAXLEN', '~', ARGV[1], id, 'event', ARGV[2]) " +
+            "if type(added) == 'table' and added.err then " +
+            "  redis.call('DEL', KEYS[2]) " +
+            "  redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[1], id, 'event', ARGV[2]) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "return v",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final long maxLength;
+    private final long retentionSeconds;
+    private final int maxDeltaSize;
+
+    public PlanChangeLog(RedisTemplate<String, String> redisTemplate,
+                         ObjectMapper objectMapper,
+                         @Value("${plan.collaboration.channel:plan:changes}") String channel,
+                         @Value("${plan.collaboration.log-max-length:1000}") long maxLength,
+                         @Value("${plan.collaboration.log-retention-days:7}") long retentionDays,
+                         @Value("${plan.collaboration.max-delta-size:500}") int maxDeltaSize) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.maxLength = maxLength;
+        this.retentionSeconds = retentionDays * 24 * 60 * 60;
+        this.maxDeltaSize = maxDeltaSize;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    // 트랜잭션 안이면 커밋 후, 밖이면 바로 기록
+    public void record(Long planId, PlanChangeEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(planId, event);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<Long, List<PlanChangeEvent>> pending =
+                (Map<Long, List<PlanChangeEvent>>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<Long, List<PlanChangeEvent>> created = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    created.forEach(PlanChangeLog.this::appendAll);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PlanChangeLog.this);
+                }
+            });
+            pending = created;
+        }
+        pending.computeIfAbsent(planId, k -> new ArrayList<>()).add(event);
+    }
+
+    // 기록된 적이 없거나 Redis 를 쓸 수 없으면 0 / null
+    public Long currentVersion(Long planId) {
+        try {
+            return parseVersion(redisTemplate.opsForValue().get(versionKey(planId)));
+        } catch (Exception e) {
+            log.warn("계획 버전 조회 실패: planId={}, {}", planId, e.getMessage());
+            return null;
+        }
+    }
+
+    // 요청 순서대로, Redis 를 쓸 수 없으면 null
+    public List<Long> currentVersions(List<Long> planIds) {
+        if (planIds.isEmpty()) {
+            return List.of();
+        }
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(planIds.stream().map(PlanChangeLog::versionKey).toList());
+            if (values == null) {
+                return null;
+            }
+            return values.stream().map(PlanChangeLog::parseVersion).toList();
+        } catch (Exception e) {
+            log.warn("계획 버전 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // since 이후 이벤트 (since 는 클라이언트가 마지막으로 받은 seq 또는 스냅샷 버전)
+    public PlanChangeDelta since(Long planId, long since) {
+        long latest = parseVersion(redisTemplate.opsForValue().get(versionKey(planId)));
+        if (since >= latest) {
+            return PlanChangeDelta.builder()
+                    .latestSeq(latest)
+                    .resyncRequired(since > latest)   // 버전이 초기화된 경우
+                    .events(List.of())
+                    .build();
+        }
+
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(
+                streamKey(planId),
+                Range.rightUnbounded(Range.Bound.inclusive((since + 1) + "-0")),
+                Limit.limit().count(maxDeltaSize + 1));
+        List<PlanChangeEvent> events = new ArrayList<>();
+        if (records != null) {
+            for (MapRecord<String, Object, Object> record : records) {
+                if (events.size() == maxDeltaSize) {
+                    break;
+                }
+                PlanChangeEvent event = deserialize(record.getValue().get("event"));
+                if (event != null) {
+                    events.add(event.withSeq(record.getId().getTimestamp()));
+                }
+            }
+        }
+
+        // 첫 이벤트가 since + 1 이 아니면 그 사이가 잘려 나간 것
+        boolean truncated = events.isEmpty() || events.get(0).getSeq() != since + 1;
+        return PlanChangeDelta.builder()
+                .latestSeq(latest)
+                .resyncRequired(truncated)
+                .hasMore(records != null && records.size() > maxDeltaSize)
+                .events(truncated ? List.of() : events)
+                .build();
+    }
+
+    private void appendAll(Long planId, List<PlanChangeEvent> events) {
+        boolean detailed = events.stream().anyMatch(e -> e.getType() != PlanChangeEvent.Type.PLAN_CHANGED);
+        boolean genericAppended = false;
+        for (PlanChangeEvent event : events) {
+            if (event.getType() == PlanChangeEvent.Type.PLAN_CHANGED) {
+                if (detailed || genericAppended) {
+                    continue;
+                }
+                genericAppended = true;
+            }
+            append(planId, event);
+        }
+    }
+
+    private void append(Long planId, PlanChangeEvent event) {
+        try {
+            String json = objectMapper.writeValueAsString(event);
+            Long version = redisTemplate.execute(APPEND_SCRIPT, List.of(versionKey(planId), streamKey(planId)),
+                    String.valueOf(maxLength), json, String.valueOf(retentionSeconds));
+            if (version == null) {
+                return;
+            }
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(event.withSeq(version)));
+        } catch (JsonProcessingException e) {
+            log.warn("계획 변경 이벤트 직렬화 실패: planId={}, {}", planId, e.getMessage());
+        } catch (Exception e) {
+            // 기록하지 못하면 스냅샷 버전도 그대로이므로 로컬 TTL 동안 이전 스냅샷이 보일 수 있음
+            log.warn("계획 변경 기록 실패: planId={}, {}", planId, e.getMessage());
+        }
+    }
+
+    private PlanChangeEvent deserialize(Object json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json.toString(), PlanChangeEvent.class);
+        } catch (JsonProcessingException e) {
+            log.warn("계획 변경 이벤트 역직렬화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static long parseVersion(String value) {
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    private static String versionKey(Long planId) {
+        return VERSION_KEY_PREFIX + planId;
+    }
+
+    private static String streamKey(Long planId) {
+        return STREAM_KEY_PREFIX + planId;
+    }
+}
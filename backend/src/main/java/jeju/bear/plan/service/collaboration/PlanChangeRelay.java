@@ -0,0 +1,38 @@
+package jeju.bear.plan.service.collaboration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jeju.bear.plan.dto.PlanChangeEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * pub/sub 으로 받은 계획 변경 이벤트를 이 노드의 STOMP 구독자에게 전달한다.
+ * 모든 노드(발행한 노드 포함)가 같은 채널을 구독하므로 어느 노드에 연결된 클라이언트든 한 번씩 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlanChangeRelay implements MessageListener {
+
+    public static final String TOPIC_PREFIX = "/topic/plans/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            PlanChangeEvent event = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), PlanChangeEvent.class);
+            messagingTemplate.convertAndSend(TOPIC_PREFIX + event.getPlanId(), event);
+        } catch (Exception e) {
+            log.warn("계획 변경 이벤트 전달 실패: {}", e.getMessage());
+        }
+    }
+}
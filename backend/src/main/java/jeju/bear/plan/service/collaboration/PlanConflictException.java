@@ -0,0 +1,21 @@
+package jeju.bear.plan.service.collaboration;
+
+import jeju.bear.global.common.CustomException;
+import jeju.bear.global.common.ErrorCode;
+import jeju.bear.plan.dto.PlanConflictDto;
+import lombok.Getter;
+
+// 다른 편집과 충돌해 반영하지 못함 (응답에 현재 계획 상태를 담음)
+@Getter
+public class PlanConflictException extends CustomException {
+
+    private static final long serialVersionUID = 1L;
+
+    // 응답용 스냅샷이라 직렬화하지 않음
+    private final transient PlanConflictDto current;
+
+    public PlanConflictException(PlanConflictDto current) {
+        super(ErrorCode.PLAN_EDIT_CONFLICT);
+        this.current = current;
+    }
+}
@@ -0,0 +1,152 @@
+package jeju.bear.plan.service.collaboration;
+
+import jeju.bear.global.common.CustomException;
+import jeju.bear.global.common.ErrorCode;
+import jeju.bear.plan.dto.PlanChangeDelta;
+import jeju.bear.plan.dto.PlanChangeEvent;
+import jeju.bear.plan.dto.PlanConflictDto;
+import jeju.bear.plan.dto.PlanSnapshot;
+import jeju.bear.plan.service.PlanSnapshotCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 공동 편집 충돌 처리.
+ * 편집 서비스는 커밋 때 계획 version 을 올리므로(TripPlanRepository.findForEdit) 같은 계획을 동시에 바꾸면 하나만 커밋된다.
+ * 클라이언트가 If-Match 로 마지막에 본 계획 ETag 를 보내면 그 사이 변경이 있었는지도 먼저 확인한다.
+ *
+ * exclusive: 순서가 중요한 편집(추가/삭제/이동/일괄 편집 등). 충돌하면 현재 상태와 함께 409.
+ * mergeable: 한 목적지의 필드 수정처럼 다른 목적지 편집과 순서가 무관한 편집.
+ *            그 사이 변경이 같은 목적지를 건드리지 않았으면 최신 상태 위에 다시 적용한다 (새 트랜잭션으로 재시도).
+ * edit 는 자기 트랜잭션을 가진 서비스 호출이어야 한다 (트랜잭션 밖에서 호출).
+ */
+@Slf4j
+@Component
+public class PlanEditExecutor {
+
+    private final PlanChangeLog planChangeLog;
+    private final PlanSnapshotCache planSnapshotCache;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+
+    public PlanEditExecutor(PlanChangeLog planChangeLog,
+                            PlanSnapshotCache planSnapshotCache,
+                            @Value("${plan.edit.merge-max-retries:3}") int maxRetries,
+                            @Value("${plan.edit.merge-backoff-ms:20}") long retryBackoffMs) {
+        this.planChangeLog = planChangeLog;
+        this.planSnapshotCache = planSnapshotCache;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    public <T> T exclusive(Long planId, Long userId, String ifMatch, Supplier<T> edit) {
+        Long base = baseVersion(planId, ifMatch);
+        if (base != null && !isCurrent(planId, base)) {
+            throw conflict(planId, userId);
+        }
+        try {
+            return edit.get();
+        } catch (OptimisticLockingFailureException e) {
+            throw conflict(planId, userId);
+        }
+    }
+
+    public <T> T mergeable(Long planId, Long userId, String ifMatch, Long destinationId, Supplier<T> edit) {
+        Long base = baseVersion(planId, ifMatch);
+        if (base != null && !isCurrent(planId, base) && !commutesSince(planId, base, destinationId)) {
+            throw conflict(planId, userId);
+        }
+        long observed = base != null ? base : currentVersionOrZero(planId);
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return edit.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxRetries) {
+                    throw conflict(planId, userId);
+                }
+                backoff(attempt, planId, userId);
+                // 먼저 커밋된 편집이 같은 목적지를 바꿨으면 덮어쓰지 않음
+                if (!commutesSince(planId, observed, destinationId)) {
+                    throw conflict(planId, userId);
+                }
+                log.debug("계획 편집 재시도: planId={}, destinationId={}, attempt={}", planId, destinationId, attempt + 1);
+            }
+        }
+    }
+
+    // If-Match 가 없거나 * 이면 null
+    private Long baseVersion(Long planId, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Long version = PlanSnapshot.parseETagVersion(planId, ifMatch);
+        if (version == null) {
+            throw new CustomException(ErrorCode.BAD_REQUEST);
+        }
+        return version;
+    }
+
+    // Redis 를 쓸 수 없어 현재 버전을 모르면 If-Match 를 확인할 수 없으므로 최신이 아닌 것으로 봄
+    private boolean isCurrent(Long planId, long base) {
+        Long current = planChangeLog.currentVersion(planId);
+        return current != null && current == base;
+    }
+
+    private long currentVersionOrZero(Long planId) {
+        Long current = planChangeLog.currentVersion(planId);
+        return current != null ? current : 0L;
+    }
+
+    // since 이후 변경이 모두 destinationId 의 필드 수정과 순서 무관한지
+    private boolean commutesSince(Long planId, long since, Long destinationId) {
+        PlanChangeDelta delta;
+        try {
+            delta = planChangeLog.since(planId, since);
+        } catch (Exception e) {
+            log.warn("계획 변경 로그 조회 실패: planId={}, {}", planId, e.getMessage());
+            return false;
+        }
+        if (delta.isResyncRequired() || delta.isHasMore()) {
+            return false;
+        }
+        return delta.getEvents().stream().allMatch(event -> commutes(event, destinationId));
+    }
+
+    private static boolean commutes(PlanChangeEvent event, Long destinationId) {
+        return switch (event.getType()) {
+            case DESTINATION_ADDED, DESTINATION_MOVED -> true;
+            case DESTINATION_UPDATED, DESTINATION_REMOVED -> !destinationId.equals(event.getDestinationId());
+            // 날짜 단위/내용 없는 변경은 무엇이 바뀌었는지 알 수 없음
+            case DAY_UPDATED, PLAN_CHANGED -> false;
+        };
+    }
+
+    private void backoff(int attempt, Long planId, Long userId) {
+        long delay = retryBackoffMs * (attempt + 1) + ThreadLocalRandom.current().nextLong(retryBackoffMs + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict(planId, userId);
+        }
+    }
+
+    // 볼 수 있는 사용자에게만 현재 상태를 담아 줌
+    private CustomException conflict(Long planId, Long userId) {
+        PlanSnapshot snapshot = planSnapshotCache.get(planId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
+        if (!snapshot.isViewableBy(userId)) {
+            return new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+        return new PlanConflictException(PlanConflictDto.builder()
+                .version(snapshot.getVersion())
+                .etag(snapshot.eTag())
+                .days(snapshot.getDays())
+                .build());
+    }
+}
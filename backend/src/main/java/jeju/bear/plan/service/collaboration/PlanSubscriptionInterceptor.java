@@ -0,0 +1,98 @@
+package jeju.bear.plan.service.collaboration;
+
+import jeju.bear.auth.model.PrincipalDetails;
+import jeju.bear.global.common.CustomException;
+import jeju.bear.global.common.ErrorCode;
+import jeju.bear.plan.service.PlanSnapshotCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 브로커 목적지(/topic) 접근 제어.
+ * - 클라이언트는 브로커로 직접 SEND 할 수 없다 (이벤트는 서버만 발행).
+ * - 브로커 아래 구독은 정확한 /topic/plans/{planId} 만 허용한다.
+ *   simple broker 는 구독 목적지를 Ant 패턴으로 매칭하므로 /topic/** 같은 패턴 구독은 막는다.
+ * - 구독 권한은 소유자 또는 공유받은 사용자이며, 권한 정보는 조회 스냅샷에서 꺼내므로 구독할 때 DB 를 다시 읽지 않는다.
+ * - 허용한 구독은 PlanSubscriptionRegistry 에 기록해 공유가 해제되면 PlanAccessRevoker 가 끊을 수 있게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlanSubscriptionInterceptor implements ChannelInterceptor {
+
+    public static final String BROKER_PREFIX = "/topic";
+    private static final Pattern PLAN_TOPIC = Pattern.compile(Pattern.quote(PlanChangeRelay.TOPIC_PREFIX) + "(\\d{1,18})");
+
+    private final PlanSnapshotCache planSnapshotCache;
+    private final PlanSubscriptionRegistry subscriptionRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+        String destination = accessor.getDestination();
+        if (accessor.getCommand() == StompCommand.SEND) {
+            if (destination != null && destination.startsWith(BROKER_PREFIX)) {
+                throw new CustomException(ErrorCode.FORBIDDEN);
+            }
+            return message;
+        }
+        if (accessor.getCommand() == StompCommand.UNSUBSCRIBE) {
+            subscriptionRegistry.remove(accessor.getSessionId(), accessor.getSubscriptionId());
+            return message;
+        }
+        if (accessor.getCommand() == StompCommand.DISCONNECT) {
+            subscriptionRegistry.removeSession(accessor.getSessionId());
+            return message;
+        }
+        if (accessor.getCommand() != StompCommand.SUBSCRIBE) {
+            return message;
+        }
+        if (destination == null || containsPattern(destination)) {
+            throw new CustomException(ErrorCode.BAD_REQUEST);
+        }
+        if (!destination.startsWith(BROKER_PREFIX)) {
+            return message;
+        }
+        Matcher matcher = PLAN_TOPIC.matcher(destination);
+        if (!matcher.matches()) {
+            throw new CustomException(ErrorCode.FORBIDDEN);
+        }
+
+        Long planId = Long.valueOf(matcher.group(1));
+        Long userId = userId(accessor.getUser());
+        boolean viewable = planSnapshotCache.get(planId)
+                .map(snapshot -> snapshot.isViewableBy(userId))
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
+        if (!viewable) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+        subscriptionRegistry.add(accessor.getSessionId(), accessor.getSubscriptionId(), planId, userId);
+        return message;
+    }
+
+    // AntPathMatcher 의 와일드카드와 URI 변수
+    private static boolean containsPattern(String destination) {
+        return destination.indexOf('*') >= 0 || destination.indexOf('?') >= 0 || destination.indexOf('{') >= 0;
+    }
+
+    private static Long userId(Principal user) {
+        if (user instanceof UsernamePasswordAuthenticationToken token
+                && token.getPrincipal() instanceof PrincipalDetails details) {
+            return details.getUser().getId();
+        }
+        throw new CustomException(ErrorCode.UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,45 @@
+package jeju.bear.plan.service.collaboration;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 노드의 STOMP 세션이 구독 중인 계획 토픽 (세션 → 구독 ID → 계획/사용자).
+ * 구독 권한은 SUBSCRIBE 때만 확인하므로, 공유가 해제되면 여기서 해당 사용자의 구독을 찾아 끊는다.
+ */
+@Component
+public class PlanSubscriptionRegistry {
+
+    public record PlanSubscription(String sessionId, String subscriptionId, Long planId, Long userId) {
+    }
+
+    private final Map<String, Map<String, PlanSubscription>> sessions = new ConcurrentHashMap<>();
+
+    public void add(String sessionId, String subscriptionId, Long planId, Long userId) {
+        sessions.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>())
+                .put(subscriptionId, new PlanSubscription(sessionId, subscriptionId, planId, userId));
+    }
+
+    public void remove(String sessionId, String subscriptionId) {
+        sessions.computeIfPresent(sessionId, (k, subscriptions) -> {
+            subscriptions.remove(subscriptionId);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    public void removeSession(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    public List<PlanSubscription> find(Long planId, Long userId) {
+        List<PlanSubscription> found = new ArrayList<>();
+        sessions.values().forEach(subscriptions -> subscriptions.values().stream()
+                .filter(s -> s.planId().equals(planId) && s.userId().equals(userId))
+                .forEach(found::add));
+        return found;
+    }
+}
@@ -0,0 +1,251 @@
+package jeju.bear.plan.service.impl;
+
+import jeju.bear.global.common.CustomException;
+import jeju.bear.global.common.ErrorCode;
+import jeju.bear.plan.dto.DestinationBatchRequest;
+import jeju.bear.plan.dto.DestinationBatchRequest.Operation;
+import jeju.bear.plan.dto.DestinationDto;
+import jeju.bear.plan.dto.PlanChangeEvent;
+import jeju.bear.plan.dto.TripDayWithDestinationsDto;
+import jeju.bear.plan.entity.Destination;
+import jeju.bear.plan.entity.TripDay;
+import jeju.bear.plan.repository.DestinationBulkRepository;
+import jeju.bear.plan.repository.DestinationRepository;
+import jeju.bear.plan.repository.TripDayRepository;
+import jeju.bear.plan.service.DestinationBatchService;
+import jeju.bear.plan.service.PlanAccessChecker;
+import jeju.bear.plan.service.PlanSnapshotCache;
+import jeju.bear.plan.service.optimization.TravelTimeService;
+import jeju.bear.plan.util.OrderKeys;
+import jeju.bear.plan.util.ScheduleCalculator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 목적지 편집 작업(추가/삭제/이동/수정) 일괄 적용.
+ * 계획의 날짜와 목적지를 한 번씩 읽어 메모리에서 작업을 순서대로 적용한 뒤,
+ * 바뀐 날짜만 일정 시각을 다시 계산하고 실제로 값이 바뀐 행만 JDBC 배치로 저장한다.
+ * 목적지는 읽기 전용으로 읽으므로 JPA 변경 감지로 인한 행 단위 UPDATE 가 발생하지 않는다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class DestinationBatchServiceImpl implements DestinationBatchService {
+
+    private final PlanAccessChecker planAccessChecker;
+    private final TripDayRepository tripDayRepository;
+    private final DestinationRepository destinationRepository;
+    private final DestinationBulkRepository destinationBulkRepository;
+    private final TravelTimeService travelTimeService;
+    private final PlanSnapshotCache planSnapshotCache;
+    private final int maxOperations;
+
+    public DestinationBatchServiceImpl(PlanAccessChecker planAccessChecker,
+                                       TripDayRepository tripDayRepository,
+                                       DestinationRepository destinationRepository,
+                                       DestinationBulkRepository destinationBulkRepository,
+                                       TravelTimeService travelTimeService,
+                                       PlanSnapshotCache planSnapshotCache,
+                                       @Value("${plan.batch.max-operations:200}") int maxOperations) {
+        this.planAccessChecker = planAccessChecker;
+        this.tripDayRepository = tripDayRepository;
+        this.destinationRepository = destinationRepository;
+        this.destinationBulkRepository = destinationBulkRepository;
+        this.travelTimeService = travelTimeService;
+        this.planSnapshotCache = planSnapshotCache;
+        this.maxOperations = maxOperations;
+    }
+
+    @Override
+    public List<TripDayWithDestinationsDto> apply(Long planId, Long userId, DestinationBatchRequest request) {
+        List<Operation> operations = request.getOperations();
+        if (operations == null || operations.isEmpty() || operations.size() > maxOperations) {
+            throw new CustomException(ErrorCode.BAD_REQUEST);
+        }
+        planAccessChecker.lockEditable(planId, userId);
+
+        // 1. 날짜와 목적지를 한 번씩 읽어 날짜별 순서 목록과 ID 맵 구성
+        Map<Long, TripDay> days = new LinkedHashMap<>();
+        Map<Long, List<Destination>> orders = new HashMap<>();
+        for (TripDay day : tripDayRepository.findByTripPlan_TripPlanIdOrderByDayNumber(planId)) {
+            days.put(day.getTripDayId(), day);
+            orders.put(day.getTripDayId(), new ArrayList<>());
+        }
+        Map<Long, Destination> byId = new HashMap<>();
+        Map<Long, Long> dayOf = new HashMap<>();
+        Map<Long, Fingerprint> before = new HashMap<>();
+        for (Destination d : destinationRepository.findAllByPlanIdReadOnly(planId)) {
+            Long dayId = d.getTripDay().getTripDayId();
+            orders.get(dayId).add(d);
+            byId.put(d.getId(), d);
+            dayOf.put(d.getId(), dayId);
+            before.put(d.getId(), Fingerprint.of(d));
+        }
+
+        // 2. 작업을 순서대로 메모리에 적용
+        Set<Long> touchedDays = new LinkedHashSet<>();
+        Set<Long> removed = new HashSet<>();
+        List<Destination> added = new ArrayList<>();
+        for (Operation op : operations) {
+            if (op.getType() == null) {
+                throw new CustomException(ErrorCode.BAD_REQUEST);
+            }
+            switch (op.getType()) {
+                case ADD -> {
+                    Long dayId = requireDay(days, op.getTripDayId());
+                    if (op.getPlaceId() == null || op.getCategory() == null) {
+                        throw new CustomException(ErrorCode.INVALID_DESTINATION);
+                    }
+                    Destination d = Destination.builder()
+                            .transportation(op.getTransportation() != null ? op.getTransportation() : "")
+                            .duration(op.getDuration() != null ? op.getDuration() : 0)
+                            .placeId(op.getPlaceId())
+                            .placeName(op.getPlaceName() != null ? op.getPlaceName() : "")
+                            .address(op.getAddress() != null ? op.getAddress() : "")
+                            .type(op.getCategory())
+                            .price(op.getPrice() != null ? op.getPrice() : 0)
+                            .memo(op.getMemo() != null ? op.getMemo() : "")
+                            .tripDay(days.get(dayId))
+                            .build();
+                    insert(orders.get(dayId), d, op.getPosition());
+                    added.add(d);
+                    touchedDays.add(dayId);
+                }
+                case REMOVE -> {
+                    Destination d = requireDestination(byId, op.getDestinationId());
+                    Long dayId = dayOf.remove(d.getId());
+                    orders.get(dayId).remove(d);
+                    byId.remove(d.getId());
+                    removed.add(d.getId());
+                    touchedDays.add(dayId);
+                }
+                case MOVE -> {
+                    Destination d = requireDestination(byId, op.getDestinationId());
+                    Long targetDayId = requireDay(days, op.getTripDayId() != null ? op.getTripDayId() : dayOf.get(d.getId()));
+                    Long sourceDayId = dayOf.put(d.getId(), targetDayId);
+                    orders.get(sourceDayId).remove(d);
+                    insert(orders.get(targetDayId), d, op.getPosition());
+                    touchedDays.add(sourceDayId);
+                    touchedDays.add(targetDayId);
+                }
+                case UPDATE -> {
+                    Destination d = requireDestination(byId, op.getDestinationId());
+                    if (op.getTransportation() != null) {
+                        d.setTransportation(op.getTransportation());
+                    }
+                    if (op.getDuration() != null) {
+                        d.setDuration(op.getDuration());
+                    }
+                    if (op.getPrice() != null) {
+                        d.setPrice(op.getPrice());
+                    }
+                    if (op.getMemo() != null) {
+                        d.setMemo(op.getMemo());
+                    }
+                    touchedDays.add(dayOf.get(d.getId()));
+                }
+            }
+        }
+
+        // 3. 바뀐 날짜만 순서와 일정 시각 다시 계산
+        for (Long dayId : touchedDays) {
+            TripDay day = days.get(dayId);
+            List<Destination> ordered = orders.get(dayId);
+            // 새 목적지는 키가 없고, 다른 날에서 온 목적지는 그 날 키를 들고 옴 → 순서가 맞는 키는 그대로 둠
+            int[] keys = OrderKeys.keysFor(ordered);
+            for (int i = 0; i < ordered.size(); i++) {
+                ordered.get(i).relocate(day, keys[i]);
+            }
+            ScheduleCalculator.recalculateAll(ordered, ScheduleCalculator.dayStart(day), travelTimeService.legProvider(ordered));
+        }
+
+        // 4. 새 목적지는 최종 값으로 INSERT, 기존 목적지는 바뀐 행만 배치 UPDATE, 삭제는 한 문장
+        destinationRepository.saveAll(added);
+        List<Destination> changed = new ArrayList<>();
+        for (Long dayId : touchedDays) {
+            for (Destination d : orders.get(dayId)) {
+                Fingerprint original = d.getId() != null ? before.get(d.getId()) : null;
+                if (original != null && !original.equals(Fingerprint.of(d))) {
+                    changed.add(d);
+                }
+            }
+        }
+        destinationBulkRepository.updateAll(changed);
+        destinationBulkRepository.deleteAllByIds(removed);
+
+        log.debug("목적지 일괄 편집: planId={}, 작업 {} 건, 추가 {} / 변경 {} / 삭제 {}",
+                planId, operations.size(), added.size(), changed.size(), removed.size());
+
+        List<TripDayWithDestinationsDto> result = new ArrayList<>(days.size());
+        days.forEach((dayId, day) -> {
+            List<Destination> ordered = orders.get(dayId);
+            result.add(TripDayWithDestinationsDto.builder()
+                    .tripDayId(dayId)
+                    .dayNumber(day.getDayNumber())
+                    .date(day.getDate())
+                    .startTime(ScheduleCalculator.dayStart(day))
+                    .endTime(ordered.isEmpty() ? null : ordered.get(ordered.size() - 1).getDepartureTime())
+                    .destinations(DestinationDto.listOf(ordered))
+                    .build());
+        });
+
+        // 바뀐 날짜마다 변경 이벤트 (공동 편집 중인 클라이언트에 날짜 단위로 전달)
+        for (TripDayWithDestinationsDto day : result) {
+            if (touchedDays.contains(day.getTripDayId())) {
+                planSnapshotCache.invalidate(planId, PlanChangeEvent.of(PlanChangeEvent.Type.DAY_UPDATED,
+                        planId, userId, null, day));
+            }
+        }
+        return result;
+    }
+
+    private static Long requireDay(Map<Long, TripDay> days, Long dayId) {
+        if (dayId == null || !days.containsKey(dayId)) {
+            throw new CustomException(ErrorCode.INVALID_TRIP_DAY);
+        }
+        return dayId;
+    }
+
+    private static Destination requireDestination(Map<Long, Destination> byId, Long destinationId) {
+        Destination d = destinationId != null ? byId.get(destinationId) : null;
+        if (d == null) {
+            throw new CustomException(ErrorCode.DESTINATION_NOT_FOUND);
+        }
+        return d;
+    }
+
+    // position 은 1부터, 없으면 맨 뒤
+    private static void insert(List<Destination> ordered, Destination d, Integer position) {
+        if (position == null) {
+            ordered.add(d);
+            return;
+        }
+        if (position < 1 || position > ordered.size() + 1) {
+            throw new CustomException(ErrorCode.INVALID_DESTINATION_ORDER);
+        }
+        ordered.add(position - 1, d);
+    }
+
+    // 저장 대상 컬럼 값 (변경 여부 비교용)
+    private record Fingerprint(Long tripDayId, Integer sequence, String transportation, Integer duration,
+                               Integer price, String memo, Integer travelSeconds,
+                               LocalTime arrivalTime, LocalTime departureTime) {
+        static Fingerprint of(Destination d) {
+            return new Fingerprint(d.getTripDay().getTripDayId(), d.getSequence(), d.getTransportation(),
+                    d.getDuration(), d.getPrice(), d.getMemo(), d.getTravelSeconds(),
+                    d.getArrivalTime(), d.getDepartureTime());
+        }
+    }
+}
@@ -6,12 +6,18 @@ import jeju.bear.plan.entity.Destination;
 import jeju.bear.plan.entity.TripDay;
 import jeju.bear.plan.repository.DestinationRepository;
 import jeju.bear.plan.repository.TripDayRepository;
+import jeju.bear.plan.repository.TripPlanRepository;
 import jeju.bear.plan.service.DestinationService;
+import jeju.bear.plan.service.PlanSnapshotCache;
+import jeju.bear.plan.util.OrderKeys;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,13 +26,15 @@ import java.util.stream.Collectors;
 public class DestinationServiceImpl implements DestinationService {
     private final TripDayRepository tripDayRepository;
     private final DestinationRepository destinationRepository;
+    private final TripPlanRepository tripPlanRepository;
+    private final PlanSnapshotCache planSnapshotCache;
 
     @Override
     public DestinationDto addDestination(CreateDestinationRequest req, Long userId) {
         TripDay day = tripDayRepository.findById(req.getTripDayId())
                 .orElseThrow(() -> new IllegalArgumentException("TripDay not found"));
+        tripPlanRepository.findForEdit(day.getTripPlan().getTripPlanId());
         Destination dest = Destination.builder()
-                .sequence(req.getSequence())
                 .transportation(req.getTransportation() != null ? req.getTransportation() : "")
                 .duration(req.getDuration() != null ? req.getDuration() : 0)
                 .placeId(req.getPlaceId())
@@ -37,35 +45,59 @@ public class DestinationServiceImpl implements DestinationService {
                 .memo(req.getMemo() != null ? req.getMemo() : "")
                 .tripDay(day)
                 .build();
+
+        // sequence 는 1부터 시작하는 위치 (없으면 맨 뒤), 정렬 키는 이웃 키 사이 값으로 정함
+        List<Destination> ordered = new ArrayList<>(
+                destinationRepository.findByTripDay_TripDayIdOrderBySequence(day.getTripDayId()));
+        int index = req.getSequence() != null
+                ? Math.max(0, Math.min(req.getSequence() - 1, ordered.size()))
+                : ordered.size();
+        ordered.add(index, dest);
+        OrderKeys.apply(ordered);
+
         Destination saved = destinationRepository.save(dest);
-        return DestinationDto.from(saved);
+        planSnapshotCache.invalidate(day.getTripPlan().getTripPlanId());
+        return DestinationDto.from(saved, index + 1);
     }
 
     @Override
     public List<DestinationDto> getDestinations(Long tripDayId, Long userId) {
-        return destinationRepository.findByTripDay_TripDayIdOrderBySequence(tripDayId)
-                .stream().map(DestinationDto::from).collect(Collectors.toList());
+        return DestinationDto.listOf(destinationRepository.findByTripDay_TripDayIdOrderBySequence(tripDayId));
     }
 
     @Override
     public void updateSequence(Long tripDayId, List<Long> orderedDestinationIds, Long userId) {
+        lockPlanOf(tripDayId);
         List<Destination> list = destinationRepository.findByTripDay_TripDayIdOrderBySequence(tripDayId);
-        
-        for (int i = 0; i < orderedDestinationIds.size(); i++) {
-            Long id = orderedDestinationIds.get(i);
-            int seq = i + 1;
-            
-            list.stream()
-                    .filter(d -> d.getId().equals(id))
-                    .findFirst()
-                    .ifPresent(d -> d.setSequence(seq));
+        Map<Long, Destination> byId = list.stream()
+                .collect(Collectors.toMap(Destination::getId, Function.identity()));
+
+        // 요청 순서 (목록에 없는 목적지는 기존 순서대로 뒤에), 정렬 키가 바뀐 목적지만 변경 감지로 UPDATE
+        List<Destination> ordered = new ArrayList<>(list.size());
+        for (Long id : orderedDestinationIds) {
+            Destination d = byId.remove(id);
+            if (d != null) {
+                ordered.add(d);
+            }
         }
-        
-        destinationRepository.saveAll(list);
+        list.stream().filter(d -> byId.containsKey(d.getId())).forEach(ordered::add);
+        OrderKeys.apply(ordered);
+        invalidatePlanOf(tripDayId);
     }
 
     @Override
     public void removeDestination(Long tripDayId, Long destinationId, Long userId) {
+        lockPlanOf(tripDayId);
         destinationRepository.deleteByTripDay_TripDayIdAndId(tripDayId, destinationId);
+        invalidatePlanOf(tripDayId);
+    }
+
+    // 커밋 때 계획 version 을 올림 (동시 편집 중 하나만 커밋)
+    private void lockPlanOf(Long tripDayId) {
+        tripDayRepository.findTripPlanIdByTripDayId(tripDayId).ifPresent(tripPlanRepository::findForEdit);
+    }
+
+    private void invalidatePlanOf(Long tripDayId) {
+        tripDayRepository.findTripPlanIdByTripDayId(tripDayId).ifPresent(planSnapshotCache::invalidate);
     }
 }
@@ -8,6 +8,8 @@ import jeju.bear.plan.entity.TripPlanShare;
 import jeju.bear.plan.repository.TripPlanRepository;
 import jeju.bear.plan.repository.TripPlanShareRepository;
 import jeju.bear.plan.service.PlanShareService;
+import jeju.bear.plan.service.PlanSnapshotCache;
+import jeju.bear.plan.service.collaboration.PlanAccessRevoker;
 import jeju.bear.user.entity.User;
 import jeju.bear.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +29,8 @@ public class PlanShareServiceImpl implements PlanShareService {
     private final TripPlanShareRepository tripPlanShareRepository;
     private final TripPlanRepository tripPlanRepository;
     private final UserRepository userRepository;
+    private final PlanSnapshotCache planSnapshotCache;
+    private final PlanAccessRevoker planAccessRevoker;
 
     @Override
     public void sharePlan(PlanShareRequestDto request) {
@@ -43,6 +47,7 @@ public class PlanShareServiceImpl implements PlanShareService {
                 .build();
 
         tripPlanShareRepository.save(share);
+        planSnapshotCache.invalidate(request.getPlanId());
         log.info("✅ 일정 공유 완료: planId={}, userId={}, permission={}", 
                 request.getPlanId(), request.getTargetUserId(), request.getPermission());
     }
@@ -82,6 +87,9 @@ public class PlanShareServiceImpl implements PlanShareService {
                 .orElseThrow(() -> new RuntimeException("공유 정보를 찾을 수 없습니다."));
         
         tripPlanShareRepository.delete(share);
+        planSnapshotCache.invalidate(planId);
+        // 구독 권한은 SUBSCRIBE 때만 확인하므로 이미 열린 구독은 여기서 끊음
+        planAccessRevoker.revoke(planId, userId);
         log.info("✅ 일정 공유 해제 완료: planId={}, userId={}", planId, userId);
     }
 
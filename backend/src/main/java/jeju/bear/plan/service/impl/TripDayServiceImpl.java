@@ -5,6 +5,7 @@ import jeju.bear.plan.entity.TripDay;
 import jeju.bear.plan.entity.TripPlan;
 import jeju.bear.plan.repository.TripDayRepository;
 import jeju.bear.plan.repository.TripPlanRepository;
+import jeju.bear.plan.service.PlanSnapshotCache;
 import jeju.bear.plan.service.TripDayService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,6 +22,7 @@ import java.util.stream.Collectors;
 public class TripDayServiceImpl implements TripDayService {
     private final TripPlanRepository tripPlanRepository;
     private final TripDayRepository tripDayRepository;
+    private final PlanSnapshotCache planSnapshotCache;
 
     @Override
     public List<TripDayDto> getDays(Long tripPlanId, Long userId) {
@@ -35,7 +37,7 @@ public class TripDayServiceImpl implements TripDayService {
 
     @Override
     public TripDayDto addTripDay(Long tripPlanId, LocalDate date, Long userId) {
-        TripPlan plan = tripPlanRepository.findById(tripPlanId)
+        TripPlan plan = tripPlanRepository.findForEdit(tripPlanId)
                 .filter(tp -> tp.getUser().equals(userId))
                 .orElseThrow(() -> new IllegalArgumentException("Invalid TripPlan or access denied"));
 
@@ -49,6 +51,7 @@ public class TripDayServiceImpl implements TripDayService {
                 .build();
 
         TripDay saved = tripDayRepository.save(day);
+        planSnapshotCache.invalidate(tripPlanId);
         return TripDayDto.from(saved);
     }
 }
@@ -1,381 +1,509 @@
-package jeju.bear.plan.service.impl;
-
-import jeju.bear.board.dto.PostDto;
-import jeju.bear.board.entity.Post;
-import jeju.bear.board.repository.PostRepository;
-import jeju.bear.global.common.CustomException;
-import jeju.bear.global.common.ErrorCode;
-import jeju.bear.plan.dto.*;
-import jeju.bear.plan.entity.SharePermission;
-import jeju.bear.plan.entity.TripDay;
-import jeju.bear.plan.entity.TripPlan;
-import jeju.bear.plan.entity.TripPlanShare;
-import jeju.bear.plan.entity.Destination;
-import jeju.bear.plan.repository.TripPlanRepository;
-import jeju.bear.plan.repository.TripPlanShareRepository;
-import jeju.bear.plan.repository.TripDayRepository;
-import jeju.bear.plan.repository.DestinationRepository;
-import jeju.bear.plan.service.TripPlanService;
-import jeju.bear.plan.service.DestinationService;
-import jeju.bear.user.entity.User;
-import jeju.bear.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-
-@Service
-@RequiredArgsConstructor
-@Transactional
-public class TripPlanServiceImpl implements TripPlanService {
-    private final TripPlanRepository tripPlanRepository;
-    private final TripPlanShareRepository tripPlanShareRepository;
-    private final UserRepository userRepository;
-    private final PostRepository postRepository;
-    private final DestinationService destinationService;
-    private final TripDayRepository tripDayRepository;
-    private final DestinationRepository destinationRepository;
-
-    @Override
-    public TripPlanDto createTripPlan(CreateTripPlanRequest request, Long userId) {
-        // 1) User 엔티티 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        // 2) 날짜 유효성 검사
-        if (request.getStartDate().isAfter(request.getEndDate())) {
-            throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
-        }
-
-        // 3) TripPlan 엔티티 생성
-        TripPlan plan = TripPlan.builder()
-                .planName(request.getPlanName())
-                .startDate(request.getStartDate())
-                .endDate(request.getEndDate())
-                .user(user)
-                .build();
-
-        // 4) 날짜 수 계산 및 TripDay 생성
-        int totalDays = (int) ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
-        IntStream.range(0, totalDays)
-                .mapToObj(i -> TripDay.builder()
-                        .dayNumber(i + 1)
-                        .date(request.getStartDate().plusDays(i))
-                        .tripPlan(plan)
-                        .build())
-                .forEach(plan.getDays()::add);
-
-        // 5) 저장 & DTO 변환
-        TripPlan saved = tripPlanRepository.save(plan);
-        return TripPlanDto.from(saved);
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public TripPlanDto getTripPlan(Long tripPlanId, Long userId) {
-        TripPlan plan = tripPlanRepository.findById(tripPlanId)
-                .filter(tp -> tp.getUser().getId().equals(userId))
-                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
-        return TripPlanDto.from(plan);
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public List<TripDayWithDestinationsDto> getDaysWithDestinations(Long planId, Long userId) {
-        try {
-            // 1) TripPlan 존재 여부 및 사용자 권한 확인 (소유자 또는 공유된 계획)
-            TripPlan plan = tripPlanRepository.findById(planId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
-            
-            // 소유자인지 확인
-            boolean isOwner = plan.getUser().getId().equals(userId);
-            
-            // 소유자가 아닌 경우 공유 권한 확인
-            if (!isOwner) {
-                boolean hasSharedAccess = tripPlanShareRepository.existsByTripPlan_TripPlanIdAndSharedWithUserId(planId, userId);
-                if (!hasSharedAccess) {
-                    throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-                }
-            }
-
-            // 3) TripDay와 Destination을 함께 조회하여 N+1 문제 방지
-            List<TripDay> days = tripDayRepository.findByTripPlan_TripPlanIdOrderByDayNumber(planId);
-            
-            return days.stream()
-                    .map(day -> {
-                        try {
-                            // 4) 각 day의 destinations을 안전하게 처리
-                            List<DestinationDto> destinations = day.getDestinations() != null 
-                                ? day.getDestinations().stream()
-                                    .map(DestinationDto::from)
-                                    .collect(Collectors.toList())
-                                : new ArrayList<>();
-
-                            return TripDayWithDestinationsDto.builder()
-                                    .tripDayId(day.getTripDayId())
-                                    .dayNumber(day.getDayNumber())
-                                    .date(day.getDate())
-                                    .destinations(destinations)
-                                    .build();
-                        } catch (Exception e) {
-                            // 5) 개별 day 처리 실패 시 로그 기록하고 빈 목록 반환
-                            System.err.println("Error processing day " + day.getDayNumber() + ": " + e.getMessage());
-                            return TripDayWithDestinationsDto.builder()
-                                    .tripDayId(day.getTripDayId())
-                                    .dayNumber(day.getDayNumber())
-                                    .date(day.getDate())
-                                    .destinations(new ArrayList<>())
-                                    .build();
-                        }
-                    })
-                    .collect(Collectors.toList());
-        } catch (CustomException e) {
-            // 6) 커스텀 예외는 그대로 재발생
-            throw e;
-        } catch (Exception e) {
-            // 7) 예상치 못한 예외는 로그 기록 후 일반적인 서버 에러로 변환
-            System.err.println("Unexpected error in getDaysWithDestinations: " + e.getMessage());
-            e.printStackTrace();
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
-        }
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public List<TripPlanDto> getTripPlansByUserId(Long userId) {
-        // 사용자 존재 확인
-        if (!userRepository.existsById(userId)) {
-            throw new CustomException(ErrorCode.USER_NOT_FOUND);
-        }
-
-        // 사용자의 모든 여행 계획 조회
-        return tripPlanRepository.findByUserId(userId).stream()
-                .map(TripPlanDto::from)
-                .collect(Collectors.toList());
-    }
-
-    @Override
-    @Transactional
-    public void deleteTripPlan(Long tripPlanId, Long userId) {
-        TripPlan tripPlan = tripPlanRepository.findById(tripPlanId)
-                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
-
-        if (!tripPlan.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
-
-        // 여행 계획 삭제 (Cascade로 인해 연관된 TripDay, Destination도 함께 삭제됨)
-        tripPlanRepository.delete(tripPlan);
-    }
-
-    @Override
-    public PostDto shareAsPost(Long planId, Long userId, CreatePostRequest request) {
-        TripPlan tripPlan = tripPlanRepository.findById(planId)
-                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
-
-        if (!tripPlan.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        Post post = Post.builder()
-                .title(request.getTitle())
-                .content(request.getContent())
-                .user(user)
-                .tripPlan(tripPlan)
-                .build();
-
-        Post savedPost = postRepository.save(post);
-        return PostDto.from(savedPost);
-    }
-
-    @Override
-    public TripPlanShareDto shareWithFriend(Long planId, Long userId, ShareWithFriendRequest request) {
-        TripPlan tripPlan = tripPlanRepository.findById(planId)
-                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
-
-        if (!tripPlan.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
-
-        User friend = userRepository.findById(request.getFriendId())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        // 이미 공유된 경우 체크
-        if (tripPlanShareRepository.findByTripPlanAndUser(planId, friend.getId()).isPresent()) {
-            throw new CustomException(ErrorCode.ALREADY_SHARED);
-        }
-
-        TripPlanShare share = TripPlanShare.builder()
-                .tripPlan(tripPlan)
-                .sharedWithUser(friend)
-                .permission(SharePermission.valueOf(request.getPermission()))
-                .build();
-
-        TripPlanShare savedShare = tripPlanShareRepository.save(share);
-        return TripPlanShareDto.from(savedShare);
-    }
-
-    @Override
-    public TripPlanDto updateVisibility(Long planId, Long userId, boolean isPublic) {
-        TripPlan tripPlan = tripPlanRepository.findById(planId)
-                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
-
-        if (!tripPlan.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
-
-        tripPlan.updateVisibility(isPublic);
-        return TripPlanDto.from(tripPlan);
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public List<TripPlanDto> getSharedPlans(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        List<TripPlanShare> shares = tripPlanShareRepository.findAllBySharedWithUser(user);
-        return shares.stream()
-                .map(share -> {
-                    String ownerName = share.getTripPlan().getUser() != null 
-                        ? share.getTripPlan().getUser().getNickname() 
-                        : "알 수 없음";
-                    return TripPlanDto.fromSharedPlan(share.getTripPlan(), ownerName);
-                })
-                .collect(Collectors.toList());
-    }
-
-    @Override
-    public boolean existsById(Long planId) {
-        return tripPlanRepository.existsById(planId);
-    }
-
-    @Override
-    public boolean hasAccess(Long planId, Long userId) {
-        return tripPlanRepository.findById(planId)
-                .map(plan -> plan.getUser().getId().equals(userId))
-                .orElse(false);
-    }
-
-    @Override
-    public boolean isAlreadyShared(Long planId) {
-        return tripPlanShareRepository.findByTripPlanId(planId).isPresent();
-    }
-
-    @Override
-    public DestinationDto addDestination(Long planId, Long dayId, Long userId, AddDestinationRequest request) {
-        // 1. 권한 확인
-        if (!hasAccess(planId, userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
-
-        // 2. TripDay가 해당 TripPlan에 속하는지 확인
-        TripDay tripDay = tripDayRepository.findById(dayId)
-                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_DAY_NOT_FOUND));
-
-        if (!tripDay.getTripPlan().getTripPlanId().equals(planId)) {
-            throw new CustomException(ErrorCode.INVALID_TRIP_DAY);
-        }
-
-        // 3. CreateDestinationRequest로 변환하여 DestinationService 호출
-        CreateDestinationRequest createRequest = CreateDestinationRequest.builder()
-                .tripDayId(dayId)
-                .placeId(request.getPlaceId())  // String 그대로 사용
-                .placeName(request.getPlaceName())  // 장소명 추가
-                .address(request.getAddress())  // 주소 추가
-                .type(request.getCategory())
-                .sequence(tripDay.getDestinations().size() + 1)  // 자동 시퀀스 할당
-                .memo(request.getMemo())  // 메모 추가
-                .build();
-
-        return destinationService.addDestination(createRequest, userId);
-    }
-
-    @Override
-    public void removeDestination(Long planId, Long dayId, Long destinationId, Long userId) {
-        // 1. 권한 확인
-        if (!hasAccess(planId, userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
-
-        // 2. TripDay가 해당 TripPlan에 속하는지 확인
-        TripDay tripDay = tripDayRepository.findById(dayId)
-                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_DAY_NOT_FOUND));
-
-        if (!tripDay.getTripPlan().getTripPlanId().equals(planId)) {
-            throw new CustomException(ErrorCode.INVALID_TRIP_DAY);
-        }
-
-        // 3. DestinationService를 통해 삭제
-        destinationService.removeDestination(dayId, destinationId, userId);
-    }
-
-    @Override
-    public DestinationDto updateDestination(Long planId, Long dayId, Long destinationId, Long userId, UpdateDestinationRequest request) {
-        // 1. 권한 확인
-        if (!hasAccess(planId, userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
-
-        // 2. TripDay가 해당 TripPlan에 속하는지 확인
-        TripDay tripDay = tripDayRepository.findById(dayId)
-                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_DAY_NOT_FOUND));
-
-        if (!tripDay.getTripPlan().getTripPlanId().equals(planId)) {
-            throw new CustomException(ErrorCode.INVALID_TRIP_DAY);
-        }
-
-        // 3. Destination이 존재하는지 확인
-        Destination destination = destinationRepository.findById(destinationId)
-                .orElseThrow(() -> new CustomException(ErrorCode.DESTINATION_NOT_FOUND));
-
-        // 4. Destination이 해당 TripDay에 속하는지 확인
-        if (!destination.getTripDay().getTripDayId().equals(dayId)) {
-            throw new CustomException(ErrorCode.INVALID_DESTINATION);
-        }
-
-        // 5. 정보 업데이트
-        destination.updateDetails(
-            request.getTransportation(),
-            request.getDuration(),
-            request.getPrice()
-        );
-
-        // 6. 저장 및 DTO 반환
-        Destination savedDestination = destinationRepository.save(destination);
-        return DestinationDto.from(savedDestination);
-    }
-
-    @Override
-    public void moveDestination(Long planId, Long dayId, Long userId, MoveDestinationRequest request) {
-        // 1. 권한 확인
-        if (!hasAccess(planId, userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
-
-        // 2. TripDay가 해당 TripPlan에 속하는지 확인
-        TripDay tripDay = tripDayRepository.findById(dayId)
-                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_DAY_NOT_FOUND));
-
-        if (!tripDay.getTripPlan().getTripPlanId().equals(planId)) {
-            throw new CustomException(ErrorCode.INVALID_TRIP_DAY);
-        }
-
-        // 3. TripDay의 moveDestination 메서드 사용
-        tripDay.moveDestination(request.getFromSequence(), request.getToSequence());
-
-        // 4. 저장
-        tripDayRepository.save(tripDay);
-
-        // 5. 시퀀스 변경 완료
-        // 시퀀스 변경은 TripDay 엔티티에서 처리됨
-    }
-}
+package jeju.bear.plan.service.impl;
+
+import jeju.bear.board.dto.PostDto;
+import jeju.bear.board.entity.Post;
+import jeju.bear.board.repository.PostRepository;
+import jeju.bear.global.common.CustomException;
+import jeju.bear.global.common.ErrorCode;
+import jeju.bear.place.service.PlaceLoader;
+import jeju.bear.plan.dto.*;
+import jeju.bear.plan.entity.SharePermission;
+import jeju.bear.plan.entity.TripDay;
+import jeju.bear.plan.entity.TripPlan;
+import jeju.bear.plan.entity.TripPlanShare;
+import jeju.bear.plan.entity.Destination;
+import jeju.bear.plan.repository.TripPlanRepository;
+import jeju.bear.plan.repository.TripPlanShareRepository;
+import jeju.bear.plan.repository.TripDayRepository;
+import jeju.bear.plan.repository.DestinationRepository;
+import jeju.bear.plan.service.PlanAccessChecker;
+import jeju.bear.plan.service.PlanSnapshotCache;
+import jeju.bear.plan.service.TripPlanService;
+import jeju.bear.plan.service.DestinationService;
+import jeju.bear.plan.service.collaboration.PlanChangeLog;
+import jeju.bear.plan.service.optimization.TravelTimeService;
+import jeju.bear.plan.util.ScheduleCalculator;
+import jeju.bear.user.entity.User;
+import jeju.bear.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TripPlanServiceImpl implements TripPlanService {
+    private final TripPlanRepository tripPlanRepository;
+    private final TripPlanShareRepository tripPlanShareRepository;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final DestinationService destinationService;
+    private final TripDayRepository tripDayRepository;
+    private final DestinationRepository destinationRepository;
+    private final PlanSnapshotCache planSnapshotCache;
+    private final PlanAccessChecker planAccessChecker;
+    private final PlanChangeLog planChangeLog;
+    private final TravelTimeService travelTimeService;
+    private final PlaceLoader placeLoader;
+
+    @Override
+    public TripPlanDto createTripPlan(CreateTripPlanRequest request, Long userId) {
+        // 1) User 엔티티 조회
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        // 2) 날짜 유효성 검사
+        if (request.getStartDate().isAfter(request.getEndDate())) {
+            throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
+        }
+
+        // 3) TripPlan 엔티티 생성
+        TripPlan plan = TripPlan.builder()
+                .planName(request.getPlanName())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .user(user)
+                .build();
+
+        // 4) 날짜 수 계산 및 TripDay 생성
+        int totalDays = (int) ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
+        IntStream.range(0, totalDays)
+                .mapToObj(i -> TripDay.builder()
+                        .dayNumber(i + 1)
+                        .date(request.getStartDate().plusDays(i))
+                        .tripPlan(plan)
+                        .build())
+                .forEach(plan.getDays()::add);
+
+        // 5) 저장 & DTO 변환
+        TripPlan saved = tripPlanRepository.save(plan);
+        return TripPlanDto.from(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TripPlanDto getTripPlan(Long tripPlanId, Long userId) {
+        return getTripPlanWithETag(tripPlanId, userId).body();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionedResponse<TripPlanDto> getTripPlanWithETag(Long tripPlanId, Long userId) {
+        PlanSnapshot snapshot = planSnapshotCache.get(tripPlanId)
+                .filter(s -> s.isOwnedBy(userId))
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
+        return new VersionedResponse<>(snapshot.getPlan(), snapshot.eTag());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TripDayWithDestinationsDto> getDaysWithDestinations(Long planId, Long userId) {
+        return getDaysWithDestinationsWithETag(planId, userId).body();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionedResponse<List<TripDayWithDestinationsDto>> getDaysWithDestinationsWithETag(Long planId, Long userId) {
+        // 공유받은 사용자도 같은 스냅샷을 보므로 DB 조회는 버전당 한 번
+        PlanSnapshot snapshot = planSnapshotCache.get(planId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
+        if (!snapshot.isViewableBy(userId)) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+        return new VersionedResponse<>(withCatalogPlaces(snapshot.getDays()), snapshot.eTag());
+    }
+
+    // 장소명/주소가 비어 있는 목적지만 장소 카탈로그에서 한 번에 보충 (없으면 스냅샷 그대로)
+    private List<TripDayWithDestinationsDto> withCatalogPlaces(List<TripDayWithDestinationsDto> days) {
+        List<String> placeIds = days.stream()
+                .flatMap(day -> day.getDestinations().stream())
+                .filter(DestinationDto::lacksPlaceInfo)
+                .map(DestinationDto::getPlaceId)
+                .toList();
+        if (placeIds.isEmpty()) {
+            return days;
+        }
+        placeLoader.prime(placeIds);
+        return days.stream()
+                .map(day -> day.toBuilder()
+                        .destinations(day.getDestinations().stream()
+                                .map(d -> d.lacksPlaceInfo()
+                                        ? placeLoader.load(d.getPlaceId()).map(d::withPlace).orElse(d)
+                                        : d)
+                                .toList())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TripPlanDto> getTripPlansByUserId(Long userId) {
+        // 사용자 존재 확인
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        // 사용자의 모든 여행 계획 조회
+        return tripPlanRepository.findByUserId(userId).stream()
+                .map(TripPlanDto::from)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public void deleteTripPlan(Long tripPlanId, Long userId) {
+        TripPlan tripPlan = tripPlanRepository.findById(tripPlanId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
+
+        if (!tripPlan.getUser().getId().equals(userId)) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+
+        // 여행 계획 삭제 (Cascade로 인해 연관된 TripDay, Destination도 함께 삭제됨)
+        tripPlanRepository.delete(tripPlan);
+        planSnapshotCache.invalidate(tripPlanId);
+    }
+
+    @Override
+    public PostDto shareAsPost(Long planId, Long userId, CreatePostRequest request) {
+        TripPlan tripPlan = tripPlanRepository.findById(planId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
+
+        if (!tripPlan.getUser().getId().equals(userId)) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        Post post = Post.builder()
+                .title(request.getTitle())
+                .content(request.getContent())
+                .user(user)
+                .tripPlan(tripPlan)
+                .build();
+
+        Post savedPost = postRepository.save(post);
+        return PostDto.from(savedPost);
+    }
+
+    @Override
+    public TripPlanShareDto shareWithFriend(Long planId, Long userId, ShareWithFriendRequest request) {
+        TripPlan tripPlan = tripPlanRepository.findById(planId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
+
+        if (!tripPlan.getUser().getId().equals(userId)) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+
+        User friend = userRepository.findById(request.getFriendId())
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        // 이미 공유된 경우 체크
+        if (tripPlanShareRepository.findByTripPlanAndUser(planId, friend.getId()).isPresent()) {
+            throw new CustomException(ErrorCode.ALREADY_SHARED);
+        }
+
+        TripPlanShare share = TripPlanShare.builder()
+                .tripPlan(tripPlan)
+                .sharedWithUser(friend)
+                .permission(SharePermission.valueOf(request.getPermission()))
+                .build();
+
+        TripPlanShare savedShare = tripPlanShareRepository.save(share);
+        planSnapshotCache.invalidate(planId);
+        return TripPlanShareDto.from(savedShare);
+    }
+
+    @Override
+    public TripPlanDto updateVisibility(Long planId, Long userId, boolean isPublic) {
+        TripPlan tripPlan = tripPlanRepository.findById(planId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
+
+        if (!tripPlan.getUser().getId().equals(userId)) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+
+        tripPlan.updateVisibility(isPublic);
+        planSnapshotCache.invalidate(planId);
+        return TripPlanDto.from(tripPlan);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TripPlanDto> getSharedPlans(Long userId) {
+        return getSharedPlansWithETag(userId).body();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionedResponse<List<TripPlanDto>> getSharedPlansWithETag(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        List<PlanSnapshot> snapshots = planSnapshotCache.getAll(tripPlanShareRepository.findTripPlanIdsBySharedWithUserId(userId));
+        List<TripPlanDto> plans = snapshots.stream()
+                .map(snapshot -> {
+                    TripPlanDto plan = snapshot.getPlan();
+                    String ownerName = plan.getOwnerName() != null ? plan.getOwnerName() : "알 수 없음";
+                    return TripPlanDto.builder()
+                            .tripPlanId(plan.getTripPlanId())
+                            .planName(plan.getPlanName())
+                            .startDate(plan.getStartDate())
+                            .endDate(plan.getEndDate())
+                            .days(plan.getDays())
+                            .ownerName(plan.getOwnerName())
+                            .sharedBy(ownerName)
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        // 목록 구성(계획 ID 순서)과 각 계획 버전이 같으면 같은 응답, 버전을 모르는 계획이 있으면 ETag 없음
+        if (!snapshots.stream().allMatch(PlanSnapshot::hasKnownVersion)) {
+            return new VersionedResponse<>(plans, null);
+        }
+        String versions = snapshots.stream()
+                .map(PlanSnapshot::eTag)
+                .collect(Collectors.joining(","));
+        return new VersionedResponse<>(plans, "\"s-" + sha256(versions) + "\"");
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PlanChangeDelta getChangesSince(Long planId, Long userId, long since) {
+        PlanSnapshot snapshot = planSnapshotCache.get(planId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_PLAN_NOT_FOUND));
+        if (!snapshot.isViewableBy(userId)) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+        return planChangeLog.since(planId, since);
+    }
+
+    @Override
+    public boolean existsById(Long planId) {
+        return tripPlanRepository.existsById(planId);
+    }
+
+    @Override
+    public boolean hasAccess(Long planId, Long userId) {
+        return tripPlanRepository.findById(planId)
+                .map(plan -> plan.getUser().getId().equals(userId))
+                .orElse(false);
+    }
+
+    @Override
+    public boolean isAlreadyShared(Long planId) {
+        return tripPlanShareRepository.findByTripPlanId(planId).isPresent();
+    }
+
+    @Override
+    public DestinationDto addDestination(Long planId, Long dayId, Long userId, AddDestinationRequest request) {
+        // 1. 편집 권한 확인 (소유자 또는 CAN_EDIT 공유, 커밋 때 계획 version 을 올림)
+        planAccessChecker.lockEditable(planId, userId);
+
+        // 2. TripDay가 해당 TripPlan에 속하는지 확인
+        TripDay tripDay = tripDayRepository.findById(dayId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_DAY_NOT_FOUND));
+
+        if (!tripDay.getTripPlan().getTripPlanId().equals(planId)) {
+            throw new CustomException(ErrorCode.INVALID_TRIP_DAY);
+        }
+
+        // 3. CreateDestinationRequest로 변환하여 DestinationService 호출
+        CreateDestinationRequest createRequest = CreateDestinationRequest.builder()
+                .tripDayId(dayId)
+                .placeId(request.getPlaceId())  // String 그대로 사용
+                .placeName(request.getPlaceName())  // 장소명 추가
+                .address(request.getAddress())  // 주소 추가
+                .type(request.getCategory())
+                .memo(request.getMemo())  // 메모 추가
+                .build();
+
+        DestinationDto added = destinationService.addDestination(createRequest, userId);
+
+        // 4. 추가된 위치부터 일정 시각 계산
+        List<Destination> ordered = destinationRepository.findByTripDay_TripDayIdOrderBySequence(dayId);
+        int index = indexOf(ordered, added.getId());
+        ScheduleCalculator.afterInsert(ordered, ScheduleCalculator.dayStart(tripDay), index,
+                travelTimeService.legProvider(ordered));
+        planSnapshotCache.invalidate(planId, PlanChangeEvent.of(PlanChangeEvent.Type.DESTINATION_ADDED,
+                planId, userId, added.getId(), toDayDto(tripDay, ordered)));
+        return DestinationDto.from(ordered.get(index), index + 1);
+    }
+
+    @Override
+    public void removeDestination(Long planId, Long dayId, Long destinationId, Long userId) {
+        // 1. 편집 권한 확인 (소유자 또는 CAN_EDIT 공유, 커밋 때 계획 version 을 올림)
+        planAccessChecker.lockEditable(planId, userId);
+
+        // 2. TripDay가 해당 TripPlan에 속하는지 확인
+        TripDay tripDay = tripDayRepository.findById(dayId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_DAY_NOT_FOUND));
+
+        if (!tripDay.getTripPlan().getTripPlanId().equals(planId)) {
+            throw new CustomException(ErrorCode.INVALID_TRIP_DAY);
+        }
+
+        // 3. DestinationService를 통해 삭제
+        List<Destination> ordered = new ArrayList<>(destinationRepository.findByTripDay_TripDayIdOrderBySequence(dayId));
+        int index = indexOf(ordered, destinationId);
+        destinationService.removeDestination(dayId, destinationId, userId);
+
+        // 4. 삭제된 위치부터 일정 시각 다시 계산
+        if (index >= 0) {
+            ordered.remove(index);
+            ScheduleCalculator.afterRemove(ordered, ScheduleCalculator.dayStart(tripDay), index,
+                    travelTimeService.legProvider(ordered));
+        }
+        planSnapshotCache.invalidate(planId, PlanChangeEvent.of(PlanChangeEvent.Type.DESTINATION_REMOVED,
+                planId, userId, destinationId, toDayDto(tripDay, ordered)));
+    }
+
+    @Override
+    public DestinationDto updateDestination(Long planId, Long dayId, Long destinationId, Long userId, UpdateDestinationRequest request) {
+        // 1. 편집 권한 확인 (소유자 또는 CAN_EDIT 공유, 커밋 때 계획 version 을 올림)
+        planAccessChecker.lockEditable(planId, userId);
+
+        // 2. TripDay가 해당 TripPlan에 속하는지 확인
+        TripDay tripDay = tripDayRepository.findById(dayId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_DAY_NOT_FOUND));
+
+        if (!tripDay.getTripPlan().getTripPlanId().equals(planId)) {
+            throw new CustomException(ErrorCode.INVALID_TRIP_DAY);
+        }
+
+        // 3. Destination이 존재하는지 확인
+        Destination destination = destinationRepository.findById(destinationId)
+                .orElseThrow(() -> new CustomException(ErrorCode.DESTINATION_NOT_FOUND));
+
+        // 4. Destination이 해당 TripDay에 속하는지 확인
+        if (!destination.getTripDay().getTripDayId().equals(dayId)) {
+            throw new CustomException(ErrorCode.INVALID_DESTINATION);
+        }
+
+        // 5. 정보 업데이트
+        String previousTransportation = destination.getTransportation();
+        Integer previousDuration = destination.getDuration();
+        destination.updateDetails(
+            request.getTransportation(),
+            request.getDuration(),
+            request.getPrice()
+        );
+        if (request.getMemo() != null) {
+            destination.setMemo(request.getMemo());
+        }
+
+        // 이동 수단/체류 시간이 바뀌면 이 목적지부터 일정 시각 다시 계산
+        boolean transportationChanged = !Objects.equals(previousTransportation, destination.getTransportation());
+        if (transportationChanged || !Objects.equals(previousDuration, destination.getDuration())) {
+            List<Destination> ordered = sortedDestinations(tripDay);
+            ScheduleCalculator.afterUpdate(ordered, ScheduleCalculator.dayStart(tripDay),
+                    ordered.indexOf(destination), transportationChanged, travelTimeService.legProvider(ordered));
+        }
+
+        // 6. 저장 및 DTO 반환
+        Destination savedDestination = destinationRepository.save(destination);
+        List<Destination> ordered = sortedDestinations(tripDay);
+        planSnapshotCache.invalidate(planId, PlanChangeEvent.of(PlanChangeEvent.Type.DESTINATION_UPDATED,
+                planId, userId, destinationId, toDayDto(tripDay, ordered)));
+        return DestinationDto.from(savedDestination, ordered.indexOf(savedDestination) + 1);
+    }
+
+    @Override
+    public void moveDestination(Long planId, Long dayId, Long userId, MoveDestinationRequest request) {
+        // 1. 편집 권한 확인 (소유자 또는 CAN_EDIT 공유, 커밋 때 계획 version 을 올림)
+        planAccessChecker.lockEditable(planId, userId);
+
+        // 2. TripDay가 해당 TripPlan에 속하는지 확인
+        TripDay tripDay = tripDayRepository.findById(dayId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_DAY_NOT_FOUND));
+
+        if (!tripDay.getTripPlan().getTripPlanId().equals(planId)) {
+            throw new CustomException(ErrorCode.INVALID_TRIP_DAY);
+        }
+
+        // 3. TripDay의 moveDestination 메서드 사용
+        tripDay.moveDestination(request.getFromSequence(), request.getToSequence());
+
+        // 바뀐 구간부터 일정 시각 다시 계산
+        List<Destination> ordered = sortedDestinations(tripDay);
+        ScheduleCalculator.afterMove(ordered, ScheduleCalculator.dayStart(tripDay),
+                request.getFromSequence() - 1, request.getToSequence() - 1, travelTimeService.legProvider(ordered));
+
+        // 4. 저장
+        tripDayRepository.save(tripDay);
+        Long movedId = ordered.get(request.getToSequence() - 1).getId();
+        planSnapshotCache.invalidate(planId, PlanChangeEvent.of(PlanChangeEvent.Type.DESTINATION_MOVED,
+                planId, userId, movedId, toDayDto(tripDay, ordered)));
+
+        // 5. 시퀀스 변경 완료
+        // 시퀀스 변경은 TripDay 엔티티에서 처리됨
+    }
+
+    @Override
+    public TripDayWithDestinationsDto updateDayStartTime(Long planId, Long dayId, Long userId, LocalTime startTime) {
+        planAccessChecker.lockEditable(planId, userId);
+
+        TripDay tripDay = tripDayRepository.findById(dayId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_DAY_NOT_FOUND));
+
+        if (!tripDay.getTripPlan().getTripPlanId().equals(planId)) {
+            throw new CustomException(ErrorCode.INVALID_TRIP_DAY);
+        }
+
+        tripDay.updateStartTime(startTime);
+        List<Destination> ordered = sortedDestinations(tripDay);
+        ScheduleCalculator.afterStartTimeChanged(ordered, ScheduleCalculator.dayStart(tripDay),
+                travelTimeService.legProvider(ordered));
+        TripDayWithDestinationsDto day = toDayDto(tripDay, ordered);
+        planSnapshotCache.invalidate(planId, PlanChangeEvent.of(PlanChangeEvent.Type.DAY_UPDATED,
+                planId, userId, null, day));
+        return day;
+    }
+
+    private List<Destination> sortedDestinations(TripDay day) {
+        return day.sortedDestinations();
+    }
+
+    private int indexOf(List<Destination> ordered, Long destinationId) {
+        for (int i = 0; i < ordered.size(); i++) {
+            if (ordered.get(i).getId().equals(destinationId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private TripDayWithDestinationsDto toDayDto(TripDay day, List<Destination> ordered) {
+        return TripDayWithDestinationsDto.builder()
+                .tripDayId(day.getTripDayId())
+                .dayNumber(day.getDayNumber())
+                .date(day.getDate())
+                .startTime(ScheduleCalculator.dayStart(day))
+                .endTime(ordered.isEmpty() ? null : ordered.get(ordered.size() - 1).getDepartureTime())
+                .destinations(DestinationDto.listOf(ordered))
+                .build();
+    }
+}
@@ -0,0 +1,480 @@
+package jeju.bear.plan.service.optimization;
+
+import jeju.bear.global.common.CustomException;
+import jeju.bear.global.common.ErrorCode;
+import jeju.bear.plan.dto.DestinationDto;
+import jeju.bear.plan.dto.MultiDayOptimizationRequest;
+import jeju.bear.plan.dto.MultiDayOptimizationStatus;
+import jeju.bear.plan.dto.TripDayWithDestinationsDto;
+import jeju.bear.plan.entity.Destination;
+import jeju.bear.plan.entity.TripDay;
+import jeju.bear.plan.entity.TripPlan;
+import jeju.bear.plan.repository.DestinationRepository;
+import jeju.bear.plan.service.PlanAccessChecker;
+import jeju.bear.plan.service.PlanSnapshotCache;
+import jeju.bear.plan.util.OrderKeys;
+import jeju.bear.plan.util.ScheduleCalculator;
+import jeju.bear.plan.util.optimization.GeoPoint;
+import jeju.bear.plan.util.optimization.OrToolsSolver;
+import jeju.bear.plan.util.optimization.TravelMode;
+import jeju.bear.plan.util.optimization.TravelTimeEstimator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여행 계획 전체 목적지를 여러 날에 나눠 배치하는 백그라운드 최적화 작업.
+ * 요청 시점의 목적지/좌표로 문제를 만들어 별도 스레드 풀에서 OrToolsSolver 를 실행하고,
+ * 진행 상황과 현재까지의 최선해는 jobId로 조회한다. 결과는 apply 를 호출해야 일정에 반영된다.
+ * 상태와 최선해는 OptimizationJobStore(Redis)에 두므로 조회/취소/반영 요청은 어느 노드로 가도 된다.
+ */
+@Slf4j
+@Service
+public class MultiDayOptimizationService {
+
+    private static final LocalTime DEFAULT_DAY_START = LocalTime.of(9, 0);
+    private static final LocalTime DEFAULT_DAY_END = LocalTime.of(21, 0);
+    private static final int DEFAULT_STAY_MINUTES = 60;
+    private static final int DEFAULT_TIME_LIMIT_SECONDS = 5;
+    private static final int MAX_TIME_LIMIT_SECONDS = 30;
+    private static final int DEFAULT_MAX_ITERATIONS = 5000;
+    private static final int MAX_ITERATIONS = 50_000;
+    // 실행 중 Redis 에 진행 상황을 기록하고 취소 요청을 확인하는 간격
+    private static final long SYNC_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final PlanAccessChecker planAccessChecker;
+    private final DestinationRepository destinationRepository;
+    private final PlaceCoordinateResolver placeCoordinateResolver;
+    private final TravelTimeService travelTimeService;
+    private final PlanSnapshotCache planSnapshotCache;
+    private final OptimizationJobStore jobStore;
+    private final ThreadPoolTaskExecutor executor;
+    // 이 노드에서 실행 중인 작업만 (끝나면 제거)
+    private final Map<String, OptimizationJob> running = new ConcurrentHashMap<>();
+
+    public MultiDayOptimizationService(PlanAccessChecker planAccessChecker,
+                                       DestinationRepository destinationRepository,
+                                       PlaceCoordinateResolver placeCoordinateResolver,
+                                       TravelTimeService travelTimeService,
+                                       PlanSnapshotCache planSnapshotCache,
+                                       OptimizationJobStore jobStore,
+                                       @Qualifier("planOptimizationExecutor") ThreadPoolTaskExecutor executor) {
+        this.planAccessChecker = planAccessChecker;
+        this.destinationRepository = destinationRepository;
+        this.placeCoordinateResolver = placeCoordinateResolver;
+        this.travelTimeService = travelTimeService;
+        this.planSnapshotCache = planSnapshotCache;
+        this.jobStore = jobStore;
+        this.executor = executor;
+    }
+
+    @Transactional(readOnly = true)
+    public MultiDayOptimizationStatus start(Long planId, Long userId, MultiDayOptimizationRequest request) {
+        TripPlan plan = planAccessChecker.loadEditable(planId, userId);
+
+        List<TripDay> days = plan.getDays().stream()
+                .sorted(Comparator.comparing(TripDay::getDayNumber))
+                .toList();
+        if (days.isEmpty()) {
+            throw new CustomException(ErrorCode.TRIP_DAY_NOT_FOUND);
+        }
+        List<Destination> destinations = days.stream()
+                .flatMap(day -> day.getDestinations().stream()
+                        .sorted(Comparator.comparing(Destination::getSequence)))
+                .toList();
+
+        Set<String> placeIds = new HashSet<>();
+        destinations.forEach(d -> placeIds.add(d.getPlaceId()));
+        if (request.getLodgingPlaceId() != null) {
+            placeIds.add(request.getLodgingPlaceId());
+        }
+        Map<String, GeoPoint> points = placeCoordinateResolver.resolve(placeIds);
+
+        // 숙소 자체로 등록된 목적지와 좌표가 없는 목적지는 배분 대상에서 제외
+        List<Destination> candidates = new ArrayList<>();
+        List<Long> unresolved = new ArrayList<>();
+        for (Destination d : destinations) {
+            if (d.getPlaceId().equals(request.getLodgingPlaceId())) {
+                continue;
+            }
+            if (points.containsKey(d.getPlaceId())) {
+                candidates.add(d);
+            } else {
+                unresolved.add(d.getId());
+            }
+        }
+
+        double[][] travel = buildMatrix(request, points, candidates);
+
+        int defaultStay = request.getDefaultStayMinutes() != null && request.getDefaultStayMinutes() > 0
+                ? request.getDefaultStayMinutes() : DEFAULT_STAY_MINUTES;
+        int[] serviceSeconds = candidates.stream()
+                .mapToInt(d -> (d.getDuration() != null && d.getDuration() > 0 ? d.getDuration() : defaultStay) * 60)
+                .toArray();
+
+        Map<Long, MultiDayOptimizationRequest.DayWindow> windows = new HashMap<>();
+        if (request.getDays() != null) {
+            request.getDays().forEach(w -> windows.put(w.getTripDayId(), w));
+        }
+        int[] dayStart = new int[days.size()];
+        int[] dayEnd = new int[days.size()];
+        for (int i = 0; i < days.size(); i++) {
+            MultiDayOptimizationRequest.DayWindow window = windows.get(days.get(i).getTripDayId());
+            LocalTime start = firstNonNull(window != null ? window.getStart() : null, request.getDayStart(), DEFAULT_DAY_START);
+            LocalTime end = firstNonNull(window != null ? window.getEnd() : null, request.getDayEnd(), DEFAULT_DAY_END);
+            if (!end.isAfter(start)) {
+                throw new CustomException(ErrorCode.INVALID_TRIP_DAY);
+            }
+            dayStart[i] = start.toSecondOfDay();
+            dayEnd[i] = end.toSecondOfDay();
+        }
+
+        OrToolsSolver.Problem problem = new OrToolsSolver.Problem(
+                travel, serviceSeconds, null, null, dayStart, dayEnd);
+        int timeLimit = clamp(request.getTimeLimitSeconds(), DEFAULT_TIME_LIMIT_SECONDS, MAX_TIME_LIMIT_SECONDS);
+        int maxIterations = clamp(request.getMaxIterations(), DEFAULT_MAX_ITERATIONS, MAX_ITERATIONS);
+        // 시드를 지정하지 않으면 계획 ID 기준으로 고정 (같은 입력이면 같은 결과)
+        long seed = request.getSeed() != null ? request.getSeed() : planId;
+
+        OptimizationJob job = new OptimizationJob(UUID.randomUUID().toString(), planId,
+                days.stream().map(TripDay::getTripDayId).toList(),
+                days.stream().map(TripDay::getDayNumber).toList(),
+                candidates.stream().map(Destination::getId).toList(),
+                unresolved, maxIterations);
+
+        // 같은 계획의 이전 작업은 취소 (다른 노드에서 실행 중이어도 취소 표시를 보고 멈춤)
+        jobStore.replaceCurrent(planId, job.id).ifPresent(previous -> {
+            jobStore.requestCancel(previous);
+            OptimizationJob local = running.get(previous);
+            if (local != null) {
+                local.cancelled = true;
+            }
+        });
+        jobStore.save(job.toStatus());
+        running.put(job.id, job);
+
+        try {
+            executor.execute(() -> run(job, problem, seed, timeLimit));
+        } catch (TaskRejectedException e) {
+            running.remove(job.id);
+            jobStore.delete(job.id);
+            throw new CustomException(ErrorCode.API_RATE_LIMIT_EXCEEDED);
+        }
+        log.info("여러 날 일정 최적화 시작: jobId={}, planId={}, {} 일, 후보 {} 곳",
+                job.id, planId, days.size(), candidates.size());
+        return job.toStatus();
+    }
+
+    public MultiDayOptimizationStatus getStatus(Long planId, String jobId, Long userId) {
+        planAccessChecker.loadViewable(planId, userId);
+        return findStatus(planId, jobId);
+    }
+
+    public MultiDayOptimizationStatus cancel(Long planId, String jobId, Long userId) {
+        planAccessChecker.loadEditable(planId, userId);
+        MultiDayOptimizationStatus status = findStatus(planId, jobId);
+        if ("RUNNING".equals(status.getStatus())) {
+            jobStore.requestCancel(jobId);
+            OptimizationJob local = running.get(jobId);
+            if (local != null) {
+                local.cancelled = true;
+            }
+        }
+        return status;
+    }
+
+    // 최선해를 일정에 반영. 작업 시작 후 삭제된 목적지는 건너뛰고, 배분되지 않은 목적지는 원래 날짜 뒤에 유지
+    @Transactional
+    public List<TripDayWithDestinationsDto> apply(Long planId, String jobId, Long userId) {
+        // 커밋 때 계획 version 을 올림
+        TripPlan plan = planAccessChecker.lockEditable(planId, userId);
+        MultiDayOptimizationStatus status = findStatus(planId, jobId);
+        if ("RUNNING".equals(status.getStatus()) || status.getDays() == null || status.getDays().isEmpty()) {
+            throw new CustomException(ErrorCode.CONFLICT);
+        }
+
+        Map<Long, TripDay> dayById = new HashMap<>();
+        Map<Long, Destination> destinationById = new HashMap<>();
+        for (TripDay day : plan.getDays()) {
+            dayById.put(day.getTripDayId(), day);
+            day.getDestinations().forEach(d -> destinationById.put(d.getId(), d));
+        }
+
+        Map<Long, List<Destination>> newOrder = new HashMap<>();
+        Set<Long> placed = new HashSet<>();
+        for (MultiDayOptimizationStatus.DayRoute route : status.getDays()) {
+            Long dayId = route.getTripDayId();
+            if (!dayById.containsKey(dayId)) {
+                continue;
+            }
+            List<Destination> ordered = newOrder.computeIfAbsent(dayId, k -> new ArrayList<>());
+            for (Long destinationId : route.getDestinationIds()) {
+                Destination destination = destinationById.get(destinationId);
+                if (destination != null) {
+                    ordered.add(destination);
+                    placed.add(destination.getId());
+                }
+            }
+        }
+        for (TripDay day : plan.getDays()) {
+            List<Destination> ordered = newOrder.computeIfAbsent(day.getTripDayId(), k -> new ArrayList<>());
+            day.getDestinations().stream()
+                    .filter(d -> !placed.contains(d.getId()))
+                    .sorted(Comparator.comparing(Destination::getSequence))
+                    .forEach(ordered::add);
+        }
+
+        newOrder.forEach((dayId, ordered) -> {
+            TripDay day = dayById.get(dayId);
+            ScheduleCalculator.recalculateAll(ordered, ScheduleCalculator.dayStart(day),
+                    travelTimeService.legProvider(ordered));
+            // 다른 날에서 온 목적지의 키도 이 날 키 사이 값으로 정함 (순서가 맞는 키는 그대로)
+            int[] keys = OrderKeys.keysFor(ordered);
+            for (int i = 0; i < ordered.size(); i++) {
+                Destination destination = ordered.get(i);
+                destination.updateSequence(keys[i]);
+                if (!destination.getTripDay().getTripDayId().equals(dayId)) {
+                    destinationRepository.moveToDay(destination.getId(), day, keys[i]);
+                }
+            }
+        });
+        jobStore.save(status.toBuilder().applied(true).build());
+        planSnapshotCache.invalidate(planId);
+        log.info("여러 날 일정 최적화 반영: jobId={}, planId={}", jobId, planId);
+
+        return plan.getDays().stream()
+                .sorted(Comparator.comparing(TripDay::getDayNumber))
+                .map(day -> TripDayWithDestinationsDto.builder()
+                        .tripDayId(day.getTripDayId())
+                        .dayNumber(day.getDayNumber())
+                        .date(day.getDate())
+                        .destinations(DestinationDto.listOf(newOrder.get(day.getTripDayId())))
+                        .build())
+                .toList();
+    }
+
+    private void run(OptimizationJob job, OrToolsSolver.Problem problem, long seed, int timeLimitSeconds) {
+        try {
+            OrToolsSolver.Solution solution = OrToolsSolver.solve(problem, seed, job.maxIterations,
+                    Duration.ofSeconds(timeLimitSeconds).toNanos(),
+                    () -> shouldStop(job),
+                    (iteration, best) -> {
+                        job.iterations = iteration;
+                        job.best = best;
+                        publishProgress(job);
+                    });
+            job.best = solution;
+            job.finish(job.cancelled ? "CANCELLED" : "COMPLETED");
+            publish(job);
+            log.info("여러 날 일정 최적화 종료: jobId={}, status={}, 반복 {} 회, 이동 {} 초, 미배정 {} 곳",
+                    job.id, job.status, solution.getIterations(), Math.round(solution.getTravelSeconds()),
+                    solution.getUnassigned().length);
+        } catch (Exception e) {
+            job.error = Objects.toString(e.getMessage(), e.getClass().getSimpleName());
+            job.finish("FAILED");
+            publish(job);
+            log.error("여러 날 일정 최적화 실패: jobId={}", job.id, e);
+        } finally {
+            running.remove(job.id);
+        }
+    }
+
+    // 다른 노드에서 들어온 취소 요청은 SYNC_INTERVAL 마다 Redis 에서 확인
+    private boolean shouldStop(OptimizationJob job) {
+        if (job.cancelled) {
+            return true;
+        }
+        long now = System.nanoTime();
+        if (now - job.lastCancelCheckNanos < SYNC_INTERVAL_NANOS) {
+            return false;
+        }
+        job.lastCancelCheckNanos = now;
+        try {
+            if (jobStore.isCancelRequested(job.id)) {
+                job.cancelled = true;
+            }
+        } catch (Exception e) {
+            log.debug("최적화 취소 요청 확인 실패: jobId={}, {}", job.id, e.getMessage());
+        }
+        return job.cancelled;
+    }
+
+    private void publishProgress(OptimizationJob job) {
+        long now = System.nanoTime();
+        if (now - job.lastPublishedNanos >= SYNC_INTERVAL_NANOS) {
+            job.lastPublishedNanos = now;
+            publish(job);
+        }
+    }
+
+    // Redis 기록 실패는 탐색을 멈추지 않음 (최종 상태는 종료 시 다시 기록)
+    private void publish(OptimizationJob job) {
+        try {
+            jobStore.save(job.toStatus());
+        } catch (Exception e) {
+            log.warn("최적화 작업 상태 저장 실패: jobId={}, {}", job.id, e.getMessage());
+        }
+    }
+
+    // 0번 = 숙소, 이후 후보 순서. 장소 간 구간은 이동 시간 캐시에서, 좌표로만 주어진 숙소 구간은 추정값으로 채움
+    private double[][] buildMatrix(MultiDayOptimizationRequest request, Map<String, GeoPoint> points,
+                                   List<Destination> candidates) {
+        List<String> placeIds = new ArrayList<>(candidates.size() + 1);
+        String lodgingPlaceId = request.getLodgingPlaceId();
+        boolean lodgingIsPlace = lodgingPlaceId != null && points.containsKey(lodgingPlaceId);
+        if (lodgingIsPlace) {
+            placeIds.add(lodgingPlaceId);
+        }
+        candidates.forEach(d -> placeIds.add(d.getPlaceId()));
+        double[][] cached = travelTimeService.matrix(placeIds, TravelMode.CAR);
+        if (lodgingIsPlace) {
+            return cached;
+        }
+
+        GeoPoint lodging = resolveLodging(request, points, candidates);
+        int n = candidates.size() + 1;
+        double[][] travel = new double[n][n];
+        for (int i = 1; i < n; i++) {
+            GeoPoint point = points.get(candidates.get(i - 1).getPlaceId());
+            travel[0][i] = TravelTimeEstimator.seconds(lodging, point, TravelMode.CAR);
+            travel[i][0] = travel[0][i];
+            System.arraycopy(cached[i - 1], 0, travel[i], 1, n - 1);
+        }
+        return travel;
+    }
+
+    private GeoPoint resolveLodging(MultiDayOptimizationRequest request, Map<String, GeoPoint> points,
+                                    List<Destination> candidates) {
+        if (request.getLodgingPlaceId() != null && points.containsKey(request.getLodgingPlaceId())) {
+            return points.get(request.getLodgingPlaceId());
+        }
+        if (request.getLodgingLatitude() != null && request.getLodgingLongitude() != null) {
+            return new GeoPoint(request.getLodgingLatitude(), request.getLodgingLongitude());
+        }
+        if (request.getLodgingPlaceId() != null || candidates.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_COORDINATES);
+        }
+        double lat = 0;
+        double lng = 0;
+        for (Destination d : candidates) {
+            lat += points.get(d.getPlaceId()).latitude();
+            lng += points.get(d.getPlaceId()).longitude();
+        }
+        return new GeoPoint(lat / candidates.size(), lng / candidates.size());
+    }
+
+    private MultiDayOptimizationStatus findStatus(Long planId, String jobId) {
+        return jobStore.find(jobId)
+                .filter(status -> planId.equals(status.getPlanId()))
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
+    }
+
+    private static int clamp(Integer value, int defaultValue, int max) {
+        return value == null || value <= 0 ? defaultValue : Math.min(value, max);
+    }
+
+    @SafeVarargs
+    private static <T> T firstNonNull(T... values) {
+        for (T value : values) {
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static class OptimizationJob {
+        private final String id;
+        private final Long planId;
+        private final List<Long> dayIds;
+        private final List<Integer> dayNumbers;
+        private final List<Long> destinationIds;
+        private final List<Long> unresolvedDestinationIds;
+        private final int maxIterations;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile String status = "RUNNING";
+        private volatile boolean cancelled;
+        private volatile int iterations;
+        private volatile OrToolsSolver.Solution best;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+        // 실행 스레드에서만 사용
+        private long lastCancelCheckNanos = System.nanoTime();
+        private long lastPublishedNanos = System.nanoTime();
+
+        private OptimizationJob(String id, Long planId, List<Long> dayIds, List<Integer> dayNumbers,
+                                List<Long> destinationIds, List<Long> unresolvedDestinationIds, int maxIterations) {
+            this.id = id;
+            this.planId = planId;
+            this.dayIds = dayIds;
+            this.dayNumbers = dayNumbers;
+            this.destinationIds = destinationIds;
+            this.unresolvedDestinationIds = unresolvedDestinationIds;
+            this.maxIterations = maxIterations;
+        }
+
+        private void finish(String status) {
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        private MultiDayOptimizationStatus toStatus() {
+            OrToolsSolver.Solution solution = best;
+            MultiDayOptimizationStatus.MultiDayOptimizationStatusBuilder builder = MultiDayOptimizationStatus.builder()
+                    .jobId(id)
+                    .planId(planId)
+                    .status(status)
+                    .iterations(solution != null ? Math.max(iterations, solution.getIterations()) : iterations)
+                    .maxIterations(maxIterations)
+                    .unresolvedDestinationIds(unresolvedDestinationIds)
+                    .applied(false)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error);
+            if (solution == null) {
+                return builder.days(List.of()).unassignedDestinationIds(List.of()).build();
+            }
+
+            List<MultiDayOptimizationStatus.DayRoute> routes = new ArrayList<>();
+            for (int d = 0; d < solution.getDayCount(); d++) {
+                List<Long> ids = new ArrayList<>();
+                for (int stop : solution.getRoute(d)) {
+                    ids.add(destinationIds.get(stop));
+                }
+                routes.add(MultiDayOptimizationStatus.DayRoute.builder()
+                        .tripDayId(dayIds.get(d))
+                        .dayNumber(dayNumbers.get(d))
+                        .destinationIds(ids)
+                        .travelSeconds(Math.round(solution.getRouteTravelSeconds(d)))
+                        .returnTime(LocalTime.ofSecondOfDay(Math.min(solution.getRouteEndSeconds(d), 86_399)))
+                        .build());
+            }
+            List<Long> unassigned = new ArrayList<>();
+            for (int stop : solution.getUnassigned()) {
+                unassigned.add(destinationIds.get(stop));
+            }
+            return builder
+                    .travelSeconds(Math.round(solution.getTravelSeconds()))
+                    .days(routes)
+                    .unassignedDestinationIds(unassigned)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package jeju.bear.plan.service.optimization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jeju.bear.plan.dto.MultiDayOptimizationStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 여러 날 일정 최적화 작업 상태 저장소.
+ * 작업은 시작한 노드에서만 실행되지만, 상태와 최선해는 어느 노드에서든 조회/취소/반영할 수 있도록 Redis에 둔다.
+ * - plan:optimization:job:{jobId}     상태 JSON (최선해의 날짜별 목적지 순서 포함)
+ * - plan:optimization:cancel:{jobId}  취소 요청 표시 (실행 중인 노드가 주기적으로 확인)
+ * - plan:optimization:plan:{planId}   계획의 최근 작업 ID (새 작업을 시작하면 이전 작업을 취소)
+ * 모든 키는 보관 기간이 지나면 만료된다.
+ */
+@Slf4j
+@Component
+public class OptimizationJobStore {
+
+    private static final String JOB_KEY_PREFIX = "plan:optimization:job:";
+    private static final String CANCEL_KEY_PREFIX = "plan:optimization:cancel:";
+    private static final String PLAN_KEY_PREFIX = "plan:optimization:plan:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration retention;
+
+    public OptimizationJobStore(RedisTemplate<String, String> redisTemplate,
+                                ObjectMapper objectMapper,
+                                @Value("${plan.optimization.job-retention-minutes:30}") long retentionMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+    }
+
+    public void save(MultiDayOptimizationStatus status) {
+        try {
+            redisTemplate.opsForValue().set(JOB_KEY_PREFIX + status.getJobId(),
+                    objectMapper.writeValueAsString(status), retention);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("최적화 작업 상태 직렬화 실패: jobId=" + status.getJobId(), e);
+        }
+    }
+
+    public Optional<MultiDayOptimizationStatus> find(String jobId) {
+        String json = redisTemplate.opsForValue().get(JOB_KEY_PREFIX + jobId);
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, MultiDayOptimizationStatus.class));
+        } catch (JsonProcessingException e) {
+            log.warn("최적화 작업 상태 역직렬화 실패: jobId={}, {}", jobId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void delete(String jobId) {
+        redisTemplate.delete(JOB_KEY_PREFIX + jobId);
+    }
+
+    public void requestCancel(String jobId) {
+        redisTemplate.opsForValue().set(CANCEL_KEY_PREFIX + jobId, "1", retention);
+    }
+
+    public boolean isCancelRequested(String jobId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(CANCEL_KEY_PREFIX + jobId));
+    }
+
+    // 계획의 최근 작업을 jobId 로 바꾸고 이전 작업 ID 를 반환 (없으면 빈 값)
+    public Optional<String> replaceCurrent(Long planId, String jobId) {
+        String key = PLAN_KEY_PREFIX + planId;
+        String previous = redisTemplate.opsForValue().getAndSet(key, jobId);
+        redisTemplate.expire(key, retention);
+        return Optional.ofNullable(previous);
+    }
+}
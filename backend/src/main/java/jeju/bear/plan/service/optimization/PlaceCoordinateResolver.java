@@ -0,0 +1,53 @@
+package jeju.bear.plan.service.optimization;
+
+import jeju.bear.place.entity.AccommodationCatalog;
+import jeju.bear.place.entity.Place;
+import jeju.bear.place.repository.AccommodationCatalogRepository;
+import jeju.bear.place.service.PlaceLookupService;
+import jeju.bear.plan.util.optimization.GeoPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 목적지의 placeId로 좌표를 찾는다.
+ * VisitJeju/카카오 장소는 place 테이블(contentsId), 숫자 ID 숙소는 accommodation_catalog 에서 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaceCoordinateResolver {
+
+    private final PlaceLookupService placeLookupService;
+    private final AccommodationCatalogRepository accommodationCatalogRepository;
+
+    // 좌표를 찾지 못한 ID는 결과에서 제외
+    public Map<String, GeoPoint> resolve(Collection<String> placeIds) {
+        Map<String, GeoPoint> points = new HashMap<>();
+        List<String> distinct = placeIds.stream().distinct().toList();
+
+        for (Map.Entry<String, Place> entry : placeLookupService.findByIds(distinct).entrySet()) {
+            Place place = entry.getValue();
+            points.put(entry.getKey(), new GeoPoint(place.getLatitude(), place.getLongitude()));
+        }
+
+        List<Long> accommodationIds = new ArrayList<>();
+        for (String id : distinct) {
+            if (!points.containsKey(id) && !id.isEmpty() && id.length() <= 18 && id.chars().allMatch(Character::isDigit)) {
+                accommodationIds.add(Long.parseLong(id));
+            }
+        }
+        if (!accommodationIds.isEmpty()) {
+            for (AccommodationCatalog a : accommodationCatalogRepository.findAllById(accommodationIds)) {
+                if (a.getLatitude() != null && a.getLongitude() != null) {
+                    points.put(String.valueOf(a.getId()), new GeoPoint(a.getLatitude(), a.getLongitude()));
+                }
+            }
+        }
+        return points;
+    }
+}
@@ -1,4 +1,9 @@
 package jeju.bear.plan.service.optimization;
 
-public class RouteOptimizationService {
+import jeju.bear.plan.dto.OptimizedRouteDto;
+
+public interface RouteOptimizationService {
+
+    // 하루 일정의 방문 순서를 이동 시간이 최소가 되도록 재배치하고 저장
+    OptimizedRouteDto optimizeDay(Long planId, Long dayId, Long userId, boolean keepFirst, boolean keepLast);
 }
@@ -1,4 +1,103 @@
 package jeju.bear.plan.service.optimization;
 
-public class RouteOptimizationServiceImpl {
+import jeju.bear.global.common.CustomException;
+import jeju.bear.global.common.ErrorCode;
+import jeju.bear.plan.dto.DestinationDto;
+import jeju.bear.plan.dto.OptimizedRouteDto;
+import jeju.bear.plan.entity.Destination;
+import jeju.bear.plan.entity.TripDay;
+import jeju.bear.plan.repository.TripDayRepository;
+import jeju.bear.plan.service.PlanAccessChecker;
+import jeju.bear.plan.service.PlanSnapshotCache;
+import jeju.bear.plan.util.OrderKeys;
+import jeju.bear.plan.util.ScheduleCalculator;
+import jeju.bear.plan.util.optimization.GeoPoint;
+import jeju.bear.plan.util.optimization.RouteSolver;
+import jeju.bear.plan.util.optimization.TravelMode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RouteOptimizationServiceImpl implements RouteOptimizationService {
+
+    private final PlanAccessChecker planAccessChecker;
+    private final TripDayRepository tripDayRepository;
+    private final PlaceCoordinateResolver placeCoordinateResolver;
+    private final TravelTimeService travelTimeService;
+    private final PlanSnapshotCache planSnapshotCache;
+
+    @Value("${plan.optimization.time-budget-ms:30}")
+    private long timeBudgetMs;
+
+    @Override
+    public OptimizedRouteDto optimizeDay(Long planId, Long dayId, Long userId, boolean keepFirst, boolean keepLast) {
+        planAccessChecker.lockEditable(planId, userId);
+
+        TripDay tripDay = tripDayRepository.findById(dayId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_DAY_NOT_FOUND));
+        if (!tripDay.getTripPlan().getTripPlanId().equals(planId)) {
+            throw new CustomException(ErrorCode.INVALID_TRIP_DAY);
+        }
+
+        List<Destination> ordered = tripDay.getDestinations().stream()
+                .sorted(Comparator.comparing(Destination::getSequence))
+                .toList();
+        Map<String, GeoPoint> points = placeCoordinateResolver.resolve(
+                ordered.stream().map(Destination::getPlaceId).toList());
+
+        // 좌표가 있는 목적지만 최적화하고, 좌표가 없는 목적지는 원래 자리에 그대로 둠
+        List<Destination> routable = new ArrayList<>();
+        List<Destination> unresolved = new ArrayList<>();
+        for (Destination d : ordered) {
+            (points.containsKey(d.getPlaceId()) ? routable : unresolved).add(d);
+        }
+
+        double[][] matrix = travelTimeService.matrix(routable.stream().map(Destination::getPlaceId).toList(), TravelMode.CAR);
+        int[] identity = new int[routable.size()];
+        for (int i = 0; i < identity.length; i++) {
+            identity[i] = i;
+        }
+        double before = RouteSolver.pathCost(matrix, identity);
+        // 실제 첫/마지막 목적지에 좌표가 없으면 이미 제자리에 고정되므로 좌표 있는 목적지를 따로 고정하지 않음
+        boolean pinFirst = keepFirst && !ordered.isEmpty() && points.containsKey(ordered.get(0).getPlaceId());
+        boolean pinLast = keepLast && !ordered.isEmpty() && points.containsKey(ordered.get(ordered.size() - 1).getPlaceId());
+        RouteSolver.Result result = RouteSolver.solve(matrix, pinFirst, pinLast, timeBudgetMs * 1_000_000L);
+
+        // 좌표 있는 목적지가 있던 자리만 최적 순서로 채움
+        List<Destination> reordered = new ArrayList<>(ordered);
+        int[] order = result.getOrder();
+        int next = 0;
+        for (int i = 0; i < reordered.size(); i++) {
+            if (points.containsKey(reordered.get(i).getPlaceId())) {
+                reordered.set(i, routable.get(order[next++]));
+            }
+        }
+        OrderKeys.apply(reordered);
+        ScheduleCalculator.recalculateAll(reordered, ScheduleCalculator.dayStart(tripDay),
+                travelTimeService.legProvider(reordered));
+        planSnapshotCache.invalidate(planId);
+
+        log.debug("일정 경로 최적화: dayId={}, {} 곳, {}초 → {}초 (exact={})",
+                dayId, routable.size(), (long) before, (long) result.getCost(), result.isExact());
+
+        return OptimizedRouteDto.builder()
+                .tripDayId(dayId)
+                .travelSecondsBefore(Math.round(before))
+                .travelSecondsAfter(Math.round(result.getCost()))
+                .exact(result.isExact())
+                .unresolvedDestinationIds(unresolved.stream().map(Destination::getId).toList())
+                .destinations(DestinationDto.listOf(reordered))
+                .build();
+    }
 }
@@ -0,0 +1,357 @@
+package jeju.bear.plan.service.optimization;
+
+import jeju.bear.plan.entity.Destination;
+import jeju.bear.plan.util.ScheduleCalculator;
+import jeju.bear.plan.util.optimization.GeoPoint;
+import jeju.bear.plan.util.optimization.LongIntCache;
+import jeju.bear.plan.util.optimization.TravelMode;
+import jeju.bear.plan.util.optimization.TravelTimeEstimator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 장소 간 이동 시간 캐시.
+ * (출발 placeId, 도착 placeId, 이동 수단) 단위로 저장하며 조회 순서는 다음과 같다.
+ * 1) 노드 로컬 메모리 (placeId 를 정수로 바꾼 long 키 → 초)
+ * 2) Redis 해시 travel:{MODE}:{출발 placeId} (필드 = 도착 placeId)
+ * 3) 좌표가 있으면 직선거리 × 이동 수단별 속도로 추정해 두 계층에 기록
+ * 좌표를 찾지 못한 구간은 저장하지 않는다.
+ */
+@Slf4j
+@Service
+public class TravelTimeService {
+
+    private static final String KEY_PREFIX = "travel:";
+    private static final int MISSING = -1;
+    private static final int MAX_PLACE_INDEX = 1 << 28;
+
+    private final PlaceCoordinateResolver placeCoordinateResolver;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LongIntCache memory;
+    private final Duration redisTtl;
+    private final Map<String, Integer> placeIndex = new ConcurrentHashMap<>();
+    private final AtomicInteger nextPlaceIndex = new AtomicInteger();
+
+    public TravelTimeService(PlaceCoordinateResolver placeCoordinateResolver,
+                             RedisTemplate<String, String> redisTemplate,
+                             @Value("${plan.travel-time.memory-max-entries:1000000}") int memoryMaxEntries,
+                             @Value("${plan.travel-time.redis-ttl-days:7}") long redisTtlDays) {
+        this.placeCoordinateResolver = placeCoordinateResolver;
+        this.redisTemplate = redisTemplate;
+        this.memory = new LongIntCache(memoryMaxEntries);
+        this.redisTtl = Duration.ofDays(redisTtlDays);
+    }
+
+    // 단일 구간 (좌표를 찾지 못하면 null)
+    public Integer travelSeconds(String fromPlaceId, String toPlaceId, TravelMode mode) {
+        if (fromPlaceId.equals(toPlaceId)) {
+            return 0;
+        }
+        long key = key(fromPlaceId, toPlaceId, mode);
+        int cached = memory.get(key, MISSING);
+        if (cached != MISSING) {
+            return cached;
+        }
+
+        Integer stored = readRedis(fromPlaceId, toPlaceId, mode);
+        if (stored != null) {
+            memory.put(key, stored);
+            return stored;
+        }
+
+        Map<String, GeoPoint> points = placeCoordinateResolver.resolve(List.of(fromPlaceId, toPlaceId));
+        GeoPoint from = points.get(fromPlaceId);
+        GeoPoint to = points.get(toPlaceId);
+        if (from == null || to == null) {
+            return null;
+        }
+        int seconds = (int) Math.round(TravelTimeEstimator.seconds(from, to, mode));
+        Map<String, Map<String, String>> writes = new HashMap<>();
+        remember(fromPlaceId, toPlaceId, mode, seconds, writes);
+        remember(toPlaceId, fromPlaceId, mode, seconds, writes);
+        writeRedis(mode, writes);
+        return seconds;
+    }
+
+    /**
+     * 후보 집합 전체의 이동 시간 행렬을 한 번에 준비한다 (placeIds 순서, 초).
+     * 메모리에 없는 구간은 출발지별 HMGET 을 파이프라인 한 번으로 묶어 조회하고,
+     * 그래도 없는 구간만 좌표를 일괄 조회해 추정한 뒤 다시 파이프라인 한 번으로 기록한다.
+     * 좌표가 없어 알 수 없는 구간은 NaN.
+     */
+    public double[][] matrix(List<String> placeIds, TravelMode mode) {
+        int n = placeIds.size();
+        double[][] matrix = new double[n][n];
+        List<int[]> missing = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i == j || placeIds.get(i).equals(placeIds.get(j))) {
+                    continue;
+                }
+                int cached = memory.get(key(placeIds.get(i), placeIds.get(j), mode), MISSING);
+                if (cached != MISSING) {
+                    matrix[i][j] = cached;
+                } else {
+                    missing.add(new int[]{i, j});
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return matrix;
+        }
+
+        missing = fillFromRedis(placeIds, mode, matrix, missing);
+        if (missing.isEmpty()) {
+            return matrix;
+        }
+
+        Map<String, GeoPoint> points = placeCoordinateResolver.resolve(new LinkedHashSet<>(placeIds));
+        Map<String, Map<String, String>> writes = new HashMap<>();
+        for (int[] pair : missing) {
+            String from = placeIds.get(pair[0]);
+            String to = placeIds.get(pair[1]);
+            GeoPoint a = points.get(from);
+            GeoPoint b = points.get(to);
+            if (a == null || b == null) {
+                matrix[pair[0]][pair[1]] = Double.NaN;
+                continue;
+            }
+            int seconds = (int) Math.round(TravelTimeEstimator.seconds(a, b, mode));
+            matrix[pair[0]][pair[1]] = seconds;
+            remember(from, to, mode, seconds, writes);
+        }
+        writeRedis(mode, writes);
+        log.debug("이동 시간 행렬 준비: {} 곳, 추정 {} 구간", n, missing.size());
+        return matrix;
+    }
+
+    /**
+     * 하루 일정 계산용 leg 조회기.
+     * 도착 목적지의 transportation 을 그 구간의 이동 수단으로 보며,
+     * ordered 의 연속 구간을 한 번에 준비해 두고 (메모리 → Redis 파이프라인 한 번 → 좌표 일괄 조회)
+     * 준비하지 못한 구간(계산 도중 바뀐 이동 수단 등)만 구간 단위로 조회한다.
+     */
+    public ScheduleCalculator.LegTimeProvider legProvider(List<Destination> ordered) {
+        Map<Long, Integer> prepared = prepareLegs(ordered);
+        return (from, to) -> {
+            TravelMode mode = TravelMode.from(to.getTransportation());
+            if (from.getPlaceId().equals(to.getPlaceId())) {
+                return 0;
+            }
+            long key = key(from.getPlaceId(), to.getPlaceId(), mode);
+            // 좌표가 없어 알 수 없는 구간도 null 로 들어 있으므로 다시 조회하지 않음
+            return prepared.containsKey(key) ? prepared.get(key) : travelSeconds(from.getPlaceId(), to.getPlaceId(), mode);
+        };
+    }
+
+    private record Leg(String from, String to, TravelMode mode, long key) {
+    }
+
+    private Map<Long, Integer> prepareLegs(List<Destination> ordered) {
+        Map<Long, Integer> prepared = new HashMap<>();
+        Map<Long, Leg> missing = new LinkedHashMap<>();
+        for (int i = 1; i < ordered.size(); i++) {
+            String from = ordered.get(i - 1).getPlaceId();
+            String to = ordered.get(i).getPlaceId();
+            if (from.equals(to)) {
+                continue;
+            }
+            TravelMode mode = TravelMode.from(ordered.get(i).getTransportation());
+            long key = key(from, to, mode);
+            int cached = memory.get(key, MISSING);
+            if (cached != MISSING) {
+                prepared.put(key, cached);
+            } else {
+                missing.putIfAbsent(key, new Leg(from, to, mode, key));
+            }
+        }
+        if (missing.isEmpty()) {
+            return prepared;
+        }
+
+        List<Leg> legs = new ArrayList<>(missing.values());
+        List<Leg> stillMissing = new ArrayList<>();
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (Leg leg : legs) {
+                        ops.opsForHash().get(redisKey(leg.mode(), leg.from()), leg.to());
+                    }
+                    return null;
+                }
+            });
+            for (int i = 0; i < legs.size(); i++) {
+                Leg leg = legs.get(i);
+                Object value = results.get(i);
+                if (value == null) {
+                    stillMissing.add(leg);
+                    continue;
+                }
+                int seconds = Integer.parseInt(value.toString());
+                memory.put(leg.key(), seconds);
+                prepared.put(leg.key(), seconds);
+            }
+        } catch (Exception e) {
+            log.warn("이동 시간 Redis 조회 실패: {}", e.getMessage());
+            stillMissing = legs;
+        }
+        if (stillMissing.isEmpty()) {
+            return prepared;
+        }
+
+        Set<String> placeIds = new LinkedHashSet<>();
+        stillMissing.forEach(leg -> {
+            placeIds.add(leg.from());
+            placeIds.add(leg.to());
+        });
+        Map<String, GeoPoint> points = placeCoordinateResolver.resolve(placeIds);
+        Map<TravelMode, Map<String, Map<String, String>>> writes = new EnumMap<>(TravelMode.class);
+        for (Leg leg : stillMissing) {
+            GeoPoint a = points.get(leg.from());
+            GeoPoint b = points.get(leg.to());
+            if (a == null || b == null) {
+                prepared.put(leg.key(), null);
+                continue;
+            }
+            int seconds = (int) Math.round(TravelTimeEstimator.seconds(a, b, leg.mode()));
+            prepared.put(leg.key(), seconds);
+            Map<String, Map<String, String>> modeWrites = writes.computeIfAbsent(leg.mode(), k -> new HashMap<>());
+            remember(leg.from(), leg.to(), leg.mode(), seconds, modeWrites);
+            remember(leg.to(), leg.from(), leg.mode(), seconds, modeWrites);
+        }
+        writes.forEach(this::writeRedis);
+        return prepared;
+    }
+
+    private List<int[]> fillFromRedis(List<String> placeIds, TravelMode mode, double[][] matrix, List<int[]> missing) {
+        // 출발지별로 필요한 도착지 모으기
+        Map<Integer, List<Integer>> byOrigin = new HashMap<>();
+        for (int[] pair : missing) {
+            byOrigin.computeIfAbsent(pair[0], k -> new ArrayList<>()).add(pair[1]);
+        }
+        List<Integer> origins = new ArrayList<>(byOrigin.keySet());
+
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (Integer origin : origins) {
+                        List<Object> fields = new ArrayList<>();
+                        byOrigin.get(origin).forEach(j -> fields.add(placeIds.get(j)));
+                        ops.opsForHash().multiGet(redisKey(mode, placeIds.get(origin)), fields);
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("이동 시간 Redis 조회 실패: {}", e.getMessage());
+            return missing;
+        }
+
+        List<int[]> stillMissing = new ArrayList<>();
+        for (int o = 0; o < origins.size(); o++) {
+            int origin = origins.get(o);
+            List<Integer> targets = byOrigin.get(origin);
+            List<?> values = (List<?>) results.get(o);
+            for (int t = 0; t < targets.size(); t++) {
+                Object value = values != null ? values.get(t) : null;
+                if (value == null) {
+                    stillMissing.add(new int[]{origin, targets.get(t)});
+                    continue;
+                }
+                int seconds = Integer.parseInt(value.toString());
+                matrix[origin][targets.get(t)] = seconds;
+                memory.put(key(placeIds.get(origin), placeIds.get(targets.get(t)), mode), seconds);
+            }
+        }
+        return stillMissing;
+    }
+
+    private Integer readRedis(String fromPlaceId, String toPlaceId, TravelMode mode) {
+        try {
+            Object value = redisTemplate.opsForHash().get(redisKey(mode, fromPlaceId), toPlaceId);
+            return value != null ? Integer.valueOf(value.toString()) : null;
+        } catch (Exception e) {
+            log.warn("이동 시간 Redis 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void remember(String from, String to, TravelMode mode, int seconds, Map<String, Map<String, String>> writes) {
+        memory.put(key(from, to, mode), seconds);
+        writes.computeIfAbsent(from, k -> new HashMap<>()).put(to, String.valueOf(seconds));
+    }
+
+    private void writeRedis(TravelMode mode, Map<String, Map<String, String>> writes) {
+        if (writes.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    writes.forEach((from, fields) -> {
+                        String key = redisKey(mode, from);
+                        ops.opsForHash().putAll(key, fields);
+                        ops.expire(key, redisTtl);
+                    });
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("이동 시간 Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // (출발, 도착, 이동 수단) → 0 이상의 long 키: 출발 28비트 | 도착 28비트 | 수단 3비트
+    private long key(String fromPlaceId, String toPlaceId, TravelMode mode) {
+        return ((long) indexOf(fromPlaceId) << 31) | ((long) indexOf(toPlaceId) << 3) | mode.ordinal();
+    }
+
+    private int indexOf(String placeId) {
+        Integer index = placeIndex.get(placeId);
+        if (index != null) {
+            return index;
+        }
+        if (nextPlaceIndex.get() >= MAX_PLACE_INDEX) {
+            // 번호가 바닥나면 번호표와 메모리 계층을 함께 초기화 (Redis 계층은 유지)
+            synchronized (this) {
+                if (nextPlaceIndex.get() >= MAX_PLACE_INDEX) {
+                    placeIndex.clear();
+                    memory.clear();
+                    nextPlaceIndex.set(0);
+                }
+            }
+        }
+        return placeIndex.computeIfAbsent(placeId, k -> nextPlaceIndex.getAndIncrement());
+    }
+
+    private static String redisKey(TravelMode mode, String fromPlaceId) {
+        return KEY_PREFIX + mode.name() + ":" + fromPlaceId;
+    }
+}
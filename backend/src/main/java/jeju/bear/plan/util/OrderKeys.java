@@ -0,0 +1,159 @@
+package jeju.bear.plan.util;
+
+import jeju.bear.plan.entity.Destination;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 목적지 정렬 키 (Destination.sequence) 계산.
+ * 키 사이에 간격(GAP)을 두어 끼워 넣거나 옮길 때 보통 그 목적지 한 건의 키만 바뀌게 한다.
+ * 순서를 바꿀 때는 새 순서에서 이미 증가하고 있는 가장 긴 부분(LIS)의 키는 그대로 두고
+ * 나머지만 이웃 키 사이 값으로 정한다. 사이 값이 모자라면 그 날짜 전체를 다시 매긴다.
+ * 화면에 보이는 순서 번호는 정렬된 위치(1부터 연속)이고 키 값은 노출하지 않는다.
+ */
+public final class OrderKeys {
+
+    public static final int GAP = 1 << 16;
+    // 이보다 좁은 간격이 생긴 날짜는 백그라운드에서 다시 매긴다
+    public static final int MIN_GAP = 1 << 4;
+
+    private static final long MIN_KEY = -(1L << 30);
+    private static final long MAX_KEY = Integer.MAX_VALUE;
+
+    private OrderKeys() {
+    }
+
+    // ordered 순서가 되도록 정렬 키를 고치고 (새 목적지는 sequence 가 null) 바뀐 목적지 수를 반환
+    public static int apply(List<Destination> ordered) {
+        int[] keys = keysFor(ordered);
+        int changed = 0;
+        for (int i = 0; i < keys.length; i++) {
+            Destination d = ordered.get(i);
+            if (d.getSequence() == null || d.getSequence() != keys[i]) {
+                d.updateSequence(keys[i]);
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    // ordered 순서에 맞는 새 키 (목적지는 바꾸지 않음)
+    public static int[] keysFor(List<Destination> ordered) {
+        Integer[] current = new Integer[ordered.size()];
+        for (int i = 0; i < current.length; i++) {
+            current[i] = ordered.get(i).getSequence();
+        }
+        return reassign(current);
+    }
+
+    /**
+     * 원하는 순서대로 놓인 현재 키(새 항목은 null)를 받아 새 키를 반환한다.
+     * 결과는 항상 순증가하며, 기존 키와 같은 위치는 저장할 필요가 없다.
+     */
+    public static int[] reassign(Integer[] current) {
+        int n = current.length;
+        boolean[] kept = longestIncreasing(current);
+        int[] keys = new int[n];
+        int prev = -1;
+        for (int i = 0; i <= n; i++) {
+            if (i < n && !kept[i]) {
+                continue;
+            }
+            if (!fill(current, keys, prev, i)) {
+                return spread(n);
+            }
+            if (i < n) {
+                keys[i] = current[i];
+            }
+            prev = i;
+        }
+        return keys;
+    }
+
+    // 간격을 두고 처음부터 다시 매김
+    public static int[] spread(int n) {
+        long step = Math.min(GAP, MAX_KEY / (n + 1L));
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = (int) (step * (i + 1));
+        }
+        return keys;
+    }
+
+    // 정렬된 키에서 가장 좁은 간격이 MIN_GAP 보다 좁은지
+    public static boolean isCrowded(int[] sortedKeys) {
+        for (int i = 1; i < sortedKeys.length; i++) {
+            if ((long) sortedKeys[i] - sortedKeys[i - 1] < MIN_GAP) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // (from, to) 사이 항목에 키 배정, from/to 는 유지하는 위치 (없으면 -1 / n)
+    private static boolean fill(Integer[] current, int[] keys, int from, int to) {
+        int count = to - from - 1;
+        if (count == 0) {
+            return true;
+        }
+        Long low = from >= 0 ? Long.valueOf(current[from]) : null;
+        Long high = to < current.length ? Long.valueOf(current[to]) : null;
+        if (low == null && high == null) {
+            return false;
+        }
+        for (int j = 0; j < count; j++) {
+            long key;
+            if (low != null && high != null) {
+                long step = (high - low) / (count + 1);
+                if (step < 1) {
+                    return false;
+                }
+                key = low + step * (j + 1);
+            } else if (low != null) {
+                key = low + (long) GAP * (j + 1);
+            } else {
+                key = high - (long) GAP * (count - j);
+            }
+            if (key < MIN_KEY || key > MAX_KEY) {
+                return false;
+            }
+            keys[from + 1 + j] = (int) key;
+        }
+        return true;
+    }
+
+    // null 이 아닌 키 중 순증가하는 가장 긴 부분 수열 (O(n log n))
+    private static boolean[] longestIncreasing(Integer[] current) {
+        int n = current.length;
+        int[] tailIndex = new int[n];
+        int[] parent = new int[n];
+        Arrays.fill(parent, -1);
+        int length = 0;
+        for (int i = 0; i < n; i++) {
+            if (current[i] == null) {
+                continue;
+            }
+            int lo = 0;
+            int hi = length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (current[tailIndex[mid]] < current[i]) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            parent[i] = lo > 0 ? tailIndex[lo - 1] : -1;
+            tailIndex[lo] = i;
+            if (lo == length) {
+                length++;
+            }
+        }
+        boolean[] kept = new boolean[n];
+        for (int i = length > 0 ? tailIndex[length - 1] : -1; i >= 0; i = parent[i]) {
+            kept[i] = true;
+        }
+        return kept;
+    }
+}
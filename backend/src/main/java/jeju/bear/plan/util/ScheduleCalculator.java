@@ -1,4 +1,147 @@
 package jeju.bear.plan.util;
 
-public class ScheduleCalculator {
+import jeju.bear.plan.entity.Destination;
+import jeju.bear.plan.entity.TripDay;
+
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 하루 일정의 목적지별 도착/출발 시각 계산.
+ * 첫 목적지는 일정 시작 시각에 도착하고, 이후 목적지는 이전 출발 시각 + 이동 시간에 도착해 체류 시간(duration, 분)만큼 머문다.
+ * 이동 시간은 목적지의 transportation(그 목적지로 가는 수단)에 따라 구하며 Destination.travelSeconds 에 저장해 둔다.
+ *
+ * 편집 한 번에 바뀌는 이동 구간(leg)은 많아야 세 개이므로 그 구간만 다시 조회하고,
+ * 시각은 바뀐 위치부터 다시 계산하되 이전 값과 같아지는 지점에서 멈춘다.
+ * leg k 는 (k-1번째 → k번째) 이동을 뜻한다.
+ */
+public final class ScheduleCalculator {
+
+    public static final LocalTime DEFAULT_DAY_START = LocalTime.of(9, 0);
+
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    @FunctionalInterface
+    public interface LegTimeProvider {
+        // 이동 시간(초), 알 수 없으면 null
+        Integer travelSeconds(Destination from, Destination to);
+    }
+
+    private ScheduleCalculator() {
+    }
+
+    public static LocalTime dayStart(TripDay day) {
+        return day.getStartTime() != null ? day.getStartTime() : DEFAULT_DAY_START;
+    }
+
+    // 전체 다시 계산 (모든 leg 재조회)
+    public static int recalculateAll(List<Destination> ordered, LocalTime dayStart, LegTimeProvider legs) {
+        int[] dirty = new int[ordered.size()];
+        for (int k = 0; k < dirty.length; k++) {
+            dirty[k] = k;
+        }
+        return recalculate(ordered, dayStart, 0, dirty, legs);
+    }
+
+    // 시작 시각만 바뀐 경우 (leg 재조회 없음)
+    public static int afterStartTimeChanged(List<Destination> ordered, LocalTime dayStart, LegTimeProvider legs) {
+        return recalculate(ordered, dayStart, 0, new int[0], legs);
+    }
+
+    /**
+     * from 위치의 목적지를 to 위치로 옮긴 뒤 호출 (0부터 시작하는 인덱스, ordered 는 이동 후 순서).
+     * 앞으로 옮기면 leg t, t+1, f+1 이, 뒤로 옮기면 leg f, t, t+1 이 바뀌고 그 사이 구간은 그대로다.
+     */
+    public static int afterMove(List<Destination> ordered, LocalTime dayStart, int from, int to, LegTimeProvider legs) {
+        if (from == to) {
+            return 0;
+        }
+        int[] dirty = from < to ? new int[]{from, to, to + 1} : new int[]{to, to + 1, from + 1};
+        return recalculate(ordered, dayStart, Math.min(from, to), dirty, legs);
+    }
+
+    // index 위치 목적지의 이동 수단 또는 체류 시간이 바뀐 뒤 호출
+    public static int afterUpdate(List<Destination> ordered, LocalTime dayStart, int index, boolean transportationChanged,
+                                  LegTimeProvider legs) {
+        return recalculate(ordered, dayStart, index, transportationChanged ? new int[]{index} : new int[0], legs);
+    }
+
+    // index 위치에 목적지를 넣은 뒤 호출
+    public static int afterInsert(List<Destination> ordered, LocalTime dayStart, int index, LegTimeProvider legs) {
+        return recalculate(ordered, dayStart, index, new int[]{index, index + 1}, legs);
+    }
+
+    // index 위치의 목적지를 뺀 뒤 호출 (ordered 는 삭제 후 순서)
+    public static int afterRemove(List<Destination> ordered, LocalTime dayStart, int index, LegTimeProvider legs) {
+        return recalculate(ordered, dayStart, index, new int[]{index}, legs);
+    }
+
+    /**
+     * from 위치부터 시각을 다시 계산하고 실제로 값을 바꾼 목적지 수를 반환한다.
+     * dirty 에 포함된 leg 와 아직 계산된 적 없는 목적지의 leg 만 조회한다.
+     */
+    private static int recalculate(List<Destination> ordered, LocalTime dayStart, int from, int[] dirty,
+                                   LegTimeProvider legs) {
+        if (from >= ordered.size()) {
+            return 0;
+        }
+        // 이전 목적지 시각이 없으면 (처음 계산) 처음부터
+        if (from > 0 && ordered.get(from - 1).getDepartureTime() == null) {
+            return recalculateAll(ordered, dayStart, legs);
+        }
+
+        int boundary = from;
+        for (int k : dirty) {
+            boundary = Math.max(boundary, k);
+        }
+
+        int departure = from == 0 ? dayStart.toSecondOfDay() : departureSeconds(ordered, from - 1, dayStart);
+        int updated = 0;
+        for (int k = from; k < ordered.size(); k++) {
+            Destination d = ordered.get(k);
+            Integer travel = null;
+            if (k > 0) {
+                travel = contains(dirty, k) || d.getArrivalTime() == null
+                        ? legs.travelSeconds(ordered.get(k - 1), d)
+                        : d.getTravelSeconds();
+            }
+            int arrival = departure + (travel != null ? travel : 0);
+            int leave = arrival + stayMinutes(d) * 60;
+
+            LocalTime arrivalTime = toTime(arrival);
+            LocalTime departureTime = toTime(leave);
+            // leg 가 그대로인 구간에서 도착 시각이 같아지면 이후도 모두 같음
+            if (k > boundary && arrivalTime.equals(d.getArrivalTime()) && departureTime.equals(d.getDepartureTime())) {
+                break;
+            }
+            d.updateSchedule(travel, arrivalTime, departureTime);
+            updated++;
+            departure = leave;
+        }
+        return updated;
+    }
+
+    // 저장된 출발 시각을 자정 기준 누적 초로 복원 (자정을 넘긴 경우 보정)
+    private static int departureSeconds(List<Destination> ordered, int index, LocalTime dayStart) {
+        int start = dayStart.toSecondOfDay();
+        int seconds = ordered.get(index).getDepartureTime().toSecondOfDay();
+        return seconds < start ? seconds + SECONDS_PER_DAY : seconds;
+    }
+
+    private static int stayMinutes(Destination d) {
+        return d.getDuration() != null && d.getDuration() > 0 ? d.getDuration() : 0;
+    }
+
+    private static LocalTime toTime(int seconds) {
+        return LocalTime.ofSecondOfDay(Math.floorMod(seconds, SECONDS_PER_DAY));
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,7 @@
+package jeju.bear.plan.util.optimization;
+
+/**
+ * 위경도 좌표.
+ */
+public record GeoPoint(double latitude, double longitude) {
+}
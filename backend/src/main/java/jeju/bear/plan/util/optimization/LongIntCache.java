@@ -0,0 +1,80 @@
+package jeju.bear.plan.util.optimization;
+
+import java.util.Arrays;
+
+/**
+ * long 키 → int 값 캐시 (개방 주소법, 박싱 없음).
+ * 항목 수가 최대치에 닿으면 통째로 비운다. 키는 0 이상이어야 한다.
+ */
+public final class LongIntCache {
+
+    private static final long EMPTY = -1L;
+
+    private final int maxSize;
+    private final long[] keys;
+    private final int[] values;
+    private final int mask;
+    private int size;
+
+    public LongIntCache(int maxSize) {
+        // 적재율 50% 이하를 유지하도록 2의 거듭제곱 크기로 할당
+        int capacity = Integer.highestOneBit(Math.max(16, maxSize) * 2 - 1) << 1;
+        this.maxSize = maxSize;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    public synchronized int get(long key, int missing) {
+        int i = slot(key);
+        while (keys[i] != EMPTY) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return missing;
+    }
+
+    public synchronized void put(long key, int value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("key must be non-negative");
+        }
+        int i = slot(key);
+        while (keys[i] != EMPTY) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        if (size >= maxSize) {
+            clear();
+            i = slot(key);
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private int slot(long key) {
+        // murmur3 fmix64
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53ec4cbL;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
@@ -1,4 +1,524 @@
 package jeju.bear.plan.util.optimization;
 
-public class OrToolsSolver {
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 여러 날에 걸친 여행 일정 배분 (시간창이 있는 차량 경로 문제, VRPTW).
+ * 하루를 숙소에서 출발해 숙소로 돌아오는 경로 하나로 보고, 후보 지점을 날짜별 경로에 나눠 담는다.
+ * - 날짜별 [시작, 종료] 시각, 지점별 방문 가능 시간창과 체류 시간을 지킨다.
+ * - 배정된 지점 수를 먼저 최대화하고, 그다음 총 이동 시간을 최소화한다. 담지 못한 지점은 미배정으로 남긴다.
+ * OR-Tools 라우팅 모델과 같은 문제 정의를 외부 의존성 없이 풀기 위해
+ * regret 삽입으로 초기해를 만든 뒤 적응형 대규모 이웃 탐색(ALNS)과 담금질 수용 규칙으로 개선한다.
+ * 같은 seed 로 같은 반복 횟수를 돌면 결과가 같고, 시간 제한/취소 시에는 그때까지의 최선해를 반환한다.
+ */
+public final class OrToolsSolver {
+
+    // 미배정 지점 하나의 비용 (어떤 이동 시간 합보다도 크게)
+    private static final double UNASSIGNED_PENALTY = 1e7;
+
+    // 연산자 점수 (새 최선해 / 현재해 개선 / 수용) 와 가중치 갱신 주기, 반응 계수
+    private static final double SCORE_BEST = 33;
+    private static final double SCORE_BETTER = 13;
+    private static final double SCORE_ACCEPTED = 9;
+    private static final int SEGMENT_LENGTH = 100;
+    private static final double REACTION = 0.2;
+
+    // 담금질 온도: 초기에는 5% 나쁜 해를 절반 확률로 수용, 마지막에는 초기 온도의 0.2%
+    private static final double START_WORSE_RATIO = 0.05;
+    private static final double END_TEMPERATURE_RATIO = 0.002;
+
+    private static final double REPAIR_NOISE = 0.1;
+
+    private static final int RANDOM_REMOVAL = 0;
+    private static final int WORST_REMOVAL = 1;
+    private static final int RELATED_REMOVAL = 2;
+    private static final int DAY_REMOVAL = 3;
+    private static final int OPERATOR_COUNT = 4;
+
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(int iteration, Solution best);
+    }
+
+    public static final class Problem {
+        private final double[][] travel;
+        private final int[] serviceSeconds;
+        private final int[] openSeconds;
+        private final int[] closeSeconds;
+        private final int[] dayStartSeconds;
+        private final int[] dayEndSeconds;
+
+        /**
+         * @param travel          이동 시간 행렬(초). 0번은 숙소, i+1번은 후보 지점 i
+         * @param serviceSeconds  후보 지점별 체류 시간(초)
+         * @param openSeconds     후보 지점별 도착 가능 시작 시각(자정 기준 초), null 이면 제한 없음
+         * @param closeSeconds    후보 지점별 도착 가능 마지막 시각(자정 기준 초), null 이면 제한 없음
+         * @param dayStartSeconds 날짜별 숙소 출발 시각(자정 기준 초)
+         * @param dayEndSeconds   날짜별 숙소 복귀 마감 시각(자정 기준 초)
+         */
+        public Problem(double[][] travel, int[] serviceSeconds, int[] openSeconds, int[] closeSeconds,
+                       int[] dayStartSeconds, int[] dayEndSeconds) {
+            int n = serviceSeconds.length;
+            if (travel.length != n + 1
+                    || (openSeconds != null && openSeconds.length != n)
+                    || (closeSeconds != null && closeSeconds.length != n)
+                    || dayStartSeconds.length != dayEndSeconds.length) {
+                throw new IllegalArgumentException("문제 크기가 일치하지 않습니다.");
+            }
+            this.travel = travel;
+            this.serviceSeconds = serviceSeconds;
+            this.openSeconds = openSeconds;
+            this.closeSeconds = closeSeconds;
+            this.dayStartSeconds = dayStartSeconds;
+            this.dayEndSeconds = dayEndSeconds;
+        }
+
+        public int getStopCount() {
+            return serviceSeconds.length;
+        }
+
+        public int getDayCount() {
+            return dayStartSeconds.length;
+        }
+    }
+
+    public static final class Solution {
+        private final int[][] routes;
+        private final int[] unassigned;
+        private final double[] routeTravelSeconds;
+        private final int[] routeEndSeconds;
+        private final int iterations;
+
+        private Solution(int[][] routes, int[] unassigned, double[] routeTravelSeconds, int[] routeEndSeconds, int iterations) {
+            this.routes = routes;
+            this.unassigned = unassigned;
+            this.routeTravelSeconds = routeTravelSeconds;
+            this.routeEndSeconds = routeEndSeconds;
+            this.iterations = iterations;
+        }
+
+        // 날짜별 방문 순서 (후보 지점 인덱스)
+        public int[] getRoute(int day) {
+            return routes[day].clone();
+        }
+
+        public int[] getUnassigned() {
+            return unassigned.clone();
+        }
+
+        public double getRouteTravelSeconds(int day) {
+            return routeTravelSeconds[day];
+        }
+
+        // 숙소 복귀 시각 (자정 기준 초)
+        public int getRouteEndSeconds(int day) {
+            return routeEndSeconds[day];
+        }
+
+        public double getTravelSeconds() {
+            return Arrays.stream(routeTravelSeconds).sum();
+        }
+
+        public int getDayCount() {
+            return routes.length;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+    }
+
+    /**
+     * @param seed          난수 시드 (같은 입력 + 같은 시드 → 같은 탐색 경로)
+     * @param maxIterations ALNS 반복 횟수 상한 (담금질 온도 계획의 기준)
+     * @param timeLimitNanos 시간 제한
+     * @param cancelled     true 를 반환하면 즉시 중단
+     * @param listener      진행 상황 콜백 (null 허용)
+     */
+    public static Solution solve(Problem problem, long seed, int maxIterations, long timeLimitNanos,
+                                 BooleanSupplier cancelled, ProgressListener listener) {
+        return new Search(problem, seed).run(maxIterations, System.nanoTime() + timeLimitNanos, cancelled, listener);
+    }
+
+    private OrToolsSolver() {
+    }
+
+    private static final class State {
+        private final int[][] routes;
+        private final int[] lengths;
+        private final boolean[] assigned;
+        private double cost = Double.NaN;
+
+        private State(int days, int stops) {
+            this.routes = new int[days][stops];
+            this.lengths = new int[days];
+            this.assigned = new boolean[stops];
+        }
+
+        private State(State other) {
+            this.routes = new int[other.routes.length][];
+            for (int d = 0; d < routes.length; d++) {
+                routes[d] = other.routes[d].clone();
+            }
+            this.lengths = other.lengths.clone();
+            this.assigned = other.assigned.clone();
+            this.cost = other.cost;
+        }
+
+        private void insert(int day, int pos, int stop) {
+            int[] route = routes[day];
+            System.arraycopy(route, pos, route, pos + 1, lengths[day] - pos);
+            route[pos] = stop;
+            lengths[day]++;
+            assigned[stop] = true;
+            cost = Double.NaN;
+        }
+
+        private void remove(int stop) {
+            for (int d = 0; d < routes.length; d++) {
+                int[] route = routes[d];
+                for (int i = 0; i < lengths[d]; i++) {
+                    if (route[i] == stop) {
+                        System.arraycopy(route, i + 1, route, i, lengths[d] - i - 1);
+                        lengths[d]--;
+                        assigned[stop] = false;
+                        cost = Double.NaN;
+                        return;
+                    }
+                }
+            }
+        }
+
+        private int assignedCount() {
+            int count = 0;
+            for (int d = 0; d < lengths.length; d++) {
+                count += lengths[d];
+            }
+            return count;
+        }
+    }
+
+    private static final class Search {
+        private final Problem p;
+        private final int n;
+        private final int days;
+        private final SplittableRandom random;
+
+        private Search(Problem problem, long seed) {
+            this.p = problem;
+            this.n = problem.getStopCount();
+            this.days = problem.getDayCount();
+            this.random = new SplittableRandom(seed);
+        }
+
+        private Solution run(int maxIterations, long deadline, BooleanSupplier cancelled, ProgressListener listener) {
+            State current = new State(days, n);
+            repair(current, 0);
+            State best = new State(current);
+            double bestCost = cost(best);
+
+            double[] weights = {1, 1, 1, 1};
+            double[] scores = new double[OPERATOR_COUNT];
+            int[] uses = new int[OPERATOR_COUNT];
+            double startTemperature = Math.max(1, START_WORSE_RATIO * travelOnly(current) / Math.log(2));
+
+            int iteration = 0;
+            while (iteration < maxIterations && n > 0 && days > 0
+                    && System.nanoTime() < deadline && !cancelled.getAsBoolean()) {
+                iteration++;
+                int operator = pickOperator(weights);
+                State candidate = new State(current);
+                destroy(candidate, operator);
+                repair(candidate, REPAIR_NOISE);
+
+                double candidateCost = cost(candidate);
+                double currentCost = cost(current);
+                double temperature = startTemperature * Math.pow(END_TEMPERATURE_RATIO, (double) iteration / maxIterations);
+                uses[operator]++;
+
+                if (candidateCost < bestCost - 1e-9) {
+                    best = new State(candidate);
+                    bestCost = candidateCost;
+                    current = candidate;
+                    scores[operator] += SCORE_BEST;
+                } else if (candidateCost < currentCost - 1e-9) {
+                    current = candidate;
+                    scores[operator] += SCORE_BETTER;
+                } else if (random.nextDouble() < Math.exp((currentCost - candidateCost) / temperature)) {
+                    current = candidate;
+                    scores[operator] += SCORE_ACCEPTED;
+                }
+
+                if (iteration % SEGMENT_LENGTH == 0) {
+                    for (int o = 0; o < OPERATOR_COUNT; o++) {
+                        if (uses[o] > 0) {
+                            weights[o] = Math.max(0.05, weights[o] * (1 - REACTION) + REACTION * scores[o] / uses[o]);
+                        }
+                        scores[o] = 0;
+                        uses[o] = 0;
+                    }
+                    if (listener != null) {
+                        listener.onProgress(iteration, toSolution(best, iteration));
+                    }
+                }
+            }
+
+            Solution solution = toSolution(best, iteration);
+            if (listener != null) {
+                listener.onProgress(iteration, solution);
+            }
+            return solution;
+        }
+
+        // ---------- 평가 ----------
+
+        private double cost(State s) {
+            if (Double.isNaN(s.cost)) {
+                s.cost = travelOnly(s) + UNASSIGNED_PENALTY * (n - s.assignedCount());
+            }
+            return s.cost;
+        }
+
+        private double travelOnly(State s) {
+            double total = 0;
+            for (int d = 0; d < days; d++) {
+                total += routeTravel(s.routes[d], s.lengths[d]);
+            }
+            return total;
+        }
+
+        private double routeTravel(int[] route, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            double total = p.travel[0][route[0] + 1];
+            for (int i = 0; i + 1 < len; i++) {
+                total += p.travel[route[i] + 1][route[i + 1] + 1];
+            }
+            return total + p.travel[route[len - 1] + 1][0];
+        }
+
+        // 지점 도착 후 출발 시각, 시간창을 어기면 NaN
+        private double visit(double time, int from, int stop) {
+            double t = time + p.travel[from][stop + 1];
+            if (p.openSeconds != null && t < p.openSeconds[stop]) {
+                t = p.openSeconds[stop];
+            }
+            if (p.closeSeconds != null && t > p.closeSeconds[stop]) {
+                return Double.NaN;
+            }
+            return t + p.serviceSeconds[stop];
+        }
+
+        // 숙소 복귀 시각 (pos 위치에 stop 을 끼워 넣은 경우, stop < 0 이면 그대로), 제약 위반 시 NaN
+        private double finishTime(int day, int[] route, int len, int stop, int pos) {
+            double t = p.dayStartSeconds[day];
+            int from = 0;
+            int total = stop < 0 ? len : len + 1;
+            for (int i = 0; i < total; i++) {
+                int s = stop < 0 || i < pos ? route[i] : (i == pos ? stop : route[i - 1]);
+                t = visit(t, from, s);
+                if (Double.isNaN(t)) {
+                    return Double.NaN;
+                }
+                from = s + 1;
+            }
+            t += p.travel[from][0];
+            return t <= p.dayEndSeconds[day] ? t : Double.NaN;
+        }
+
+        // ---------- 복구: regret-2 삽입 ----------
+
+        private void repair(State s, double noise) {
+            while (true) {
+                int bestStop = -1;
+                int bestDay = -1;
+                int bestPos = -1;
+                double bestRegret = -1;
+                double bestDelta = Double.POSITIVE_INFINITY;
+
+                for (int stop = 0; stop < n; stop++) {
+                    if (s.assigned[stop]) {
+                        continue;
+                    }
+                    double first = Double.POSITIVE_INFINITY;
+                    double second = Double.POSITIVE_INFINITY;
+                    int firstDay = -1;
+                    int firstPos = -1;
+
+                    for (int d = 0; d < days; d++) {
+                        int[] route = s.routes[d];
+                        int len = s.lengths[d];
+                        double routeBest = Double.POSITIVE_INFINITY;
+                        int routePos = -1;
+                        for (int pos = 0; pos <= len; pos++) {
+                            int prev = pos == 0 ? 0 : route[pos - 1] + 1;
+                            int next = pos == len ? 0 : route[pos] + 1;
+                            double delta = p.travel[prev][stop + 1] + p.travel[stop + 1][next] - p.travel[prev][next];
+                            if (noise > 0) {
+                                delta *= 1 + noise * (2 * random.nextDouble() - 1);
+                            }
+                            if (delta < routeBest && !Double.isNaN(finishTime(d, route, len, stop, pos))) {
+                                routeBest = delta;
+                                routePos = pos;
+                            }
+                        }
+                        if (routeBest < first) {
+                            second = first;
+                            first = routeBest;
+                            firstDay = d;
+                            firstPos = routePos;
+                        } else if (routeBest < second) {
+                            second = routeBest;
+                        }
+                    }
+                    if (firstDay < 0) {
+                        continue;
+                    }
+                    // 들어갈 수 있는 날이 하나뿐인 지점을 먼저 배정
+                    double regret = Double.isInfinite(second) ? UNASSIGNED_PENALTY : second - first;
+                    if (regret > bestRegret || (regret == bestRegret && first < bestDelta)) {
+                        bestRegret = regret;
+                        bestDelta = first;
+                        bestStop = stop;
+                        bestDay = firstDay;
+                        bestPos = firstPos;
+                    }
+                }
+
+                if (bestStop < 0) {
+                    return;
+                }
+                s.insert(bestDay, bestPos, bestStop);
+            }
+        }
+
+        // ---------- 파괴 연산자 ----------
+
+        private int pickOperator(double[] weights) {
+            double total = 0;
+            for (double w : weights) {
+                total += w;
+            }
+            double r = random.nextDouble() * total;
+            for (int o = 0; o < OPERATOR_COUNT - 1; o++) {
+                r -= weights[o];
+                if (r < 0) {
+                    return o;
+                }
+            }
+            return OPERATOR_COUNT - 1;
+        }
+
+        private void destroy(State s, int operator) {
+            int[] assigned = assignedStops(s);
+            if (assigned.length == 0) {
+                return;
+            }
+            int minRemove = Math.min(assigned.length, 2);
+            int maxRemove = Math.max(minRemove, (int) Math.ceil(assigned.length * 0.4));
+            int count = minRemove + random.nextInt(maxRemove - minRemove + 1);
+
+            switch (operator) {
+                case RANDOM_REMOVAL -> randomRemoval(s, assigned, count);
+                case WORST_REMOVAL -> worstRemoval(s, assigned, count);
+                case RELATED_REMOVAL -> relatedRemoval(s, assigned, count);
+                default -> dayRemoval(s);
+            }
+        }
+
+        private int[] assignedStops(State s) {
+            int[] stops = new int[s.assignedCount()];
+            int k = 0;
+            for (int d = 0; d < days; d++) {
+                for (int i = 0; i < s.lengths[d]; i++) {
+                    stops[k++] = s.routes[d][i];
+                }
+            }
+            return stops;
+        }
+
+        private void randomRemoval(State s, int[] assigned, int count) {
+            for (int i = 0; i < count; i++) {
+                int j = i + random.nextInt(assigned.length - i);
+                int stop = assigned[j];
+                assigned[j] = assigned[i];
+                assigned[i] = stop;
+                s.remove(stop);
+            }
+        }
+
+        // 빼면 이동 시간이 가장 많이 줄어드는 지점 위주로 (무작위성 포함)
+        private void worstRemoval(State s, int[] assigned, int count) {
+            double[] savings = new double[n];
+            for (int d = 0; d < days; d++) {
+                int[] route = s.routes[d];
+                int len = s.lengths[d];
+                for (int i = 0; i < len; i++) {
+                    int prev = i == 0 ? 0 : route[i - 1] + 1;
+                    int next = i == len - 1 ? 0 : route[i + 1] + 1;
+                    int stop = route[i];
+                    savings[stop] = p.travel[prev][stop + 1] + p.travel[stop + 1][next] - p.travel[prev][next];
+                }
+            }
+            Integer[] order = Arrays.stream(assigned).boxed().toArray(Integer[]::new);
+            Arrays.sort(order, (a, b) -> Double.compare(savings[b], savings[a]));
+
+            int remaining = order.length;
+            for (int i = 0; i < count; i++) {
+                int j = (int) (Math.pow(random.nextDouble(), 3) * remaining);
+                s.remove(order[j]);
+                System.arraycopy(order, j + 1, order, j, remaining - j - 1);
+                remaining--;
+            }
+        }
+
+        // 무작위 기준 지점과 가까운 지점들을 함께 제거 (서로 다른 날에 흩어진 인접 지점을 다시 묶기 위함)
+        private void relatedRemoval(State s, int[] assigned, int count) {
+            int seed = assigned[random.nextInt(assigned.length)];
+            Integer[] order = Arrays.stream(assigned).boxed().toArray(Integer[]::new);
+            Arrays.sort(order, (a, b) -> Double.compare(
+                    p.travel[seed + 1][a + 1] + p.travel[a + 1][seed + 1],
+                    p.travel[seed + 1][b + 1] + p.travel[b + 1][seed + 1]));
+            for (int i = 0; i < count; i++) {
+                s.remove(order[i]);
+            }
+        }
+
+        // 하루 일정을 통째로 비워 다른 날과 재배분
+        private void dayRemoval(State s) {
+            int start = random.nextInt(days);
+            for (int k = 0; k < days; k++) {
+                int d = (start + k) % days;
+                if (s.lengths[d] > 0) {
+                    int[] stops = Arrays.copyOf(s.routes[d], s.lengths[d]);
+                    for (int stop : stops) {
+                        s.remove(stop);
+                    }
+                    return;
+                }
+            }
+        }
+
+        private Solution toSolution(State s, int iterations) {
+            int[][] routes = new int[days][];
+            double[] travel = new double[days];
+            int[] ends = new int[days];
+            for (int d = 0; d < days; d++) {
+                routes[d] = Arrays.copyOf(s.routes[d], s.lengths[d]);
+                travel[d] = routeTravel(s.routes[d], s.lengths[d]);
+                ends[d] = (int) Math.round(finishTime(d, s.routes[d], s.lengths[d], -1, 0));
+            }
+            int[] unassigned = new int[n - s.assignedCount()];
+            int k = 0;
+            for (int stop = 0; stop < n; stop++) {
+                if (!s.assigned[stop]) {
+                    unassigned[k++] = stop;
+                }
+            }
+            return new Solution(routes, unassigned, travel, ends, iterations);
+        }
+    }
 }
@@ -0,0 +1,269 @@
+package jeju.bear.plan.util.optimization;
+
+import java.util.Arrays;
+
+/**
+ * 하루 일정 방문 순서 최적화 (열린 경로 TSP).
+ * cost[i][j]는 i → j 이동 비용(초)이며 비대칭이어도 된다.
+ * - 지점 수가 EXACT_LIMIT 이하: Held–Karp 동적 계획법으로 최적해
+ * - 그보다 많으면: 최근접 이웃으로 초기해를 만든 뒤 시간 예산 안에서 2-opt / Or-opt 지역 탐색
+ * 시작/끝 지점을 고정할 수 있다.
+ */
+public final class RouteSolver {
+
+    public static final int EXACT_LIMIT = 12;
+
+    private RouteSolver() {
+    }
+
+    public static final class Result {
+        private final int[] order;
+        private final double cost;
+        private final boolean exact;
+
+        private Result(int[] order, double cost, boolean exact) {
+            this.order = order;
+            this.cost = cost;
+            this.exact = exact;
+        }
+
+        public int[] getOrder() {
+            return order.clone();
+        }
+
+        public double getCost() {
+            return cost;
+        }
+
+        public boolean isExact() {
+            return exact;
+        }
+    }
+
+    /**
+     * @param cost      이동 비용 행렬
+     * @param fixFirst  0번 지점을 출발지로 고정
+     * @param fixLast   마지막(n-1번) 지점을 도착지로 고정
+     * @param budgetNanos 휴리스틱 탐색 시간 예산
+     */
+    public static Result solve(double[][] cost, boolean fixFirst, boolean fixLast, long budgetNanos) {
+        int n = cost.length;
+        if (n <= 2) {
+            int[] order = new int[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+            return new Result(order, pathCost(cost, order), true);
+        }
+        if (n <= EXACT_LIMIT) {
+            return heldKarp(cost, fixFirst, fixLast);
+        }
+        return localSearch(cost, fixFirst, fixLast, System.nanoTime() + budgetNanos);
+    }
+
+    public static double pathCost(double[][] cost, int[] order) {
+        double total = 0;
+        for (int i = 0; i + 1 < order.length; i++) {
+            total += cost[order[i]][order[i + 1]];
+        }
+        return total;
+    }
+
+    // dp[mask][j]: mask 지점들을 방문하고 j에서 끝나는 최소 비용
+    private static Result heldKarp(double[][] cost, boolean fixFirst, boolean fixLast) {
+        int n = cost.length;
+        int last = n - 1;
+        int full = (1 << n) - 1;
+        double[] dp = new double[(1 << n) * n];
+        int[] parent = new int[(1 << n) * n];
+        Arrays.fill(dp, Double.POSITIVE_INFINITY);
+
+        for (int j = 0; j < n; j++) {
+            if ((fixFirst && j != 0) || (fixLast && j == last)) {
+                continue;
+            }
+            dp[(1 << j) * n + j] = 0;
+            parent[(1 << j) * n + j] = -1;
+        }
+
+        for (int mask = 1; mask <= full; mask++) {
+            for (int j = 0; j < n; j++) {
+                double base = dp[mask * n + j];
+                if ((mask & (1 << j)) == 0 || base == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                for (int k = 0; k < n; k++) {
+                    if ((mask & (1 << k)) != 0) {
+                        continue;
+                    }
+                    int next = mask | (1 << k);
+                    // 도착지 고정이면 마지막 지점은 모든 지점을 방문한 뒤에만
+                    if (fixLast && k == last && next != full) {
+                        continue;
+                    }
+                    double candidate = base + cost[j][k];
+                    if (candidate < dp[next * n + k]) {
+                        dp[next * n + k] = candidate;
+                        parent[next * n + k] = j;
+                    }
+                }
+            }
+        }
+
+        int end = -1;
+        double best = Double.POSITIVE_INFINITY;
+        for (int j = 0; j < n; j++) {
+            if (fixLast && j != last) {
+                continue;
+            }
+            if (dp[full * n + j] < best) {
+                best = dp[full * n + j];
+                end = j;
+            }
+        }
+
+        int[] order = new int[n];
+        int mask = full;
+        for (int i = n - 1, j = end; i >= 0; i--) {
+            order[i] = j;
+            int prev = parent[mask * n + j];
+            mask &= ~(1 << j);
+            j = prev;
+        }
+        return new Result(order, best, true);
+    }
+
+    private static Result localSearch(double[][] cost, boolean fixFirst, boolean fixLast, long deadline) {
+        int n = cost.length;
+        int[] best = null;
+        double bestCost = Double.POSITIVE_INFINITY;
+
+        // 출발지가 자유로우면 여러 출발점에서 최근접 이웃을 시도
+        int starts = fixFirst ? 1 : n - (fixLast ? 1 : 0);
+        for (int s = 0; s < starts; s++) {
+            int[] order = nearestNeighbour(cost, s, fixLast);
+            improve(cost, order, fixFirst, fixLast, deadline);
+            double c = pathCost(cost, order);
+            if (c < bestCost) {
+                bestCost = c;
+                best = order;
+            }
+            if (System.nanoTime() > deadline) {
+                break;
+            }
+        }
+        return new Result(best, bestCost, false);
+    }
+
+    private static int[] nearestNeighbour(double[][] cost, int start, boolean fixLast) {
+        int n = cost.length;
+        boolean[] visited = new boolean[n];
+        int[] order = new int[n];
+        order[0] = start;
+        visited[start] = true;
+        if (fixLast) {
+            visited[n - 1] = true;
+            order[n - 1] = n - 1;
+        }
+        int end = fixLast ? n - 1 : n;
+        for (int i = 1; i < end; i++) {
+            int from = order[i - 1];
+            int next = -1;
+            for (int k = 0; k < n; k++) {
+                if (!visited[k] && (next < 0 || cost[from][k] < cost[from][next])) {
+                    next = k;
+                }
+            }
+            order[i] = next;
+            visited[next] = true;
+        }
+        return order;
+    }
+
+    private static void improve(double[][] cost, int[] order, boolean fixFirst, boolean fixLast, long deadline) {
+        boolean improved = true;
+        while (improved && System.nanoTime() < deadline) {
+            improved = twoOpt(cost, order, fixFirst, fixLast) | orOpt(cost, order, fixFirst, fixLast);
+        }
+    }
+
+    // 구간 [i, k]를 뒤집어 비용이 줄면 적용
+    private static boolean twoOpt(double[][] cost, int[] order, boolean fixFirst, boolean fixLast) {
+        int n = order.length;
+        int from = fixFirst ? 1 : 0;
+        int to = fixLast ? n - 2 : n - 1;
+        boolean improved = false;
+        for (int i = from; i < to; i++) {
+            for (int k = i + 1; k <= to; k++) {
+                double before = edge(cost, order, i - 1, i) + edge(cost, order, k, k + 1);
+                double after = (i > 0 ? cost[order[i - 1]][order[k]] : 0)
+                        + (k + 1 < n ? cost[order[i]][order[k + 1]] : 0);
+                // 비대칭 비용을 고려해 구간 내부 방향 전환 비용 반영
+                for (int m = i; m < k; m++) {
+                    before += cost[order[m]][order[m + 1]];
+                    after += cost[order[m + 1]][order[m]];
+                }
+                if (after + 1e-9 < before) {
+                    reverse(order, i, k);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    // 길이 1~3 구간을 다른 위치로 옮겨 비용이 줄면 적용
+    private static boolean orOpt(double[][] cost, int[] order, boolean fixFirst, boolean fixLast) {
+        int n = order.length;
+        int from = fixFirst ? 1 : 0;
+        int to = fixLast ? n - 2 : n - 1;
+        boolean improved = false;
+        for (int len = 1; len <= 3; len++) {
+            for (int i = from; i + len - 1 <= to; i++) {
+                int j = i + len - 1;
+                double removeGain = edge(cost, order, i - 1, i) + edge(cost, order, j, j + 1)
+                        - (i > 0 && j + 1 < n ? cost[order[i - 1]][order[j + 1]] : 0);
+                // 구간을 p와 p+1 사이에 삽입 (p는 구간 밖의 위치)
+                for (int p = from - 1; p <= to; p++) {
+                    if (p >= i - 1 && p <= j) {
+                        continue;
+                    }
+                    double insertCost = (p >= 0 ? cost[order[p]][order[i]] : 0)
+                            + (p + 1 < n ? cost[order[j]][order[p + 1]] : 0)
+                            - (p >= 0 && p + 1 < n ? cost[order[p]][order[p + 1]] : 0);
+                    if (insertCost + 1e-9 < removeGain) {
+                        move(order, i, j, p);
+                        improved = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return improved;
+    }
+
+    private static double edge(double[][] cost, int[] order, int a, int b) {
+        return a >= 0 && b < order.length ? cost[order[a]][order[b]] : 0;
+    }
+
+    private static void reverse(int[] order, int i, int k) {
+        while (i < k) {
+            int tmp = order[i];
+            order[i++] = order[k];
+            order[k--] = tmp;
+        }
+    }
+
+    // order[i..j] 구간을 원래 위치 p 다음으로 이동
+    private static void move(int[] order, int i, int j, int p) {
+        int[] segment = Arrays.copyOfRange(order, i, j + 1);
+        int len = segment.length;
+        if (p < i) {
+            System.arraycopy(order, p + 1, order, p + 1 + len, i - p - 1);
+            System.arraycopy(segment, 0, order, p + 1, len);
+        } else {
+            System.arraycopy(order, j + 1, order, i, p - j);
+            System.arraycopy(segment, 0, order, p - len + 1, len);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package jeju.bear.plan.util.optimization;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이동 수단별 추정 파라미터.
+ * 직선거리 × 우회 계수 ÷ 평균 속도 + 고정 대기 시간으로 이동 시간을 추정한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TravelMode {
+    CAR(1.3, 40_000d / 3600, 0),
+    TRANSIT(1.4, 20_000d / 3600, 600),      // 정류장 이동·배차 대기 10분
+    BICYCLE(1.2, 15_000d / 3600, 0),
+    WALK(1.2, 4_500d / 3600, 0);
+
+    private final double detourFactor;
+    private final double metersPerSecond;
+    private final int overheadSeconds;
+
+    // Destination.transportation 자유 입력값을 이동 수단으로 해석 (없거나 모르면 자동차)
+    public static TravelMode from(String transportation) {
+        if (transportation == null || transportation.isBlank()) {
+            return CAR;
+        }
+        String value = transportation.trim().toLowerCase();
+        if (value.contains("도보") || value.contains("걷") || value.contains("walk")) {
+            return WALK;
+        }
+        if (value.contains("자전거") || value.contains("bike") || value.contains("bicycle")) {
+            return BICYCLE;
+        }
+        if (value.contains("버스") || value.contains("대중교통") || value.contains("transit") || value.contains("bus")) {
+            return TRANSIT;
+        }
+        return CAR;
+    }
+}
@@ -0,0 +1,21 @@
+package jeju.bear.plan.util.optimization;
+
+import jeju.bear.place.util.GeoUtils;
+
+/**
+ * 좌표만으로 추정하는 이동 시간.
+ * 직선거리에 이동 수단별 우회 계수를 곱하고 평균 속도로 나눈 뒤 고정 대기 시간을 더한다.
+ */
+public final class TravelTimeEstimator {
+
+    private TravelTimeEstimator() {
+    }
+
+    public static double seconds(GeoPoint a, GeoPoint b, TravelMode mode) {
+        double meters = GeoUtils.haversineMeters(a.latitude(), a.longitude(), b.latitude(), b.longitude());
+        if (meters == 0) {
+            return 0;
+        }
+        return meters * mode.getDetourFactor() / mode.getMetersPerSecond() + mode.getOverheadSeconds();
+    }
+}
@@ -12,4 +12,6 @@ public class ItemDto {
     private String category;  // 관광지/맛집/숙소/카페
     private String placeId;   // 가상 항목(체크인 등)은 null 가능
     private String slot;      // MORNING | LUNCH | AFTERNOON | DINNER | LODGING
+    private String address;   // 장소 카탈로그에 있는 장소만
+    private String imageUrl;  // 장소 카탈로그에 있는 장소만
 }
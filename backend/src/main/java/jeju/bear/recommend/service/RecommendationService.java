@@ -1,5 +1,6 @@
 package jeju.bear.recommend.service;
 
+import jeju.bear.place.service.PlaceLoader;
 import jeju.bear.recommend.core.VectorStore;
 import jeju.bear.recommend.dto.*;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,7 @@ import java.util.stream.Collectors;
 public class RecommendationService {
 
     private final VectorStore store;
+    private final PlaceLoader placeLoader;
 
     private List<PlaceSummaryDto> topK(String category, float[] q, int k) {
         var pool = store.pool(category);
@@ -161,6 +163,16 @@ public class RecommendationService {
                     .build());
         }
 
+        // 카탈로그에 있는 장소는 주소/이미지를 한 번에 채움
+        List<ItemDto> allItems = options.stream()
+                .flatMap(option -> option.getDays().stream())
+                .flatMap(day -> day.getItems().stream())
+                .toList();
+        placeLoader.enrich(allItems, ItemDto::getPlaceId, (item, place) -> {
+            item.setAddress(place.getAddress());
+            item.setImageUrl(place.getImageUrl());
+        });
+
         return RecommendResponse.builder()
                 .startDate(req.getStartDate())
                 .endDate(req.getEndDate())